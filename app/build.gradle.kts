@@ -1,7 +1,46 @@
+import javax.inject.Inject
+
 plugins {
     alias(libs.plugins.android.application)
 }
 
+/**
+ * Solves the win tables (wintable_<size>.bin) into a directory of generated
+ * assets. Solving takes minutes, so the task is keyed only on the engine
+ * sources the solver reads, not the whole engine, and its output goes to the
+ * build cache: other engine edits and clean builds reuse the last tables.
+ */
+@CacheableTask
+abstract class SolveWinTables : DefaultTask() {
+
+    @get:InputFiles
+    @get:PathSensitive(PathSensitivity.NAME_ONLY)
+    abstract val solverSources: ConfigurableFileCollection
+
+    // The compiled engine; tracked through solverSources instead
+    @get:Internal
+    abstract val solverClasspath: ConfigurableFileCollection
+
+    @get:Input
+    abstract val sizes: ListProperty<Int>
+
+    @get:OutputDirectory
+    abstract val outputDir: DirectoryProperty
+
+    @get:Inject
+    abstract val execOperations: ExecOperations
+
+    @TaskAction
+    fun solve() {
+        execOperations.javaexec {
+            classpath(solverClasspath)
+            mainClass.set("com.example.canoga_android_elijahc.model.WinTableSolver")
+            maxHeapSize = "1g"
+            args(listOf(outputDir.get().asFile.absolutePath) + sizes.get().map { it.toString() })
+        }
+    }
+}
+
 android {
     namespace = "com.example.canoga_android_elijahc"
     compileSdk = 35
@@ -34,8 +73,35 @@ android {
     }
 }
 
+val winTableSolver by configurations.creating {
+    isCanBeConsumed = false
+    attributes {
+        attribute(Usage.USAGE_ATTRIBUTE, objects.named(Usage.JAVA_RUNTIME))
+    }
+}
+
+val generateWinTables by tasks.registering(SolveWinTables::class) {
+    group = "canoga"
+    description = "Solves the win tables into generated app assets."
+    val model = rootProject.layout.projectDirectory
+        .dir("engine/src/main/java/com/example/canoga_android_elijahc/model")
+    solverSources.from(listOf("WinTableSolver", "WinTable", "MoveTable", "Rules").map { model.file("$it.java") })
+    solverClasspath.from(winTableSolver)
+    dependsOn(winTableSolver)
+    sizes.set(listOf(9, 10, 11))
+    outputDir.set(layout.buildDirectory.dir("generated/winTables"))
+}
+
+androidComponents {
+    onVariants { variant ->
+        variant.sources.assets?.addGeneratedSourceDirectory(generateWinTables, SolveWinTables::outputDir)
+    }
+}
+
 dependencies {
 
+    implementation(project(":engine"))
+    winTableSolver(project(":engine"))
     implementation(libs.appcompat)
     implementation(libs.material)
     implementation(libs.constraintlayout)
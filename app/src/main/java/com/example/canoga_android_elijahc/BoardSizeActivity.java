@@ -10,12 +10,15 @@ package com.example.canoga_android_elijahc;
 
 import android.content.Intent;
 import android.os.Bundle;
+import android.widget.RadioGroup;
 import androidx.appcompat.app.AppCompatActivity;
 
+import com.example.canoga_android_elijahc.model.ComputerStrategy;
+
 
 /**
  * Activity that prompts the user to select a board size (9,10,11)
- * before starting a new Canoga game.
+ * and a computer strategy before starting a new Canoga game.
  */
 public class BoardSizeActivity extends AppCompatActivity {
 
@@ -25,6 +28,7 @@ public class BoardSizeActivity extends AppCompatActivity {
      * <p><strong>Pseudocode:</strong>
      * <ol>
      *   <li>Call super.onCreate and set content view.</li>
+     *   <li>Bind the strategy radio group (Classic is checked by default).</li>
      *   <li>Attach click listeners for:
      *     <ul>
      *       <li>btnSize9   → launchGameActivity(9)</li>
@@ -41,6 +45,7 @@ public class BoardSizeActivity extends AppCompatActivity {
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_board_size);
+        rgStrategy = findViewById(R.id.rgStrategy);
 
         findViewById(R.id.btnSize9).setOnClickListener(v -> launchGameActivity(9));
         findViewById(R.id.btnSize10).setOnClickListener(v -> launchGameActivity(10));
@@ -50,13 +55,30 @@ public class BoardSizeActivity extends AppCompatActivity {
 
 
     /**
-     * Starts GameActivity with the chosen board size.
+     * Starts GameActivity with the chosen board size and strategy.
      *
      * @param boardSize number of squares per row (9,10,11)
      */
     private void launchGameActivity(int boardSize) {
         Intent intent = new Intent(BoardSizeActivity.this, GameActivity.class);
         intent.putExtra("boardSize", boardSize);
+        intent.putExtra("strategy", selectedLevel().name());
         startActivity(intent);
     }
+
+
+    /** @return the strategy level matching the checked radio button */
+    private ComputerStrategy.Level selectedLevel() {
+        int checked = rgStrategy.getCheckedRadioButtonId();
+        if (checked == R.id.rbLookahead)
+            return ComputerStrategy.Level.LOOKAHEAD;
+        if (checked == R.id.rbMonteCarlo)
+            return ComputerStrategy.Level.MONTE_CARLO;
+        if (checked == R.id.rbPerfect)
+            return ComputerStrategy.Level.PERFECT;
+        return ComputerStrategy.Level.CLASSIC;
+    }
+
+
+    private RadioGroup rgStrategy;
 }
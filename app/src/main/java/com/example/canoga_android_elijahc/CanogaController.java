@@ -9,11 +9,19 @@
 package com.example.canoga_android_elijahc;
 
 import com.example.canoga_android_elijahc.model.CanogaModel;
+import com.example.canoga_android_elijahc.model.ComputerStrategy;
+import com.example.canoga_android_elijahc.model.GameJournal;
 import com.example.canoga_android_elijahc.model.Log;
+import com.example.canoga_android_elijahc.model.RingBufferLog;
+import com.example.canoga_android_elijahc.model.WinTables;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 
 /**
@@ -35,6 +43,7 @@ public class CanogaController implements Log {
         NUM_DICE,
         ROLL_TYPE,
         WAIT_FOR_INPUT,
+        COMPUTER_MOVE,
         MOVE_TYPE,
         MOVE_SELECTION,
         ROUND_END,
@@ -58,11 +67,28 @@ public class CanogaController implements Log {
     }
 
 
+    /**
+     * Creates the controller with a chosen computer strategy.
+     * @param boardSize initial board size (9,10,11)
+     * @param view      UI implementation to drive
+     * @param strategy  the computer's decision logic
+     */
+    public CanogaController(int boardSize, CanogaView view, ComputerStrategy strategy) {
+        this.view = view;
+        model = new CanogaModel(boardSize, this, strategy);
+    }
+
+
 
     // ──────────────────────────────────────────────────────────────
     // Public Selectors
     // ──────────────────────────────────────────────────────────────
 
+    /** @return the queue of log messages waiting for the view */
+    public RingBufferLog getLogBuffer() {
+        return logBuffer;
+    }
+
     /** @return the most recently recorded user dice sum */
     public int getUserDiceSum() {
         return this.userDiceSum;
@@ -123,7 +149,7 @@ public class CanogaController implements Log {
         {
             return -1;
         }
-        return model.getBoard().getHumanSquares().get(i);
+        return model.getBoard().getHumanSquareAtIndex(i);
     }
 
 
@@ -137,7 +163,7 @@ public class CanogaController implements Log {
         {
             return -1;
         }
-        return model.getBoard().getComputerSquares().get(i);
+        return model.getBoard().getComputerSquareAtIndex(i);
     }
 
 
@@ -166,6 +192,17 @@ public class CanogaController implements Log {
     }
 
 
+    /**
+     * Supplies solved win tables for the help methods. Each round's table
+     * is preloaded on the worker thread as the round starts or resumes.
+     * @param tables the shared tables, e.g. loaded from app assets
+     */
+    public void setWinTables(WinTables tables) {
+        winTables = tables;
+        model.setWinTables(tables);
+    }
+
+
 
 
     // ──────────────────────────────────────────────────────────────
@@ -195,6 +232,8 @@ public class CanogaController implements Log {
                     (model.getHuman().getIsFirst() ? "Human" : "Computer") +
                     "\nNext Player: " + (model.getHuman().getIsNext() ? "Human" : "Computer"));
             currentState = GameState.BEGIN_TURN;
+            preloadWinTable();
+            startJournal(new GameJournal.State(model.getSaveData(), roundNum, model.getBoard().getTurn()));
             return model.getBoard().getBoardSize();
         }
         else {
@@ -204,6 +243,79 @@ public class CanogaController implements Log {
     }
 
 
+    /**
+     * Resumes the game autosaved in the journal directory, e.g. after the
+     * app was killed mid-game, and keeps autosaving to it.
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>Rebuild the latest state with GameJournal.restore.</li>
+     *   <li>Apply it, with its turn counter, via model.loadSaveData.</li>
+     *   <li>If the round was over → ROUND_END, to start the next round.</li>
+     *   <li>Else if the human had rolled → MOVE_TYPE with that roll.</li>
+     *   <li>Else BEGIN_TURN; a computer roll is kept for its turn to use first.</li>
+     *   <li>Journal from the restored state; return board size.</li>
+     *   <li>On failure log it and return 0.</li>
+     * </ol>
+     * @return board size on success, 0 on failure
+     */
+    public int restoreJournal() {
+        logMessage("Resuming autosaved game.");
+        try {
+            GameJournal.State state = GameJournal.restore(journalDir);
+            if (model.loadSaveData(state.getSave(), state.getTurn())) {
+                roundNum = Math.max(1, state.getRound());
+                if (state.isRoundOver()) {
+                    logMessage("\nResuming Game! Round " + roundNum + " is over." +
+                            "\nWould you like to play another round?");
+                    currentState = GameState.ROUND_END;
+                } else if (state.hasRoll() && state.isRollHuman()) {
+                    userNumDice = state.getRollDice();
+                    userDiceSum = state.getRollTotal();
+                    logMessage("\nResuming Game! You rolled a total of " + userDiceSum +
+                            ".\nWould you like to cover or uncover?");
+                    currentState = GameState.MOVE_TYPE;
+                } else {
+                    if (state.hasRoll())
+                        resumedComputerRoll = state.getRollTotal();
+                    logMessage("\nResuming Game! \nNext Player: " +
+                            (model.getHuman().getIsNext() ? "Human" : "Computer"));
+                    currentState = GameState.BEGIN_TURN;
+                }
+                preloadWinTable();
+                startJournal(state);
+                return model.getBoard().getBoardSize();
+            }
+        } catch (IOException e) {
+            logMessage(Log.Level.ERROR, "\nError: " + e.getMessage());
+        }
+        logMessage("\nAutosaved game was unable to load correctly, please try again.");
+        return 0;
+    }
+
+
+    /**
+     * Sets where to autosave. Journaling starts once a round is under way:
+     * when the first round starts, or when a game is resumed.
+     * @param dir directory to keep the journal in
+     */
+    public void setJournalDir(File dir) {
+        journalDir = dir;
+    }
+
+
+    /**
+     * Stops autosaving and closes the journal; its files are kept so the
+     * game can be restored.
+     */
+    public void stopJournal() {
+        if (journal == null)
+            return;
+        model.setEventListener(null);
+        journal.close();
+        journal = null;
+    }
+
+
     /**
      * Persists current model state to storage.
      * @param absolutePath full path to write file
@@ -225,6 +337,7 @@ public class CanogaController implements Log {
      *   <li><b>NUM_DICE</b> – (Human only) Choose to roll 1 or 2 dice when allowed.</li>
      *   <li><b>ROLL_TYPE</b> – Random vs. manual roll path for human or computer.</li>
      *   <li><b>WAIT_FOR_INPUT</b> – Wait for manual roll inputs, then branch.</li>
+     *   <li><b>COMPUTER_MOVE</b> – The computer's turn is being searched off the UI thread; presses are ignored.</li>
      *   <li><b>MOVE_TYPE</b> – (Human only) Choose cover vs. uncover after rolling.</li>
      *   <li><b>MOVE_SELECTION</b> – (Human only) Select and submit the exact squares to cover/uncover.</li>
      *   <li><b>ROUND_END</b> – Announce winner, update scores, ask for new round or end.</li>
@@ -243,7 +356,9 @@ public class CanogaController implements Log {
     public void onDynamicButtonClick(int buttonNumber) {
         switch (currentState) {
             case START_GAME:
+                startJournal(new GameJournal.State(model.getSaveData(), roundNum, 0));
                 model.startGame(roundNum);
+                preloadWinTable();
                 view.updateBoardDisplay();
                 logMessage("\n=======Round " + roundNum + "=======\n");
                 currentState = GameState.BEGIN_TURN;
@@ -310,16 +425,7 @@ public class CanogaController implements Log {
                 } else { // Computer's turn
                     if (buttonNumber == 1) {
                         //Computer Random
-                        if (model.computerMove(null)) {
-                            view.updateBoardDisplay();
-                            logMessage("\n===Human's turn===");
-                            currentState = GameState.BEGIN_TURN;
-                        } else {
-                            winner = "Computer";
-                            view.updateBoardDisplay();
-                            model.roundEnd(winner, roundNum);
-                            currentState = GameState.ROUND_END;
-                        }
+                        playComputerTurn(null);
                     } else {
                         //Computer Manual
                         view.promptForManualRollCount();
@@ -339,16 +445,7 @@ public class CanogaController implements Log {
                     }
                     else {
                         //Computer Manual
-                        if (model.computerMove(userManualRolls)) {
-                            view.updateBoardDisplay();
-                            logMessage("\n===Human's turn===");
-                            currentState = GameState.BEGIN_TURN;
-                        } else {
-                            winner = "Computer";
-                            view.updateBoardDisplay();
-                            model.roundEnd(winner, roundNum);
-                            currentState = GameState.ROUND_END;
-                        }
+                        playComputerTurn(userManualRolls);
                     }
 
                 }
@@ -444,11 +541,27 @@ public class CanogaController implements Log {
                 currentState = GameState.START_GAME;
 
                 break;
+
+            case COMPUTER_MOVE:
+                // the computer is still thinking
+                break;
         }
         view.updateUI();
     }
 
 
+    /**
+     * Stops the computer's worker thread, e.g. when the game screen
+     * closes; a turn still being searched is cancelled and its result
+     * dropped.
+     */
+    public void shutdown() {
+        closed = true;
+        model.getComputer().getStrategy().cancel();
+        computerThread.shutdownNow();
+    }
+
+
     /**
      * Handles taps on human board squares during selection.
      * @param originalSquareValue 1‑based square identifier
@@ -518,12 +631,113 @@ public class CanogaController implements Log {
 
 
     /**
-     * Implementation of the Log interface, forwarding messages
-     * to the view’s display.
+     * Loads the win table for the board size in play on the worker thread,
+     * so neither the UI nor the computer's first move waits on reading it.
+     */
+    private void preloadWinTable() {
+        if (winTables == null)
+            return;
+        int size = model.getBoard().getBoardSize();
+        computerThread.execute(() -> winTables.forSize(size));
+    }
+
+
+    /**
+     * Starts autosaving from the given state, unless a journal is already
+     * running or there is nowhere to keep one. Its errors are logged on
+     * the UI thread, like every other message.
+     * @param start the game as it stands now
+     */
+    private void startJournal(GameJournal.State start) {
+        if (journal != null || journalDir == null)
+            return;
+        journal = new GameJournal(journalDir, start,
+                message -> view.postToUi(() -> logMessage(Log.Level.ERROR, message)));
+        model.setEventListener(journal);
+    }
+
+
+    /**
+     * Plays the computer's turn on the worker thread, so searching
+     * strategies do not freeze the UI; their messages reach the log as
+     * they are made through the ring-buffer log.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>Put a roll resumed from the autosave ahead of the manual rolls.</li>
+     *   <li>Set state to COMPUTER_MOVE so presses are ignored meanwhile.</li>
+     *   <li>On the worker, run model.computerMove with those rolls.</li>
+     *   <li>Post finishComputerTurn with its result back to the UI thread;
+     *       an exception is rethrown there instead.</li>
+     * </ol>
+     *
+     * @param manualRolls manual dice sums to use first, or null for random rolls
+     */
+    private void playComputerTurn(ArrayList<Integer> manualRolls) {
+        if (resumedComputerRoll != 0) {
+            ArrayList<Integer> rolls = new ArrayList<>();
+            rolls.add(resumedComputerRoll);
+            if (manualRolls != null)
+                rolls.addAll(manualRolls);
+            manualRolls = rolls;
+            resumedComputerRoll = 0;
+        }
+        ArrayList<Integer> turnRolls = manualRolls;
+        currentState = GameState.COMPUTER_MOVE;
+        computerThread.execute(() -> {
+            try {
+                boolean humanNext = model.computerMove(turnRolls);
+                if (!closed)
+                    view.postToUi(() -> finishComputerTurn(humanNext));
+            } catch (RuntimeException e) {
+                view.postToUi(() -> {
+                    throw e;
+                });
+            }
+        });
+    }
+
+
+    /**
+     * Back on the UI thread after the computer's turn: shows the board and
+     * moves on to the human's turn or the end of the round.
+     * @param humanNext true if the human moves next; false if the computer won
+     */
+    private void finishComputerTurn(boolean humanNext) {
+        if (closed)
+            return;
+        view.updateBoardDisplay();
+        if (humanNext) {
+            logMessage("\n===Human's turn===");
+            currentState = GameState.BEGIN_TURN;
+        } else {
+            winner = "Computer";
+            model.roundEnd(winner, roundNum);
+            currentState = GameState.ROUND_END;
+        }
+        view.updateUI();
+    }
+
+
+    /**
+     * Implementation of the Log interface: queues the message for the view
+     * and asks it to drain the queue, without waiting on the UI.
      * @param message the text to append to the UI log
      */
     public void logMessage(String message) {
-        view.displayMessage(message);
+        logBuffer.logMessage(message);
+        view.scheduleLogDrain();
+    }
+
+
+    /**
+     * The game log shows INFO and above; DEBUG detail is left out.
+     * @param level a message level
+     * @return true if messages of that level reach the view
+     */
+    @Override
+    public boolean isEnabled(Log.Level level) {
+        return level.compareTo(Log.Level.INFO) >= 0;
     }
 
 
@@ -531,6 +745,9 @@ public class CanogaController implements Log {
     // Private Members
     // ──────────────────────────────────────────────────────────────
 
+    private static final int LOG_CAPACITY = 4096;
+
+    private final RingBufferLog logBuffer = new RingBufferLog(LOG_CAPACITY);
     private GameState currentState = GameState.START_GAME;
     private int roundNum = 1;
     private int userNumDice = 0;
@@ -546,6 +763,17 @@ public class CanogaController implements Log {
     private String winner = "";
 
     private CanogaModel model;
+
+    // Plays the computer's turns; the model is only touched there while
+    // currentState is COMPUTER_MOVE
+    private final ExecutorService computerThread = Executors.newSingleThreadExecutor();
+    private volatile boolean closed = false;
+    private WinTables winTables;
+    private File journalDir;
+    private GameJournal journal;
+
+    // A roll the computer made before the app was killed, used first in its turn
+    private int resumedComputerRoll = 0;
     private CanogaView view; // View interface implemented by GameActivity
 
 }
@@ -36,6 +36,22 @@ public interface CanogaView {
     void displayMessage(String message);
 
 
+    /**
+     * Asks the view to show the controller's queued log messages soon.
+     * Called by the logging thread, so it must return at once.
+     */
+    void scheduleLogDrain();
+
+
+    /**
+     * Runs an action on the UI thread, e.g. to finish a computer turn that
+     * was played on a worker thread. May be called from any thread.
+     *
+     * @param action the work to run
+     */
+    void postToUi(Runnable action);
+
+
     /**
      * Navigates to the tournament results screen, passing final scores.
      */
@@ -12,21 +12,30 @@ import android.content.Intent;
 import android.os.Bundle;
 import android.view.View;
 import android.widget.AdapterView;
-import android.widget.ArrayAdapter;
 import android.widget.ListView;
 import androidx.appcompat.app.AppCompatActivity;
 
+import com.example.canoga_android_elijahc.model.SaveIndex;
+
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 
 /**
- * Activity that displays a list of saved game files and allows
- * the user to select one to resume, or go back to the main menu.
+ * Activity that displays a list of saved game files, each with a preview
+ * of the game, and allows the user to select one to resume, or go back
+ * to the main menu.
+ *
+ * <p>A background thread reads the {@link SaveIndex} cache and shows the
+ * list as last indexed, then indexes new and changed files and updates
+ * it; nothing is read from disk on the UI thread.
  */
 public class FileLoadingActivity extends AppCompatActivity {
 
@@ -36,16 +45,14 @@ public class FileLoadingActivity extends AppCompatActivity {
 
 
     /**
-     * Sets up the UI, copies default asset files if needed,
-     * populates the file list, and attaches click handlers.
+     * Sets up the UI, starts loading the cached file list, and attaches
+     * click handlers. The index is refreshed in {@link #onResume}.
      *
      * <p><strong>Pseudocode:</strong>
      * <ol>
      *   <li>Call super.onCreate and set the content view.</li>
-     *   <li>Initialize the ListView reference.</li>
-     *   <li>Copy default .txt files from assets to internal storage.</li>
-     *   <li>Load the list of .txt files into fileList.</li>
-     *   <li>Create and set an ArrayAdapter for the ListView.</li>
+     *   <li>Initialize the ListView reference and set an empty SaveListAdapter.</li>
+     *   <li>On the indexer thread, open the save index and show its cached entries.</li>
      *   <li>Attach an OnItemClickListener to launch a game with the selected file.</li>
      *   <li>Attach a click listener to the Back button to finish the activity.</li>
      * </ol>
@@ -60,20 +67,20 @@ public class FileLoadingActivity extends AppCompatActivity {
         // Bind ListView from layout
         listView = findViewById(R.id.listViewFiles);
 
-        // Ensure the default ser1-ser5 files exist in internal storage
-        copyDefaultFilesFromAssets();
-
-        // Load files from internal storage into the list
-        loadFileList();
-
-        // Create an adapter to show filenames in the ListView
-        ArrayAdapter<String> adapter = new ArrayAdapter<>(this, android.R.layout.simple_list_item_1, fileList);
+        // Show the saves as last indexed, then bring the index up to date
+        adapter = new SaveListAdapter(new ArrayList<>());
         listView.setAdapter(adapter);
+        File filesDir = getFilesDir();
+        File cacheFile = new File(getCacheDir(), INDEX_FILE);
+        indexer.execute(() -> {
+            saveIndex = new SaveIndex(filesDir, cacheFile);
+            showEntries(saveIndex.getEntries());
+        });
 
 
-        // Handle clicks on any filename
+        // Handle clicks on any file
         listView.setOnItemClickListener((AdapterView<?> parent, View view, int position, long id) -> {
-            String filename = fileList.get(position);
+            String filename = adapter.getItem(position).getName();
             launchGameActivityWithFile(filename);
         });
 
@@ -125,33 +132,53 @@ public class FileLoadingActivity extends AppCompatActivity {
 
 
     /**
-     * Scans the app’s internal storage directory for .txt files
-     * and populates fileList with their names.
+     * Brings the index up to date in the background, each time the list
+     * is shown, so saves made since then appear.
      *
      * <p><strong>Pseudocode:</strong>
      * <ol>
-     *   <li>Initialize fileList as new ArrayList.</li>
-     *   <li>List all files in getFilesDir().</li>
-     *   <li>If filename ends with ".txt", add to fileList.</li>
+     *   <li>On the indexer thread, copy default .txt files from assets.</li>
+     *   <li>Refresh the index, posting each update to the adapter on the UI thread.</li>
      * </ol>
      */
-    private void loadFileList() {
-        fileList = new ArrayList<>();
-        File dir = getFilesDir();
-        File[] files = dir.listFiles();
-        if (files != null) {
-            for (File file : files) {
-                if (file.getName().endsWith(".txt")) {
-                    fileList.add(file.getName());
-                }
-            }
-        }
+    @Override
+    protected void onResume() {
+        super.onResume();
+        indexer.execute(() -> {
+            // Ensure the default ser1-ser5 files exist in internal storage
+            copyDefaultFilesFromAssets();
+            saveIndex.refresh(this::showEntries);
+        });
+    }
+
+
+    /**
+     * Shows a snapshot of the index, unless the activity has been
+     * destroyed by the time the UI thread gets to it. Safe to call from
+     * any thread.
+     * @param entries the saves to list
+     */
+    private void showEntries(List<SaveIndex.Entry> entries) {
+        runOnUiThread(() -> {
+            if (!isDestroyed())
+                adapter.setEntries(entries);
+        });
+    }
+
+
+    /**
+     * Stops indexing; files indexed so far are kept for next time.
+     */
+    @Override
+    protected void onDestroy() {
+        indexer.shutdownNow();
+        super.onDestroy();
     }
 
 
     /**
      * Starts GameActivity, passing the selected filename as an extra.
-     * @param filename the .txt file to load
+     * @param filename the save file to load
      */
     private void launchGameActivityWithFile(String filename) {
         Intent intent = new Intent(FileLoadingActivity.this, GameActivity.class);
@@ -164,9 +191,17 @@ public class FileLoadingActivity extends AppCompatActivity {
     // Private Members
     // ──────────────────────────────────────────────────────────────
 
+    // Save index cache file, in the app's cache directory
+    private static final String INDEX_FILE = "save_index.dat";
+
     // UI component for listing files
     private ListView listView;
 
-    // Data source for the ListView
-    private ArrayList<String> fileList;
+    // Data source for the ListView: the indexed saves (touched only on the
+    // indexer thread), and their rows
+    private SaveIndex saveIndex;
+    private SaveListAdapter adapter;
+
+    // Runs the asset copy and index refresh off the UI thread
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor();
 }
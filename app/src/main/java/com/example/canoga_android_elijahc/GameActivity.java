@@ -9,18 +9,28 @@
 package com.example.canoga_android_elijahc;
 
 import android.os.Bundle;
+import android.view.Choreographer;
 import android.view.View;
 import android.widget.Button;
 import android.widget.GridLayout;
-import android.widget.ScrollView;
+import android.widget.ListView;
 import android.widget.TextView;
 import androidx.appcompat.app.AppCompatActivity;
+import android.content.Context;
 import android.content.Intent;
 import android.content.res.Configuration;
 
+import com.example.canoga_android_elijahc.model.ComputerStrategy;
+import com.example.canoga_android_elijahc.model.GameJournal;
+import com.example.canoga_android_elijahc.model.LogStore;
+import com.example.canoga_android_elijahc.model.RingBufferLog;
+import com.example.canoga_android_elijahc.model.SaveData;
+import com.example.canoga_android_elijahc.model.WinTables;
 
+import java.io.File;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
@@ -40,7 +50,8 @@ public class GameActivity extends AppCompatActivity implements CanogaView {
      * <ol>
      *   <li>Call super.onCreate and set content view.</li>
      *   <li>Bind all UI components (TextViews, Buttons, GridLayouts).</li>
-     *   <li>Create controller with boardSize from intent.</li>
+     *   <li>Create the log store, capped at the "logMemoryCap" extra, and show it in lvGameLog.</li>
+     *   <li>Create controller with boardSize and strategy level from intent, sharing the win tables in assets.</li>
      *   <li>If loadFile extra present, resume game; else start new game.</li>
      *   <li>Wire dynamic buttons and save/quit/log buttons.</li>
      *   <li>Call setupBoard, init originalSquares, update displays.</li>
@@ -56,8 +67,7 @@ public class GameActivity extends AppCompatActivity implements CanogaView {
         // Bind UI components
         tvHeader = findViewById(R.id.tvHeader);
         tvScore = findViewById(R.id.tvScore);
-        tvGameLog = findViewById(R.id.tvGameLog);
-        svGameLog = findViewById(R.id.svGameLog);
+        lvGameLog = findViewById(R.id.lvGameLog);
         glComputerBoard = findViewById(R.id.glComputerBoard);
         glHumanBoard = findViewById(R.id.glHumanBoard);
         btnDynamic1 = findViewById(R.id.dynamicButton1);
@@ -66,20 +76,37 @@ public class GameActivity extends AppCompatActivity implements CanogaView {
         btnSave = findViewById(R.id.btnSave);
         btnQuit = findViewById(R.id.btnQuit);
         btnShowLog = findViewById(R.id.btnShowLog);
+        choreographer = Choreographer.getInstance();
 
-        // Determine board size and initialize controller
+        // Game log: written to a file in app storage, newest entries also in memory
+        int logMemoryCap = getIntent().getIntExtra("logMemoryCap", DEFAULT_LOG_MEMORY_CAP);
+        logStore = new LogStore(new File(getFilesDir(), LOG_FILE), logMemoryCap);
+        logStore.add("Game Log:");
+        lvGameLog.setAdapter(new LogListAdapter(logStore));
+        shownLogSize = logStore.size();
+
+        // Determine board size and computer strategy, and initialize controller
         boardSize = getIntent().getIntExtra("boardSize", DEFAULT_BOARD_SIZE);
-        controller = new CanogaController(boardSize, this);
+        ComputerStrategy.Level level = ComputerStrategy.Level.fromName(getIntent().getStringExtra("strategy"));
+        WinTables winTables = new WinTables(name -> getAssets().open(name));
+        controller = new CanogaController(boardSize, this, level.create(winTables));
+        controller.setWinTables(winTables);
 
 
-        // Resume or start new game
+        // Resume or start new game; autosaving starts once a round is under
+        // way, so the last autosave stays until then
+        controller.setJournalDir(journalDir(this));
         String loadFile = getIntent().getStringExtra("loadFile");
-        if (loadFile != null && !loadFile.isEmpty()) {
+        if (getIntent().getBooleanExtra("restoreJournal", false)) {
+            boardSize = controller.restoreJournal();
+        } else if (loadFile != null && !loadFile.isEmpty()) {
             String absolutePath = getFilesDir().getAbsolutePath() + "/" + loadFile;
             boardSize = controller.resumeGame(loadFile, absolutePath);
         } else {
             displayMessage("Starting new game!");
         }
+        if (boardSize == 0)
+            boardSize = DEFAULT_BOARD_SIZE;
 
         // Dynamic button callbacks
         btnDynamic1.setOnClickListener(v -> controller.onDynamicButtonClick(1));
@@ -87,7 +114,7 @@ public class GameActivity extends AppCompatActivity implements CanogaView {
         btnDynamic3.setOnClickListener(v -> controller.onDynamicButtonClick(3));
 
         // Save, quit, and show log buttons
-        btnSave.setOnClickListener(v -> controller.saveGame(getFilesDir().getAbsolutePath() + "/game.txt"));
+        btnSave.setOnClickListener(v -> controller.saveGame(getFilesDir().getAbsolutePath() + "/" + SAVE_FILE));
         btnQuit.setOnClickListener(v -> goToTournamentResults());
         btnShowLog.setOnClickListener(v -> showGameLogDialog());
 
@@ -210,40 +237,108 @@ public class GameActivity extends AppCompatActivity implements CanogaView {
 
 
     /**
-     * Appends a message to the in‑game log TextView and scrolls the ScrollView to the bottom.
+     * Queues a message for the in‑game log; it is shown on the next frame.
      *
      * <p><strong>Pseudocode:</strong>
      * <ol>
-     *     <li>Append a newline plus the message to tvGameLog.</li>
-     *     <li>Smooth-scroll svGameLog so the newest text is visible.</li>
+     *     <li>Move queued controller messages into the log store first so order is kept.</li>
+     *     <li>Add the message to the log store.</li>
+     *     <li>Schedule a frame flush.</li>
      * </ol>
      *
      * @param message text to display in the game log
      */
     @Override
     public void displayMessage(String message) {
-        tvGameLog.append("\n" + message);
-        svGameLog.post(() -> svGameLog.smoothScrollTo(0, tvGameLog.getBottom()));
+        drainQueue();
+        logStore.add(message);
+        scheduleLogDrain();
+    }
+
+
+    /**
+     * Registers one frame callback to flush the log, unless one is already
+     * waiting, so every message queued before the next frame costs a single
+     * list update and a single scroll. Safe to call from any thread.
+     */
+    @Override
+    public void scheduleLogDrain() {
+        if (drainScheduled.compareAndSet(false, true))
+            choreographer.postFrameCallback(logFrameCallback);
+    }
+
+
+    /**
+     * Writes buffered log entries out to the log file while the game goes
+     * to the background, where the process may be killed without
+     * onDestroy; frames only update the list.
+     */
+    @Override
+    protected void onPause() {
+        super.onPause();
+        logStore.flush();
+    }
+
+
+    /**
+     * Drops the pending frame callback, stops the computer's worker, and
+     * closes the log file and the autosave journal, so none outlives the
+     * activity. The log file is kept
+     * for the results screen, and the journal for "Continue Game".
+     */
+    @Override
+    protected void onDestroy() {
+        choreographer.removeFrameCallback(logFrameCallback);
+        logStore.close();
+        controller.shutdown();
+        controller.stopJournal();
+        super.onDestroy();
     }
 
 
     /**
-     * Navigates to the TournamentResultsActivity, passing along
-     * the final human/computer scores and the full game log.
+     * @param context any context of this app
+     * @return directory the running game is autosaved to
+     */
+    static File journalDir(Context context) {
+        return new File(context.getFilesDir(), JOURNAL_DIR);
+    }
+
+
+    /**
+     * @param action the work to run on the UI thread
+     */
+    @Override
+    public void postToUi(Runnable action) {
+        runOnUiThread(action);
+    }
+
+
+    /**
+     * Navigates to the TournamentResultsActivity, passing along the final
+     * human/computer scores and the path of the game log file. The log
+     * itself is already on disk, so the handoff costs the same however
+     * long it is.
      *
      * <p><strong>Pseudocode:</strong>
      * <ol>
+     *   <li>Flush the log so the file holds every entry.</li>
+     *   <li>Stop autosaving and delete the journal; the tournament is over.</li>
      *   <li>Create an Intent for TournamentResultsActivity.</li>
-     *   <li>Put extras: "humanScore", "computerScore", "gameLog".</li>
+     *   <li>Put extras: "humanScore", "computerScore", "gameLogFile".</li>
      *   <li>Start the new Activity and call finish() on this one.</li>
      * </ol>
      */
     @Override
     public void goToTournamentResults() {
+        flushLog();
+        logStore.flush();
+        controller.stopJournal();
+        GameJournal.delete(journalDir(this));
         Intent intent = new Intent(GameActivity.this, TournamentResultsActivity.class);
         intent.putExtra("humanScore", controller.getHumanScore());
         intent.putExtra("computerScore", controller.getComputerScore());
-        intent.putExtra("gameLog", tvGameLog.getText().toString());
+        intent.putExtra("gameLogFile", logStore.getFile().getPath());
         startActivity(intent);
         finish();
     }
@@ -378,7 +473,7 @@ public class GameActivity extends AppCompatActivity implements CanogaView {
      *
      * <p><strong>Pseudocode:</strong>
      * <ol>
-     *   <li>Make all three buttons visible.</li>
+     *   <li>Make all three buttons visible; disable Save and Quit while the computer moves.</li>
      *   <li>Switch on controller.getCurrentState():</li>
      *     <ol type="a">
      *       <li>For each enum value set btn text & enabled flags.</li>
@@ -390,6 +485,11 @@ public class GameActivity extends AppCompatActivity implements CanogaView {
         btnDynamic2.setVisibility(View.VISIBLE);
         btnDynamic3.setVisibility(View.VISIBLE);
 
+        // Saving or quitting would read the model while the computer moves
+        boolean computerMoving = controller.getCurrentState() == CanogaController.GameState.COMPUTER_MOVE;
+        btnSave.setEnabled(!computerMoving);
+        btnQuit.setEnabled(!computerMoving);
+
         // Use the controller's current state to update texts.
         switch (controller.getCurrentState()) {
             case START_GAME:
@@ -456,6 +556,14 @@ public class GameActivity extends AppCompatActivity implements CanogaView {
                 btnDynamic3.setText("");
                 btnDynamic3.setEnabled(false);
                 break;
+            case COMPUTER_MOVE:
+                btnDynamic1.setText("Thinking…");
+                btnDynamic1.setEnabled(false);
+                btnDynamic2.setText("");
+                btnDynamic2.setEnabled(false);
+                btnDynamic3.setText("");
+                btnDynamic3.setEnabled(false);
+                break;
             case NEW_BOARDSIZE:
                 btnDynamic1.setText("9");
                 btnDynamic1.setEnabled(true);
@@ -475,19 +583,15 @@ public class GameActivity extends AppCompatActivity implements CanogaView {
      *
      * <p><strong>Pseudocode:</strong>
      * <ol>
-     *   <li>Read tvGameLog text.</li>
-     *   <li>If not empty → show AlertDialog with that text.</li>
+     *   <li>Flush pending log messages into the log store.</li>
+     *   <li>If not empty → show a dialog listing the store's entries.</li>
      *   <li>Else → show dialog saying "No game log to display."</li>
      * </ol>
      */
     private void showGameLogDialog() {
-        String log = tvGameLog.getText().toString();
-        if (!log.trim().isEmpty()) {
-            new androidx.appcompat.app.AlertDialog.Builder(GameActivity.this)
-                    .setTitle("Game Log")
-                    .setMessage(log)
-                    .setPositiveButton("OK", null)
-                    .show();
+        flushLog();
+        if (!logStore.isEmpty()) {
+            LogListAdapter.showDialog(GameActivity.this, logStore);
         } else {
             new androidx.appcompat.app.AlertDialog.Builder(GameActivity.this)
                     .setTitle("Game Log")
@@ -499,6 +603,59 @@ public class GameActivity extends AppCompatActivity implements CanogaView {
 
 
 
+    /**
+     * Moves every queued controller message into the log store, noting any
+     * that were dropped because the queue overflowed.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>Drain the queue in batches straight into the log store.</li>
+     *   <li>If the dropped count grew since the last drain, add a note.</li>
+     * </ol>
+     */
+    private void drainQueue() {
+        RingBufferLog buffer = controller.getLogBuffer();
+        int drained;
+        do {
+            drained = buffer.drainTo(logStore, LOG_DRAIN_BATCH);
+        } while (drained == LOG_DRAIN_BATCH);
+        long dropped = buffer.getDroppedCount();
+        if (dropped > reportedDrops) {
+            logStore.add("[" + (dropped - reportedDrops) + " log messages dropped]");
+            reportedDrops = dropped;
+        }
+    }
+
+
+    /**
+     * Shows everything logged since the last frame with one list update;
+     * the list's transcript mode then scrolls to the bottom once.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>Clear the scheduled flag and cancel any waiting frame callback.</li>
+     *   <li>Drain the controller queue into the log store.</li>
+     *   <li>If the store has not grown since the last flush → return.</li>
+     *   <li>Tell lvGameLog's adapter the data changed.</li>
+     * </ol>
+     *
+     * <p>The log file is not flushed here, which would touch the disk from
+     * the UI thread every frame; the store's stream writes out as its
+     * buffer fills, and onPause and the end of the tournament flush the
+     * rest.
+     */
+    private void flushLog() {
+        drainScheduled.set(false);
+        choreographer.removeFrameCallback(logFrameCallback);
+        drainQueue();
+        if (logStore.size() == shownLogSize)
+            return;
+        shownLogSize = logStore.size();
+        ((LogListAdapter) lvGameLog.getAdapter()).notifyDataSetChanged();
+    }
+
+
+
     /**
      * Recursively prompts the user for each die value when in manual‐roll mode.
      *
@@ -553,8 +710,21 @@ public class GameActivity extends AppCompatActivity implements CanogaView {
 
     private static final int DEFAULT_BOARD_SIZE = 9;
 
-    private TextView tvHeader, tvScore, tvGameLog;
-    private ScrollView svGameLog;
+    // Messages moved out of the log queue per drainTo call
+    private static final int LOG_DRAIN_BATCH = 256;
+
+    // Save file in app storage; the .cgb extension selects the binary format
+    private static final String SAVE_FILE = "game" + SaveData.BINARY_EXTENSION;
+
+    // Game log file in app storage, and how many of its newest entries stay in memory
+    private static final String LOG_FILE = "game_log.dat";
+    private static final int DEFAULT_LOG_MEMORY_CAP = 1000;
+
+    // Autosave journal directory in app storage
+    private static final String JOURNAL_DIR = "autosave";
+
+    private TextView tvHeader, tvScore;
+    private ListView lvGameLog;
     private GridLayout glComputerBoard, glHumanBoard;
     private Button btnDynamic1, btnDynamic2, btnDynamic3;
     private Button btnSave, btnQuit, btnShowLog;
@@ -569,4 +739,14 @@ public class GameActivity extends AppCompatActivity implements CanogaView {
     private int currentRollInput = 0;
     private int firstDie = -1;
 
+    // Game log entries; only touched on the UI thread
+    private LogStore logStore;
+    private int shownLogSize;
+
+    private Choreographer choreographer;
+    private final Choreographer.FrameCallback logFrameCallback = frameTimeNanos -> flushLog();
+
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private long reportedDrops = 0;
+
 }
@@ -0,0 +1,110 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    LogListAdapter.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc;
+
+import android.content.Context;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.BaseAdapter;
+import android.widget.ListView;
+import android.widget.TextView;
+import androidx.appcompat.app.AlertDialog;
+
+import java.util.List;
+
+
+/**
+ * Shows game log entries in a ListView, one row per entry. Rows are
+ * recycled, so only the entries on screen are ever laid out, and each is
+ * fetched from the list only when its row is drawn; with a
+ * {@link com.example.canoga_android_elijahc.model.LogStore} that means old
+ * history is read back from disk only while it is being scrolled through.
+ */
+public class LogListAdapter extends BaseAdapter {
+
+    /**
+     * @param entries the log entries to show, oldest first; read live, so
+     *                call notifyDataSetChanged() after adding to it
+     */
+    public LogListAdapter(List<String> entries) {
+        this.entries = entries;
+    }
+
+
+    @Override
+    public int getCount() {
+        return entries.size();
+    }
+
+
+    @Override
+    public String getItem(int position) {
+        return entries.get(position);
+    }
+
+
+    @Override
+    public long getItemId(int position) {
+        return position;
+    }
+
+
+    @Override
+    public boolean hasStableIds() {
+        return true;
+    }
+
+
+    /**
+     * Binds one entry to a row, reusing a scrolled-off row when given one.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>If convertView is null → inflate item_log_entry.</li>
+     *   <li>Set its text to the entry at position.</li>
+     * </ol>
+     */
+    @Override
+    public View getView(int position, View convertView, ViewGroup parent) {
+        TextView row = (TextView) convertView;
+        if (row == null)
+            row = (TextView) LayoutInflater.from(parent.getContext())
+                    .inflate(R.layout.item_log_entry, parent, false);
+        row.setText(getItem(position));
+        return row;
+    }
+
+
+    /**
+     * Shows log entries in a modal dialog as a scrolling list, opened at
+     * the newest entry.
+     *
+     * @param context the activity showing the dialog
+     * @param entries the log entries, oldest first
+     */
+    public static void showDialog(Context context, List<String> entries) {
+        ListView list = new ListView(context);
+        list.setAdapter(new LogListAdapter(entries));
+        list.setSelection(entries.size() - 1);
+        new AlertDialog.Builder(context)
+                .setTitle("Game Log")
+                .setView(list)
+                .setPositiveButton("OK", null)
+                .show();
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    private final List<String> entries;
+
+}
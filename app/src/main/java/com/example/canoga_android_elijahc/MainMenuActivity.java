@@ -10,12 +10,16 @@ package com.example.canoga_android_elijahc;
 
 import android.content.Intent;
 import android.os.Bundle;
+import android.view.View;
 import androidx.appcompat.app.AppCompatActivity;
 
+import com.example.canoga_android_elijahc.model.GameJournal;
+
 
 /**
  * The launch screen of the app, offering options to start
- * a new game, load an existing one, or exit the application.
+ * a new game, continue the autosaved one, load an existing one,
+ * or exit the application.
  */
 public class MainMenuActivity extends AppCompatActivity {
 
@@ -28,8 +32,9 @@ public class MainMenuActivity extends AppCompatActivity {
      *   <li>Set the layout to activity_main_menu.</li>
      *   <li>Attach click listeners:
      *     <ul>
-     *       <li>Start Game → BoardSizeActivity</li>
-     *       <li>Load Game  → FileLoadingActivity</li>
+     *       <li>Start Game    → BoardSizeActivity</li>
+     *       <li>Continue Game → GameActivity, restoring the journal</li>
+     *       <li>Load Game     → FileLoadingActivity</li>
      *       <li>Exit       → finishAffinity()</li>
      *     </ul>
      *   </li>
@@ -47,6 +52,12 @@ public class MainMenuActivity extends AppCompatActivity {
             startActivity(intent);
         });
 
+        findViewById(R.id.btnContinueGame).setOnClickListener(v -> {
+            Intent intent = new Intent(MainMenuActivity.this, GameActivity.class);
+            intent.putExtra("restoreJournal", true);
+            startActivity(intent);
+        });
+
         findViewById(R.id.btnLoadGame).setOnClickListener(v -> {
             Intent intent = new Intent(MainMenuActivity.this, FileLoadingActivity.class);
             startActivity(intent);
@@ -54,4 +65,16 @@ public class MainMenuActivity extends AppCompatActivity {
 
         findViewById(R.id.btnExit).setOnClickListener(v -> finishAffinity());
     }
+
+
+    /**
+     * Shows "Continue Game" only while an autosaved game exists, which
+     * changes whenever a game is played from here.
+     */
+    @Override
+    protected void onResume() {
+        super.onResume();
+        boolean autosaved = GameJournal.exists(GameActivity.journalDir(this));
+        findViewById(R.id.btnContinueGame).setVisibility(autosaved ? View.VISIBLE : View.GONE);
+    }
 }
@@ -0,0 +1,110 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    SaveListAdapter.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc;
+
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.BaseAdapter;
+import android.widget.TextView;
+
+import com.example.canoga_android_elijahc.model.SaveData;
+import com.example.canoga_android_elijahc.model.SaveIndex;
+
+import java.util.List;
+
+
+/**
+ * Shows save files in a ListView, one recycled row per file: its name,
+ * and a preview of the game from the {@link SaveIndex} entry, so nothing
+ * is read from disk while the list is drawn.
+ */
+public class SaveListAdapter extends BaseAdapter {
+
+    /**
+     * @param entries the saves to show, e.g. SaveIndex.getEntries()
+     */
+    public SaveListAdapter(List<SaveIndex.Entry> entries) {
+        this.entries = entries;
+    }
+
+
+    /**
+     * Shows a newer snapshot of the index.
+     * @param entries the saves to show
+     */
+    public void setEntries(List<SaveIndex.Entry> entries) {
+        this.entries = entries;
+        notifyDataSetChanged();
+    }
+
+
+    @Override
+    public int getCount() {
+        return entries.size();
+    }
+
+
+    @Override
+    public SaveIndex.Entry getItem(int position) {
+        return entries.get(position);
+    }
+
+
+    @Override
+    public long getItemId(int position) {
+        return position;
+    }
+
+
+    /**
+     * Binds one save to a row, reusing a scrolled-off row when given one.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>If convertView is null → inflate item_save_entry.</li>
+     *   <li>Set the first line to the file name.</li>
+     *   <li>Set the second line to the preview, or a note if it is not a valid save.</li>
+     * </ol>
+     */
+    @Override
+    public View getView(int position, View convertView, ViewGroup parent) {
+        View row = convertView;
+        if (row == null)
+            row = LayoutInflater.from(parent.getContext())
+                    .inflate(R.layout.item_save_entry, parent, false);
+        SaveIndex.Entry entry = getItem(position);
+        ((TextView) row.findViewById(R.id.tvSaveName)).setText(entry.getName());
+        ((TextView) row.findViewById(R.id.tvSaveDetails)).setText(describe(entry));
+        return row;
+    }
+
+
+    /**
+     * @param entry an indexed save
+     * @return e.g. "9 squares · Human 36, Computer 14 · Next: Human · Covered 4 and 5"
+     */
+    private static String describe(SaveIndex.Entry entry) {
+        SaveData save = entry.getSave();
+        if (save == null)
+            return "Not a valid save file";
+        return save.getBoardSize() + " squares"
+                + " · Human " + save.getHumanScore() + ", Computer " + save.getComputerScore()
+                + " · Next: " + (save.getHumanNext() ? "Human" : "Computer")
+                + " · Covered " + entry.getCoveredCount(true) + " and " + entry.getCoveredCount(false);
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    private List<SaveIndex.Entry> entries;
+
+}
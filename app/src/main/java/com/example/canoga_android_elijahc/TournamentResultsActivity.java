@@ -15,6 +15,13 @@ import android.widget.TextView;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.appcompat.app.AlertDialog;
 
+import com.example.canoga_android_elijahc.model.LogStore;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
 
 /**
  * Displays the final tournament results, including each player's score,
@@ -29,8 +36,8 @@ public class TournamentResultsActivity extends AppCompatActivity {
      * <p><strong>Pseudocode:</strong>
      * <ol>
      *   <li>Call super.onCreate and set the content view.</li>
-     *   <li>Bind UI components: tvResults, tvLogContent, buttons.</li>
-     *   <li>Retrieve 'gameLog' extra, populate tvLogContent or default text.</li>
+     *   <li>Bind UI components: tvResults, buttons.</li>
+     *   <li>Open the log file named by the 'gameLogFile' extra; entries are read only as the log is viewed.</li>
      *   <li>Retrieve 'humanScore' and 'computerScore' extras.</li>
      *   <li>Build resultText with scores and winner/tie message.</li>
      *   <li>Set tvResults to resultText.</li>
@@ -38,7 +45,7 @@ public class TournamentResultsActivity extends AppCompatActivity {
      *     <ul>
      *       <li>Main Menu: start MainMenuActivity, finish this activity.</li>
      *       <li>Exit: call finishAffinity().</li>
-     *       <li>Log: show AlertDialog displaying gameLog or "No game log" message.</li>
+     *       <li>Log: show the log entries in a list dialog, or a "No game log" message.</li>
      *     </ul>
      *   </li>
      * </ol>
@@ -56,14 +63,17 @@ public class TournamentResultsActivity extends AppCompatActivity {
         btnMainMenu = findViewById(R.id.btnMainMenu);
         btnExit = findViewById(R.id.btnExit);
         btnLog = findViewById(R.id.btnLog);
-        tvLogContent = findViewById(R.id.tvLogContent);
 
-        // Retrieve and display game log
-        String gameLog = getIntent().getStringExtra("gameLog");
-        if (gameLog != null) {
-            tvLogContent.setText(gameLog);
-        } else {
-            tvLogContent.setText("No game log available.");
+        // Open the game log file; nothing is read until the log is shown
+        String gameLogFile = getIntent().getStringExtra("gameLogFile");
+        logEntries = Collections.emptyList();
+        if (gameLogFile != null) {
+            try {
+                logStore = LogStore.open(new File(gameLogFile));
+                logEntries = logStore;
+            } catch (IOException e) {
+                // Leave the log empty; the Log button says so
+            }
         }
 
         // Retrieve scores and determine winner
@@ -92,13 +102,8 @@ public class TournamentResultsActivity extends AppCompatActivity {
 
         // View Log button
         btnLog.setOnClickListener(v -> {
-            String log = tvLogContent.getText().toString();
-            if (!log.equals("No game log available.")) {
-                new AlertDialog.Builder(TournamentResultsActivity.this)
-                        .setTitle("Game Log")
-                        .setMessage(log)
-                        .setPositiveButton("OK", null)
-                        .show();
+            if (!logEntries.isEmpty()) {
+                LogListAdapter.showDialog(TournamentResultsActivity.this, logEntries);
             } else {
                 new AlertDialog.Builder(TournamentResultsActivity.this)
                         .setTitle("Game Log")
@@ -110,12 +115,24 @@ public class TournamentResultsActivity extends AppCompatActivity {
     }
 
 
+    /**
+     * Closes the game log file, if one was opened.
+     */
+    @Override
+    protected void onDestroy() {
+        if (logStore != null)
+            logStore.close();
+        super.onDestroy();
+    }
+
+
     // ──────────────────────────────────────────────────────────────
     // Private Members
     // ──────────────────────────────────────────────────────────────
 
     private TextView tvResults;
     private Button btnMainMenu, btnExit, btnLog;
-    private TextView tvLogContent;
+    private LogStore logStore;
+    private List<String> logEntries;
 
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+// Pure-Java game engine (the model package): no Android dependencies, so it
+// runs on any JVM for unit tests, benchmarks and command-line tools.
+plugins {
+    `java-library`
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+tasks.withType<JavaCompile>().configureEach {
+    options.encoding = "UTF-8"
+}
+
+dependencies {
+    testImplementation(libs.junit)
+}
@@ -0,0 +1,637 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    Board.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Represents the Canoga game board, tracking covered/uncovered squares
+ * for both the human and computer players, and the current turn count.
+ *
+ * <p>Each row is stored as an int bitmask where bit (sq - 1) is set while
+ * square sq is uncovered. The list-returning selectors are built on top of
+ * the masks for callers that still want square values.
+ *
+ * <p>The board also keeps a 64-bit Zobrist key of the position (both rows,
+ * board size, opening-turn flag and handicap square), updated as squares
+ * change, for use as a cache or transposition key.
+ */
+public class Board {
+
+    /** Largest supported number of squares per row. */
+    public static final int MAX_SIZE = 11;
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constructors
+    // ──────────────────────────────────────────────────────────────
+
+    /**
+     * Initializes a board of size n, with all squares uncovered.
+     * @param n the number of squares per row (e.g., 9, 10, or 11; at most MAX_SIZE)
+     */
+    public Board(int n) {
+        this.size = n;
+        resetBoard();
+    }
+
+
+    /**
+     * Default constructor, creates a board of size 9.
+     */
+    public Board() {
+        this(9); // default board size of 9
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Selectors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @return the current board size
+     */
+    public int getBoardSize() {
+        return size;
+    }
+
+
+    /**
+     * @return the number of turns that have elapsed on this board
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+
+    /**
+     * Recursively computes 1 + 2 + … + last.
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>If last == 0, return 0</li>
+     *   <li>Else return last + getMaxScore(last-1)</li>
+     * </ol>
+     * @param last the highest square value to sum
+     * @return the sum of all integers from 1 to last
+     */
+    public int getMaxScore(int last) {
+        if (last == 0)
+            return 0;
+        else
+            return last + getMaxScore(last - 1);
+    }
+
+
+    /**
+     * @return a defensive copy of the human player's square list
+     */
+    public ArrayList<Integer> getHumanSquares() {
+        return toSquareList(humanMask);
+    }
+
+
+    /**
+     * @return a defensive copy of the computer player's square list
+     */
+    public ArrayList<Integer> getComputerSquares() {
+        return toSquareList(computerMask);
+    }
+
+
+    /**
+     * @param idx 0-based index
+     * @return the value at that index in the human's squares
+     */
+    public int getHumanSquareAtIndex(int idx) {
+        return squareAt(humanMask, idx);
+    }
+
+
+    /**
+     * @param idx 0-based index
+     * @return the value at that index in the computer's squares
+     */
+    public int getComputerSquareAtIndex(int idx) {
+        return squareAt(computerMask, idx);
+    }
+
+
+    /**
+     * @return mask with one bit set for every square on this board
+     */
+    public int fullMask() {
+        return (1 << size) - 1;
+    }
+
+
+    /**
+     * @param isHuman whose row to inspect (true for human, false for computer)
+     * @return bitmask of the uncovered squares in that row
+     */
+    public int uncoveredMask(boolean isHuman) {
+        return isHuman ? humanMask : computerMask;
+    }
+
+
+    /**
+     * @param isHuman whose row to inspect (true for human, false for computer)
+     * @return bitmask of the covered squares in that row
+     */
+    public int coveredMask(boolean isHuman) {
+        return ~uncoveredMask(isHuman) & fullMask();
+    }
+
+
+    /**
+     * Mask form of {@link #getAvailableSquares(boolean, boolean)}.
+     * @param isHuman whose row to inspect (true for human, false for computer)
+     * @param forCover true for coverable (uncovered) squares; false for uncoverable (covered) ones
+     * @return bitmask of the matching squares
+     */
+    public int availableMask(boolean isHuman, boolean forCover) {
+        return forCover ? uncoveredMask(isHuman) : coveredMask(isHuman);
+    }
+
+
+    /**
+     * @param isHuman whose row to inspect
+     * @return the handicap square covered on that row this round, or 0
+     */
+    public int getHandicapSquare(boolean isHuman) {
+        return handicapSquare != 0 && handicapHuman == isHuman ? handicapSquare : 0;
+    }
+
+
+    /**
+     * Returns the Zobrist key of the current position. Positions with the
+     * same rows, size, opening flag (turn ≤ 1) and handicap square share a
+     * key no matter which moves led to them.
+     * @return 64-bit position key
+     */
+    public long getZobristKey() {
+        return zobristKey;
+    }
+
+
+    /**
+     * Packs a list of 1-based square numbers into a bitmask.
+     * Entries outside 1..31 are ignored.
+     * @param squares the squares to pack
+     * @return mask with bit (sq - 1) set for each square
+     */
+    public static int maskOf(List<Integer> squares) {
+        int mask = 0;
+        for (Integer sq : squares) {
+            if (sq >= 1 && sq <= 31)
+                mask |= 1 << (sq - 1);
+        }
+        return mask;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Mutators
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Increments the board turn counter by one.
+     */
+    public void incrementTurn() {
+        turn++;
+        if (turn == 2)
+            zobristKey ^= OPENING_KEY;
+    }
+
+    /**
+     * Sets a new board size and resets all squares to uncovered.
+     * @param n the new board size
+     */
+    public void setBoardSize(int n) {
+        this.size = n;
+        resetBoard();
+    }
+
+
+    /**
+     * Validates and sets the human player's squares.
+     * @param squares new list of squares (must be length == size)
+     * @return true if valid and applied; false (and reset) otherwise
+     */
+    public boolean setHumanSquares(ArrayList<Integer> squares) {
+        if (squares.size() != size)
+            return false;
+        int mask = toMask(squares);
+        if (mask < 0) {
+            resetBoard();
+            return false;
+        }
+        humanMask = mask;
+        rehash();
+        return true;
+    }
+
+
+    /**
+     * Validates and sets the computer player's squares.
+     * @param squares new list of squares
+     * @return true if valid and applied; false (and reset) otherwise
+     */
+    public boolean setComputerSquares(ArrayList<Integer> squares) {
+        if (squares.size() != size)
+            return false;
+        int mask = toMask(squares);
+        if (mask < 0) {
+            resetBoard();
+            return false;
+        }
+        computerMask = mask;
+        rehash();
+        return true;
+    }
+
+
+    /**
+     * Validates and sets a player's row from a packed mask.
+     * @param isHuman whose row to set
+     * @param mask    bit (sq - 1) set while sq is uncovered; no bits past size
+     * @return true if valid and applied; false (and reset) otherwise
+     */
+    public boolean setRowMask(boolean isHuman, int mask) {
+        if ((mask & ~fullMask()) != 0) {
+            resetBoard();
+            return false;
+        }
+        if (isHuman)
+            humanMask = mask;
+        else
+            computerMask = mask;
+        rehash();
+        return true;
+    }
+
+
+
+
+
+
+    /**
+     * Records the square covered as this round's handicap.
+     * Cleared again by resetBoard.
+     * @param isHuman whose row the handicap square was covered on
+     * @param sq      the handicap square (0 for none)
+     */
+    public void setHandicapSquare(boolean isHuman, int sq) {
+        if (sq < 0 || sq > size)
+            return;
+        zobristKey ^= handicapKey(handicapHuman, handicapSquare) ^ handicapKey(isHuman, sq);
+        handicapHuman = isHuman;
+        handicapSquare = sq;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Resets both players' squares to [1..size] and zeros the turn counter.
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>turn = 0, no handicap square</li>
+     *   <li>set every bit of both masks</li>
+     *   <li>recompute the Zobrist key</li>
+     * </ol>
+     */
+    public void resetBoard() {
+        turn = 0;
+        handicapSquare = 0;
+        humanMask = fullMask();
+        computerMask = fullMask();
+        rehash();
+    }
+
+
+    /**
+     * Checks whether squares 7..size are all covered (zeroed).
+     * @param isHuman true to check the human's board; false for computer
+     * @return false if size<7; otherwise true if all those squares == 0
+     */
+    public boolean checkUpperSquares(boolean isHuman) {
+        if (size < 7)
+            return false;
+        return (uncoveredMask(isHuman) & UPPER_SQUARES) == 0;
+    }
+
+
+    /**
+     * Lists the available squares for covering or uncovering.
+     * @param isHuman whose board to inspect (true for human, false for computer)
+     * @param forCover true to list non-zero (coverable) squares; false for zero (uncoverable)
+     * @return 1-based list of square positions matching the criteria
+     */
+    public ArrayList<Integer> getAvailableSquares(boolean isHuman, boolean forCover) {
+        int mask = availableMask(isHuman, forCover);
+        ArrayList<Integer> avail = new ArrayList<>(Integer.bitCount(mask));
+        for (int i = 0; i < size; i++) {
+            if ((mask & (1 << i)) != 0)
+                avail.add(i + 1);
+        }
+        return avail;
+    }
+
+
+    /**
+     * Covers (zeros out) the given square if valid.
+     * @param isHuman whose board to modify (true for human, false for computer)
+     * @param sq the 1-based square to cover
+     */
+    public void coverSquare(boolean isHuman, int sq) {
+        int idx = sq - 1;
+        if (idx < 0 || idx >= size)
+            return;
+        setRow(isHuman, uncoveredMask(isHuman) & ~(1 << idx));
+    }
+
+
+    /**
+     * Uncovers (restores) the given square if valid.
+     * @param isHuman whose board to modify (true for human, false for computer)
+     * @param sq the 1-based square to uncover
+     */
+    public void uncoverSquare(boolean isHuman, int sq) {
+        int idx = sq - 1;
+        if (idx < 0 || idx >= size)
+            return;
+        setRow(isHuman, uncoveredMask(isHuman) | (1 << idx));
+    }
+
+
+    /**
+     * @param isHuman whose board to inspect (true for human, false for computer)
+     * @return true if every square is covered (==0)
+     */
+    public boolean allSquaresCovered(boolean isHuman) {
+        return uncoveredMask(isHuman) == 0;
+    }
+
+
+    /**
+     * @param isHuman whose board to inspect
+     * @return true if every square is uncovered (non-zero)
+     */
+    public boolean allSquaresUncovered(boolean isHuman) {
+        return uncoveredMask(isHuman) == fullMask();
+    }
+
+
+
+    /**
+     * Covers or uncovers a set of squares in place, for lookahead.
+     * Squares that are already in the requested state are left alone and
+     * are not part of the returned mask, so passing that mask to
+     * {@link #undo(int, boolean, boolean)} restores the board exactly.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>If debug checks are on, remember the current Zobrist key.</li>
+     *   <li>changed = requested squares that will actually flip.</li>
+     *   <li>Clear (cover) or set (uncover) those bits in the row.</li>
+     *   <li>Return changed.</li>
+     * </ol>
+     *
+     * @param squares  bitmask of squares to change
+     * @param isHuman  whose row to modify (true for human, false for computer)
+     * @param forCover true to cover; false to uncover
+     * @return bitmask of squares that actually changed
+     */
+    public int apply(int squares, boolean isHuman, boolean forCover) {
+        if (debugUndo)
+            pushDebugHash();
+        int row = uncoveredMask(isHuman);
+        int changed = forCover ? (squares & row) : (squares & ~row & fullMask());
+        setRow(isHuman, row ^ changed);
+        return changed;
+    }
+
+
+    /**
+     * Reverts a previous {@link #apply(int, boolean, boolean)} call.
+     * Calls must be nested: undo the most recent apply first.
+     * @param applied  the mask returned by apply
+     * @param isHuman  the side passed to apply
+     * @param forCover the cover flag passed to apply
+     * @throws IllegalStateException in debug mode, if the board's Zobrist key
+     *         differs from the one it had before the matching apply
+     */
+    public void undo(int applied, boolean isHuman, boolean forCover) {
+        setRow(isHuman, uncoveredMask(isHuman) ^ applied);
+        if (debugUndo)
+            popDebugHash();
+    }
+
+
+    /**
+     * Applies a packed {@link Move} in place.
+     * @param move the packed move
+     * @return bitmask of squares that actually changed, for {@link #undoMove(int, int)}
+     */
+    public int applyMove(int move) {
+        return apply(Move.squares(move), Move.isHumanRow(move), Move.isCover(move));
+    }
+
+
+    /**
+     * Reverts a previous {@link #applyMove(int)} call.
+     * @param move    the packed move that was applied
+     * @param applied the mask applyMove returned
+     */
+    public void undoMove(int move, int applied) {
+        undo(applied, Move.isHumanRow(move), Move.isCover(move));
+    }
+
+
+    /**
+     * Turns apply/undo state checking on or off. Meant for tests and
+     * debugging search code.
+     * @param enabled true to verify every undo against its apply
+     */
+    public void setDebugUndo(boolean enabled) {
+        debugUndo = enabled;
+        debugDepth = 0;
+    }
+
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Replaces one row and folds the flipped squares into the Zobrist key.
+     * @param isHuman whose row to replace
+     * @param mask    the new uncovered mask
+     */
+    private void setRow(boolean isHuman, int mask) {
+        int flipped;
+        if (isHuman) {
+            flipped = humanMask ^ mask;
+            humanMask = mask;
+        } else {
+            flipped = computerMask ^ mask;
+            computerMask = mask;
+        }
+        zobristKey ^= squareKeys(isHuman, flipped);
+    }
+
+
+    /** Recomputes the Zobrist key from scratch after a bulk change. */
+    private void rehash() {
+        long key = SIZE_KEYS[size];
+        key ^= squareKeys(true, humanMask);
+        key ^= squareKeys(false, computerMask);
+        if (turn <= 1)
+            key ^= OPENING_KEY;
+        key ^= handicapKey(handicapHuman, handicapSquare);
+        zobristKey = key;
+    }
+
+
+    /**
+     * @param isHuman whose row the squares are on
+     * @param squares bitmask of squares
+     * @return XOR of the keys of those squares
+     */
+    private static long squareKeys(boolean isHuman, int squares) {
+        long[] keys = SQUARE_KEYS[isHuman ? 1 : 0];
+        long key = 0;
+        while (squares != 0) {
+            key ^= keys[Integer.numberOfTrailingZeros(squares)];
+            squares &= squares - 1;
+        }
+        return key;
+    }
+
+
+    /** @return key of a handicap square; 0 when there is none */
+    private static long handicapKey(boolean isHuman, int sq) {
+        return sq == 0 ? 0 : HANDICAP_KEYS[isHuman ? 1 : 0][sq];
+    }
+
+
+    /** @return a table of fixed pseudo-random keys */
+    private static long[] randomKeys(SplittableRandom rand, int n) {
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++)
+            keys[i] = rand.nextLong();
+        return keys;
+    }
+
+
+    /** Records the current Zobrist key before an apply (debug mode only). */
+    private void pushDebugHash() {
+        if (debugDepth == debugHashes.length)
+            debugHashes = Arrays.copyOf(debugHashes, debugDepth * 2);
+        debugHashes[debugDepth++] = zobristKey;
+    }
+
+
+    /** Checks the Zobrist key after an undo against its apply (debug mode only). */
+    private void popDebugHash() {
+        if (debugDepth == 0)
+            throw new IllegalStateException("Board.undo called without a matching apply");
+        long expected = debugHashes[--debugDepth];
+        if (zobristKey != expected)
+            throw new IllegalStateException("Board.undo did not restore the state seen before apply");
+    }
+
+
+    /**
+     * @param mask a row bitmask
+     * @param idx 0-based index
+     * @return idx + 1 if that square is uncovered; 0 if covered
+     */
+    private static int squareAt(int mask, int idx) {
+        return (mask & (1 << idx)) != 0 ? idx + 1 : 0;
+    }
+
+
+    /**
+     * Expands a row bitmask into the list form (square value or 0 per index).
+     * @param mask a row bitmask
+     * @return list of length size
+     */
+    private ArrayList<Integer> toSquareList(int mask) {
+        ArrayList<Integer> squares = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            squares.add(squareAt(mask, i));
+        return squares;
+    }
+
+
+    /**
+     * Packs a list of square values into a row bitmask.
+     * Each entry must be 0 (covered) or its own 1-based position (uncovered).
+     * @param squares list of length size
+     * @return the packed mask, or -1 if any entry is invalid
+     */
+    static int toMask(ArrayList<Integer> squares) {
+        int mask = 0;
+        for (int i = 0; i < squares.size(); i++) {
+            int s = squares.get(i);
+            if (s == i + 1)
+                mask |= 1 << i;
+            else if (s != 0)
+                return -1;
+        }
+        return mask;
+    }
+
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    // Bits for squares 7 and up; checked before a player may roll one die.
+    private static final int UPPER_SQUARES = ~0x3F;
+
+    // Zobrist keys, from a fixed seed so keys are stable across runs
+    private static final long[][] SQUARE_KEYS;
+    private static final long[][] HANDICAP_KEYS;
+    private static final long[] SIZE_KEYS;
+    private static final long OPENING_KEY;
+    static {
+        SplittableRandom rand = new SplittableRandom(0x43414E4F4741L);
+        SQUARE_KEYS = new long[][] { randomKeys(rand, 32), randomKeys(rand, 32) };
+        HANDICAP_KEYS = new long[][] { randomKeys(rand, 33), randomKeys(rand, 33) };
+        SIZE_KEYS = randomKeys(rand, 33);
+        OPENING_KEY = rand.nextLong();
+    }
+
+    private int size;
+    private int humanMask;
+    private int computerMask;
+    private int turn;
+    private boolean handicapHuman;
+    private int handicapSquare;
+    private long zobristKey;
+
+    // Debug-mode stack of Zobrist keys taken at each apply
+    private boolean debugUndo = false;
+    private long[] debugHashes = new long[8];
+    private int debugDepth = 0;
+
+
+}
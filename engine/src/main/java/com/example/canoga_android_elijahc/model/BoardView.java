@@ -39,6 +39,7 @@ public class BoardView {
      * Builds and logs a simple ASCII representation of the board.
      * <p><strong>Pseudocode:</strong>
      * <ol>
+     *   <li>Return at once if INFO is disabled</li>
      *   <li>Create StringBuilder</li>
      *   <li>Append header</li>
      *   <li>Append \"Computer:\" row and its squares</li>
@@ -48,6 +49,8 @@ public class BoardView {
      * </ol>
      */
     public void printBoard() {
+        if (!log.isEnabled(Log.Level.INFO))
+            return;
         StringBuilder sb = new StringBuilder();
         sb.append("\n====== Current Board ======\n");
         sb.append("Computer: ");
@@ -0,0 +1,152 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    BufferedDiceSource.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+import java.util.SplittableRandom;
+
+
+/**
+ * Dice for bulk simulation: single dice and two-dice sums are rolled in
+ * batches into primitive buffers and served from there.
+ *
+ * <p>Each random long gives two rolls: each 32-bit half is mapped to a
+ * die or to one of the 36 equally likely two-dice outcomes by a multiply
+ * instead of a division, so a two-dice roll costs half a draw rather
+ * than two. Biased bit patterns are redrawn, so every roll is exactly
+ * uniform.
+ *
+ * <p>Like {@link RandomDiceSource}, a fixed seed gives a reproducible
+ * stream (though not the same one), and the source is not thread-safe.
+ */
+public class BufferedDiceSource implements DiceSource {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constructors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** Creates unseeded dice, different on every run. */
+    public BufferedDiceSource() {
+        this(new SplittableRandom());
+    }
+
+
+    /**
+     * Creates seeded dice.
+     * @param seed the same seed always gives the same rolls
+     */
+    public BufferedDiceSource(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+
+    private BufferedDiceSource(SplittableRandom random) {
+        this.random = random;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    @Override
+    public int rollDie() {
+        if (nextDie == BUFFER_SIZE)
+            fillDice();
+        return dice[nextDie++];
+    }
+
+
+    /** Serves two dice as one pre-rolled sum rather than two faces. */
+    @Override
+    public int roll(int numDice) {
+        if (numDice == 1)
+            return rollDie();
+        if (numDice == 2) {
+            if (nextSum == BUFFER_SIZE)
+                fillSums();
+            return sums[nextSum++];
+        }
+        return DiceSource.super.roll(numDice);
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** Refills the single-die buffer, two dice per random long. */
+    private void fillDice() {
+        for (int i = 0; i < BUFFER_SIZE; i += 2) {
+            long bits = random.nextLong();
+            dice[i] = (byte) (below((int) bits, 6) + 1);
+            dice[i + 1] = (byte) (below((int) (bits >>> 32), 6) + 1);
+        }
+        nextDie = 0;
+    }
+
+
+    /** Refills the two-dice buffer, two sums per random long. */
+    private void fillSums() {
+        for (int i = 0; i < BUFFER_SIZE; i += 2) {
+            long bits = random.nextLong();
+            sums[i] = TWO_DICE_SUM[below((int) bits, 36)];
+            sums[i + 1] = TWO_DICE_SUM[below((int) (bits >>> 32), 36)];
+        }
+        nextSum = 0;
+    }
+
+
+    /**
+     * Maps 32 random bits to a uniform value below bound by multiplying
+     * rather than dividing (Lemire's method). The few bit patterns that
+     * would make some values more likely than others are rejected and
+     * redrawn, so the result is exactly uniform.
+     * @param bits  32 random bits
+     * @param bound exclusive upper bound, at most 2^31
+     * @return a value in [0, bound)
+     */
+    private int below(int bits, int bound) {
+        long product = (bits & 0xFFFFFFFFL) * bound;
+        if ((product & 0xFFFFFFFFL) < bound) {
+            // low part below bound: only here can the draw be biased
+            long threshold = (1L << 32) % bound;
+            while ((product & 0xFFFFFFFFL) < threshold)
+                product = (random.nextInt() & 0xFFFFFFFFL) * bound;
+        }
+        return (int) (product >>> 32);
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    // Rolls per refill of each buffer
+    private static final int BUFFER_SIZE = 256;
+
+    // Sum of each of the 36 equally likely two-dice outcomes
+    private static final byte[] TWO_DICE_SUM = new byte[36];
+
+    static {
+        for (int outcome = 0; outcome < 36; outcome++)
+            TWO_DICE_SUM[outcome] = (byte) (outcome / 6 + outcome % 6 + 2);
+    }
+
+    private final SplittableRandom random;
+    private final byte[] dice = new byte[BUFFER_SIZE];
+    private final byte[] sums = new byte[BUFFER_SIZE];
+
+    // Both start exhausted so the first roll fills the buffer
+    private int nextDie = BUFFER_SIZE;
+    private int nextSum = BUFFER_SIZE;
+
+}
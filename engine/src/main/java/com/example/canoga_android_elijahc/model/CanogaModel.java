@@ -8,13 +8,11 @@
 
 package com.example.canoga_android_elijahc.model;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
-import java.util.Random;
 import java.util.Set;
-import java.util.StringTokenizer;
 import java.io.*;
 
 
@@ -34,10 +32,36 @@ public class CanogaModel {
      * @param l         Log implementation for output
      */
     public CanogaModel(int boardSize, Log l) {
+        this(boardSize, l, new ClassicStrategy());
+    }
+
+
+    /**
+     * Initializes a new game model whose computer plays the given strategy.
+     * @param boardSize number of squares per row (9,10,11)
+     * @param l         Log implementation for output
+     * @param strategy  the computer's decision logic
+     */
+    public CanogaModel(int boardSize, Log l, ComputerStrategy strategy) {
+        this(boardSize, l, strategy, new RandomDiceSource());
+    }
+
+
+    /**
+     * Initializes a new game model rolling from the given dice, e.g. seeded
+     * or scripted ones to reproduce a game.
+     * @param boardSize number of squares per row (9,10,11)
+     * @param l         Log implementation for output
+     * @param strategy  the computer's decision logic
+     * @param dice      the source of every roll in the game
+     */
+    public CanogaModel(int boardSize, Log l, ComputerStrategy strategy, DiceSource dice) {
         board = new Board(boardSize);
         human = new Human(board);
         computer = new Computer(board);
+        computer.setStrategy(strategy);
         log = l;
+        setDiceSource(dice);
     }
 
     // ──────────────────────────────────────────────────────────────
@@ -66,23 +90,73 @@ public class CanogaModel {
     }
 
 
+    /** @return the source of every roll in the game */
+    public DiceSource getDiceSource()
+    {
+        return dice;
+    }
+
+
+    /** @return the receiver of the game's events, or null */
+    public GameEventListener getEventListener()
+    {
+        return events;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Mutators
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Supplies solved win tables. When the table for the current board size
+     * has been loaded, the help methods advise from it.
+     * @param tables the shared tables; null to go back to the heuristics
+     */
+    public void setWinTables(WinTables tables) {
+        winTables = tables;
+    }
+
+
+    /**
+     * Replaces the dice for the model and both players.
+     * @param d the source of every roll from now on
+     */
+    public void setDiceSource(DiceSource d) {
+        dice = d;
+        human.setDiceSource(d);
+        computer.setDiceSource(d);
+    }
+
+
+    /**
+     * Reports the game as typed events, e.g. to a {@link GameEventStream},
+     * alongside the text log.
+     * @param listener receives every event from now on; null for none
+     */
+    public void setEventListener(GameEventListener listener) {
+        events = listener;
+        human.setEventListener(listener);
+        computer.setEventListener(listener);
+    }
+
+
     // ──────────────────────────────────────────────────────────────
     // Public Methods
     // ──────────────────────────────────────────────────────────────
 
 
     /**
-     * Loads game state from a text file.
+     * Loads game state from a save file in either format; a binary save is
+     * recognised by its magic bytes, anything else is parsed as text.
      *
      * <p><strong>Pseudocode:</strong>
      * <ol>
-     *   <li>Open file for reading.</li>
-     *   <li>Read lines, tokenize by whitespace.</li>
-     *   <li>When key "Computer:", parse squares then score.</li>
-     *   <li>When key "Human:", parse squares then score.</li>
-     *   <li>Parse "First Turn:" and "Next Turn:".</li>
-     *   <li>Validate and apply board size, squares, and scores.</li>
-     *   <li>Set first/next flags and advance turn counter twice.</li>
+     *   <li>Read the whole file into the reusable load buffer.</li>
+     *   <li>If it starts with the binary magic → decode the binary save.</li>
+     *   <li>Else → scan the text format straight out of the buffer.</li>
+     *   <li>Validate and apply board size, squares, scores and turn flags.</li>
      *   <li>Return true on success; catch IOException and return false.</li>
      * </ol>
      *
@@ -91,137 +165,116 @@ public class CanogaModel {
      */
     public boolean loadGame(String filename) {
         log.logMessage("\nLoading... ");
-        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
-            String line, key;
-            ArrayList<Integer> computerSquares = new ArrayList<>();
-            ArrayList<Integer> humanSquares = new ArrayList<>();
-            int computerScore = 0, humanScore = 0;
-            String firstTurn = "", nextTurn = "";
-            while ((line = br.readLine()) != null) {
-                StringTokenizer st = new StringTokenizer(line);
-                if (!st.hasMoreTokens())
-                    continue;
-                key = st.nextToken();
-                if (key.equals("Computer:")) {
-                    line = br.readLine();
-                    if (line != null) {
-                        st = new StringTokenizer(line);
-                        if (st.hasMoreTokens() && st.nextToken().equals("Squares:")) {
-                            while (st.hasMoreTokens()) {
-                                computerSquares.add(Integer.parseInt(st.nextToken()));
-                            }
-                        } else {
-                            log.logMessage("\nError: Expected 'Squares:' after 'Computer:'.");
-                            return false;
-                        }
-                    }
-                    line = br.readLine();
-                    if (line != null) {
-                        st = new StringTokenizer(line);
-                        if (st.hasMoreTokens() && st.nextToken().equals("Score:")) {
-                            if (st.hasMoreTokens())
-                                computerScore = Integer.parseInt(st.nextToken());
-                            else {
-                                log.logMessage("\nError: Invalid computer score format.");
-                                return false;
-                            }
-                        } else {
-                            log.logMessage("\nError: Expected 'Score:' after 'Computer Squares'.");
-                            return false;
-                        }
-                    }
-                } else if (key.equals("Human:")) {
-                    line = br.readLine();
-                    if (line != null) {
-                        st = new StringTokenizer(line);
-                        if (st.hasMoreTokens() && st.nextToken().equals("Squares:")) {
-                            while (st.hasMoreTokens()) {
-                                humanSquares.add(Integer.parseInt(st.nextToken()));
-                            }
-                        } else {
-                            log.logMessage("\nError: Expected 'Squares:' after 'Human:'.");
-                            return false;
-                        }
-                    }
-                    line = br.readLine();
-                    if (line != null) {
-                        st = new StringTokenizer(line);
-                        if (st.hasMoreTokens() && st.nextToken().equals("Score:")) {
-                            if (st.hasMoreTokens())
-                                humanScore = Integer.parseInt(st.nextToken());
-                            else {
-                                log.logMessage("\nError: Invalid human score format.");
-                                return false;
-                            }
-                        } else {
-                            log.logMessage("\nError: Expected 'Score:' after 'Human Squares'.");
-                            return false;
-                        }
-                    }
-                } else if (key.equals("First")) {
-                    if (st.hasMoreTokens()) {
-                        st.nextToken(); // Skip "Turn:"
-                        firstTurn = st.nextToken();
-                        if (!firstTurn.equals("Human") && !firstTurn.equals("Computer")) {
-                            log.logMessage("\nError: Invalid value for First Turn.");
-                            return false;
-                        }
-                    } else {
-                        log.logMessage("\nError: Incorrect format for First Turn.");
-                        return false;
-                    }
-                } else if (key.equals("Next")) {
-                    if (st.hasMoreTokens()) {
-                        st.nextToken(); // Skip "Turn:"
-                        nextTurn = st.nextToken();
-                        if (!nextTurn.equals("Human") && !nextTurn.equals("Computer")) {
-                            log.logMessage("\nError: Invalid value for Next Turn.");
-                            return false;
-                        }
-                    } else {
-                        log.logMessage("\nError: Incorrect format for Next Turn.");
-                        return false;
-                    }
-                }
-            }
-
-            board.setBoardSize(computerSquares.size());
-            if (!board.setComputerSquares(computerSquares)) {
-                log.logMessage("\nError: Invalid board data entry for Computer Player.");
-                return false;
-            }
-            if (!board.setHumanSquares(humanSquares)) {
-                log.logMessage("\nError: Invalid board data entry for Human Player.");
-                return false;
-            }
-            if (!computer.setTournamentScore(computerScore)) {
-                log.logMessage("\nError: Invalid score data entry for Computer Player.");
+        ByteBuffer buf;
+        try (FileChannel channel = new FileInputStream(filename).getChannel()) {
+            buf = readFully(channel);
+        } catch (IOException e) {
+            log.logMessage(Log.Level.ERROR, "\nError: Unable to open file for loading.");
+            return false;
+        }
+        SaveData data;
+        if (SaveData.isBinary(buf.array(), buf.limit())) {
+            try {
+                data = SaveData.fromBytes(buf.array(), buf.limit());
+            } catch (IOException e) {
+                log.logMessage(Log.Level.ERROR, () -> "\nError: " + e.getMessage());
                 return false;
             }
-            if (!human.setTournamentScore(humanScore)) {
-                log.logMessage("\nError: Invalid score data entry for Human Player.");
+        } else {
+            data = SaveTextParser.parse(buf, log);
+            if (data == null)
                 return false;
-            }
-            human.setIsFirst(firstTurn.equals("Human"));
-            human.setIsNext(nextTurn.equals("Human"));
-            board.incrementTurn();
-            board.incrementTurn();
+        }
+        if (!loadSaveData(data))
+            return false;
+        log.logMessage("\nGame loaded successfully!");
+        return true;
+    }
 
-            log.logMessage("\nGame loaded successfully!");
-            return true;
-        } catch (IOException e) {
-            log.logMessage("\nError: Unable to open file for loading.");
+
+    /**
+     * Validates saved state and applies it to the board and players. A
+     * save does not record the turn, so the opening turn is taken as over.
+     * @param data the saved state
+     * @return true if applied; false (with an error logged) if invalid
+     */
+    public boolean loadSaveData(SaveData data) {
+        return loadSaveData(data, Rules.OPEN_TURN);
+    }
+
+
+    /**
+     * Validates saved state and applies it to the board and players.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>Check size; set it, then both row masks.</li>
+     *   <li>Set both tournament scores.</li>
+     *   <li>Set first/next flags and the handicap square.</li>
+     *   <li>Advance the turn counter to turn.</li>
+     * </ol>
+     *
+     * @param data the saved state
+     * @param turn the board's turn counter, e.g. from an autosave journal
+     * @return true if applied; false (with an error logged) if invalid
+     */
+    public boolean loadSaveData(SaveData data, int turn) {
+        if (data.getBoardSize() > Board.MAX_SIZE) {
+            log.logMessage(Log.Level.ERROR, "\nError: Invalid board data entry for Computer Player.");
             return false;
         }
+        board.setBoardSize(data.getBoardSize());
+        if (!board.setRowMask(false, data.getComputerMask())) {
+            log.logMessage(Log.Level.ERROR, "\nError: Invalid board data entry for Computer Player.");
+            return false;
+        }
+        if (!board.setRowMask(true, data.getHumanMask())) {
+            log.logMessage(Log.Level.ERROR, "\nError: Invalid board data entry for Human Player.");
+            return false;
+        }
+        if (!computer.setTournamentScore(data.getComputerScore())) {
+            log.logMessage(Log.Level.ERROR, "\nError: Invalid score data entry for Computer Player.");
+            return false;
+        }
+        if (!human.setTournamentScore(data.getHumanScore())) {
+            log.logMessage(Log.Level.ERROR, "\nError: Invalid score data entry for Human Player.");
+            return false;
+        }
+        human.setIsFirst(data.getHumanFirst());
+        human.setIsNext(data.getHumanNext());
+        int handicap = data.getHandicapSquare();
+        board.setHandicapSquare(data.getHandicapHuman(), handicap);
+        // as in determineHandicap, a player holds the handicap square on its
+        // opponent's row, which it may not uncover during the opening turn
+        human.setHandicapSquare(data.getHandicapHuman() ? 0 : handicap);
+        computer.setHandicapSquare(data.getHandicapHuman() ? handicap : 0);
+        for (int i = 0; i < turn; i++)
+            board.incrementTurn();
+        return true;
+    }
+
+
+    /**
+     * @return the current game state, as a save file would hold it
+     */
+    public SaveData getSaveData() {
+        boolean handicapHuman = board.getHandicapSquare(true) != 0;
+        return new SaveData(board.getBoardSize(),
+                board.uncoveredMask(false), board.uncoveredMask(true),
+                computer.getTournamentScore(), human.getTournamentScore(),
+                human.getIsFirst(), human.getIsNext(),
+                handicapHuman, board.getHandicapSquare(handicapHuman));
     }
 
 
 
     /**
-     * Saves current game state into a text file.
+     * Saves current game state, in the binary format if filename ends in
+     * {@link SaveData#BINARY_EXTENSION} and in the text format otherwise.
      *
      * <p><strong>Pseudocode:</strong>
      * <ol>
+     *   <li>If binary → write getSaveData().toBytes() and skip to logging.</li>
      *   <li>Open PrintWriter on filename.</li>
      *   <li>Write "Computer:", its squares and score.</li>
      *   <li>Write "Human:", its squares and score.</li>
@@ -232,6 +285,15 @@ public class CanogaModel {
      * @param filename path to save file
      */
     public void saveGame(String filename) {
+        if (filename.endsWith(SaveData.BINARY_EXTENSION)) {
+            try (FileOutputStream out = new FileOutputStream(filename)) {
+                out.write(getSaveData().toBytes());
+                log.logMessage(Log.Level.INFO, () -> "\nGame saved successfully to " + filename + ".");
+            } catch (IOException e) {
+                log.logMessage(Log.Level.ERROR, "\nError: Unable to open file for saving.");
+            }
+            return;
+        }
         try (PrintWriter pw = new PrintWriter(new FileWriter(filename))) {
             pw.println("Computer:");
             pw.print("  Squares: ");
@@ -250,9 +312,9 @@ public class CanogaModel {
             pw.println("First Turn: " + (human.getIsFirst() ? "Human" : "Computer"));
             pw.println("Next Turn: " + (human.getIsNext() ? "Human" : "Computer"));
 
-            log.logMessage("\nGame saved successfully to " + filename + ".");
+            log.logMessage(Log.Level.INFO, () -> "\nGame saved successfully to " + filename + ".");
         } catch (IOException e) {
-            log.logMessage("\nError: Unable to open file for saving.");
+            log.logMessage(Log.Level.ERROR, "\nError: Unable to open file for saving.");
         }
     }
 
@@ -271,12 +333,13 @@ public class CanogaModel {
     public void determineFirstPlayer() {
         log.logMessage("\nDetermining first player...");
         int humanRoll, computerRoll;
-        Random rand = new Random();
         do {
-            humanRoll = (rand.nextInt(6) + 1) + (rand.nextInt(6) + 1);
-            computerRoll = (rand.nextInt(6) + 1) + (rand.nextInt(6) + 1);
-            log.logMessage("Human rolled: " + humanRoll);
-            log.logMessage("Computer rolled: " + computerRoll);
+            int humanDice = dice.roll(2);
+            int computerDice = dice.roll(2);
+            log.logMessage(Log.Level.INFO, () -> "Human rolled: " + humanDice);
+            log.logMessage(Log.Level.INFO, () -> "Computer rolled: " + computerDice);
+            humanRoll = humanDice;
+            computerRoll = computerDice;
             if (humanRoll == computerRoll)
                 log.logMessage("\nTie in the roll! Time to roll again!\n");
         } while (humanRoll == computerRoll);
@@ -338,12 +401,14 @@ public class CanogaModel {
             }
             if (humanPreviousFirst) {
                 board.coverSquare(false, handicapSquare);
-                log.logMessage("\nAdvantage given to computer player! The square " + handicapSquare + " has been covered!");
+                board.setHandicapSquare(false, handicapSquare);
+                log.logMessage(Log.Level.INFO, () -> "\nAdvantage given to computer player! The square " + handicapSquare + " has been covered!");
                 human.setHandicapSquare(handicapSquare);
                 computer.setHandicapSquare(0);
             } else {
                 board.coverSquare(true, handicapSquare);
-                log.logMessage("\nAdvantage given to human player! The square " + handicapSquare + " has been covered!");
+                board.setHandicapSquare(true, handicapSquare);
+                log.logMessage(Log.Level.INFO, () -> "\nAdvantage given to human player! The square " + handicapSquare + " has been covered!");
                 computer.setHandicapSquare(handicapSquare);
                 human.setHandicapSquare(0);
             }
@@ -354,12 +419,14 @@ public class CanogaModel {
             }
             if (humanPreviousFirst) {
                 board.coverSquare(false, handicapSquare);
-                log.logMessage("\nAdvantage given to computer player! The square " + handicapSquare + " has been covered!");
+                board.setHandicapSquare(false, handicapSquare);
+                log.logMessage(Log.Level.INFO, () -> "\nAdvantage given to computer player! The square " + handicapSquare + " has been covered!");
                 human.setHandicapSquare(handicapSquare);
                 computer.setHandicapSquare(0);
             } else {
                 board.coverSquare(true, handicapSquare);
-                log.logMessage("\nAdvantage given to human player! The square " + handicapSquare + " has been covered!");
+                board.setHandicapSquare(true, handicapSquare);
+                log.logMessage(Log.Level.INFO, () -> "\nAdvantage given to human player! The square " + handicapSquare + " has been covered!");
                 computer.setHandicapSquare(handicapSquare);
                 human.setHandicapSquare(0);
             }
@@ -376,18 +443,19 @@ public class CanogaModel {
         int tens = num / 10;
         int ones = num % 10;
         int sum = tens + ones;
-        log.logMessage("\n\nScore was " + num + " last round. The tens is " + tens + ", the ones is " + ones + ". The total of the digits is " + sum + ".");
-        if (sum > board.getBoardSize()) {
-            sum = sum % board.getBoardSize();
-            log.logMessage("\nSince this sum is greater than the size of the board, we will wrap the advantage square! New value: " + sum);
-        }
-        return sum;
+        log.logMessage(Log.Level.INFO, () -> "\n\nScore was " + num + " last round. The tens is " + tens + ", the ones is " + ones + ". The total of the digits is " + sum + ".");
+        if (sum <= board.getBoardSize())
+            return sum;
+        int wrapped = sum % board.getBoardSize();
+        log.logMessage(Log.Level.INFO, () -> "\nSince this sum is greater than the size of the board, we will wrap the advantage square! New value: " + wrapped);
+        return wrapped;
     }
 
 
 
     /**
-     * Starts a round: resets board and determines first player (and handicap).
+     * Starts a round: resets board, determines first player (and handicap),
+     * and reports the round start to the event listener.
      * @param roundNum current round number (1 = new tournament)
      */
     public void startGame(int roundNum) {
@@ -401,6 +469,13 @@ public class CanogaModel {
             determineFirstPlayer();
         }
 
+        if (events != null) {
+            events.onRoundStart(roundNum, board.getBoardSize(), human.getIsFirst());
+            if (board.getHandicapSquare(true) != 0)
+                events.onHandicap(true, board.getHandicapSquare(true));
+            if (board.getHandicapSquare(false) != 0)
+                events.onHandicap(false, board.getHandicapSquare(false));
+        }
     }
 
 
@@ -416,7 +491,7 @@ public class CanogaModel {
         {
             for (int roll : manualRolls)
             {
-                log.logMessage(String.valueOf(roll));
+                log.logMessage(Log.Level.INFO, () -> String.valueOf(roll));
             }
             while (turnActive)
             {
@@ -426,12 +501,12 @@ public class CanogaModel {
             }
         }
         else {
-            log.logMessage("Manual Rolls are empty!");
+            log.logMessage(Log.Level.DEBUG, "Manual Rolls are empty!");
         }
 
         while (turnActive)
         {
-            int diceSum = computer.rollDice(computer.chooseNumDice(false), log);
+            int diceSum = computer.rollDice(computer.decideNumDice(), log);
             turnActive = computer.makeMove(null, diceSum, computer.shouldCoverOwnSquares(false, diceSum), log);
         }
 
@@ -445,6 +520,8 @@ public class CanogaModel {
         human.setIsNext(true);
         computer.setIsNext(false);
         getBoard().incrementTurn();
+        if (events != null)
+            events.onTurnEnd(false);
         log.logMessage("\nHuman's turn!");
         return true;
     }
@@ -473,18 +550,22 @@ public class CanogaModel {
         if (isHuman)
         {
             if (human.checkNoMovesAvailable(true, diceSum)) {
-                log.logMessage("\n\nNo available squares to cover or uncover that add up to " + diceSum + ". Turn ended.\n");
+                log.logMessage(Log.Level.INFO, () -> "\n\nNo available squares to cover or uncover that add up to " + diceSum + ". Turn ended.\n");
                 human.setIsNext(false);
                 computer.setIsNext(true);
+                if (events != null)
+                    events.onTurnEnd(true);
                 return false;
             }
 
         }
         else {
             if (computer.checkNoMovesAvailable(false, diceSum)) {
-                log.logMessage("\n\nNo available squares to cover or uncover that add up to " + diceSum + ". Turn ended.\n");
+                log.logMessage(Log.Level.INFO, () -> "\n\nNo available squares to cover or uncover that add up to " + diceSum + ". Turn ended.\n");
                 human.setIsNext(true);
                 computer.setIsNext(false);
+                if (events != null)
+                    events.onTurnEnd(false);
                 return false;
             }
 
@@ -495,6 +576,13 @@ public class CanogaModel {
 
     /** Prints advice on choosing 1 vs. 2 dice for the human. */
     public void numDiceHelp() {
+        WinTable table = winTable();
+        if (table != null) {
+            long rated = table.rateNumDice(board, true);
+            log.logMessage(Log.Level.INFO, () -> "\nHelp: It is best to roll " + WinTable.ratedChoice(rated) + " dice. With perfect play from here, that gives you about a "
+                    + Math.round(WinTable.ratedValue(rated) * 100) + "% chance of winning the round.");
+            return;
+        }
         if (human.chooseNumDice(true) == 1) {
             log.logMessage("\nHelp: It is best to roll one dice since the sum of your squares is 6 or lower.");
         } else {
@@ -511,8 +599,16 @@ public class CanogaModel {
         if (board.getTurn() <= 1)
             coverHelp = true;
 
+        WinTable table = winTable();
+        long rated = table != null ? table.rateMove(board, true, diceSum) : 0;
+        int bestMove = table != null ? WinTable.ratedChoice(rated) : Move.NONE;
+
         if (winMove != null && !winMove.isEmpty() && board.getTurn() > 1) {
-            log.logMessage("\nHelp: You should definitely " + (human.getWonByCover() ? "cover" : "uncover") + "! You have a winning move!");
+            boolean byCover = human.getWonByCover();
+            log.logMessage(Log.Level.INFO, () -> "\nHelp: You should definitely " + (byCover ? "cover" : "uncover") + "! You have a winning move!");
+        } else if (bestMove != Move.NONE) {
+            log.logMessage(Log.Level.INFO, () -> "\nHelp: It is best to " + (Move.isCover(bestMove) ? "cover" : "uncover") + ". With perfect play from here, that gives you about a "
+                    + Math.round(WinTable.ratedValue(rated) * 100) + "% chance of winning the round.");
         } else if (coverHelp) {
             log.logMessage("\nHelp: It is best to cover, as you have more cover moves that lead to victory.");
         } else {
@@ -553,9 +649,10 @@ public class CanogaModel {
 
         ArrayList<ArrayList<Integer>> possibleMoves = human.allValidMoves(available, diceSum);
         if (possibleMoves.isEmpty()) {
-            log.logMessage("No possible " + (isCover ? "cover" : "uncover") +
+            boolean tried = isCover;
+            log.logMessage(Log.Level.INFO, () -> "No possible " + (tried ? "cover" : "uncover") +
                     " moves that add up to " + diceSum + "! Switching to "
-                    + (!isCover ? "cover" : "uncover") + "...");
+                    + (!tried ? "cover" : "uncover") + "...");
             return !isCover;
         }
 
@@ -578,20 +675,31 @@ public class CanogaModel {
 
         ArrayList<ArrayList<Integer>> possibleMoves = human.allValidMoves(available, diceSum);
         if (possibleMoves.isEmpty()) {
-            log.logMessage("No available squares to " + (isCover ? "cover" : "uncover") + ".");
+            log.logMessage(Log.Level.INFO, () -> "No available squares to " + (isCover ? "cover" : "uncover") + ".");
             return;
         }
 
         human.displayValidMoves(possibleMoves, log);
         if (!winMove.isEmpty()) {
-            StringBuilder winSb = new StringBuilder("\nHelp: You can win with the following move: { ");
-            for (int i = 0; i < winMove.size(); i++) {
-                winSb.append(winMove.get(i));
-                if (i < winMove.size() - 1)
-                    winSb.append(", ");
-            }
-            winSb.append(" }");
-            log.logMessage(winSb.toString());
+            log.logMessage(Log.Level.INFO, () -> {
+                StringBuilder winSb = new StringBuilder("\nHelp: You can win with the following move: { ");
+                for (int i = 0; i < winMove.size(); i++) {
+                    winSb.append(winMove.get(i));
+                    if (i < winMove.size() - 1)
+                        winSb.append(", ");
+                }
+                winSb.append(" }");
+                return winSb.toString();
+            });
+            return;
+        }
+
+        WinTable table = winTable();
+        long rated = table != null ? table.rateMove(board, true, diceSum, isCover) : 0;
+        int bestMove = table != null ? WinTable.ratedChoice(rated) : Move.NONE;
+        if (bestMove != Move.NONE) {
+            log.logMessage(Log.Level.INFO, () -> "\nHelp: The best move is " + Move.toString(bestMove) + ". With perfect play from here, it gives you about a "
+                    + Math.round(WinTable.ratedValue(rated) * 100) + "% chance of winning the round.");
         } else {
             human.helpHumanPickBest(possibleMoves, isCover, log);
         }
@@ -637,28 +745,73 @@ public class CanogaModel {
             winnerScore = human.calculateRoundScore(true);
             human.setRoundScore(winnerScore);
             human.addTournamentScore(winnerScore);
-            log.logMessage("Human wins round " + roundNum + " and earns " + winnerScore + " points!");
+            if (events != null)
+                events.onRoundEnd(true, true, human.getWonByCover(), winnerScore);
+            log.logMessage(Log.Level.INFO, () -> "Human wins round " + roundNum + " and earns " + winnerScore + " points!");
         } else if (winner.equals("Computer")) {
             winnerScore = computer.calculateRoundScore(false);
             computer.setRoundScore(winnerScore);
             computer.addTournamentScore(winnerScore);
-            log.logMessage("Computer wins round " + roundNum + " and earns " + winnerScore + " points!");
+            if (events != null)
+                events.onRoundEnd(true, false, computer.getWonByCover(), winnerScore);
+            log.logMessage(Log.Level.INFO, () -> "Computer wins round " + roundNum + " and earns " + winnerScore + " points!");
         } else {
             log.logMessage("\n\nNo winner this round... Ending Tournament.");
             winnerScore = 0;
+            if (events != null)
+                events.onRoundEnd(false, false, false, 0);
             return;
         }
 
         log.logMessage("\n\n******** Updated Tournament Score ********");
-        log.logMessage("Rounds Played: " + roundNum);
-        log.logMessage("Computer score: " + computer.getTournamentScore());
-        log.logMessage("Human score: " + human.getTournamentScore());
+        log.logMessage(Log.Level.INFO, () -> "Rounds Played: " + roundNum);
+        log.logMessage(Log.Level.INFO, () -> "Computer score: " + computer.getTournamentScore());
+        log.logMessage(Log.Level.INFO, () -> "Human score: " + human.getTournamentScore());
         log.logMessage("******************************************\n");
 
         board.resetBoard();
     }
 
 
+    // ──────────────────────────────────────────────────────────────
+    // Private Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Reads a whole file into loadBuffer, growing it if the file is larger
+     * than any loaded before.
+     * @param channel the open file
+     * @return loadBuffer, flipped to hold exactly the file's bytes
+     * @throws IOException if reading fails
+     */
+    private ByteBuffer readFully(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE - 1)
+            throw new IOException("File too large");
+        if (loadBuffer == null || loadBuffer.capacity() <= size)
+            loadBuffer = ByteBuffer.allocate((int) Math.max(size + 1, LOAD_BUFFER_SIZE));
+        loadBuffer.clear();
+        int read;
+        do {
+            read = channel.read(loadBuffer);
+        } while (read > 0 && loadBuffer.hasRemaining());
+        loadBuffer.flip();
+        return loadBuffer;
+    }
+
+
+    /**
+     * The help methods run on the UI thread, so they only use a table that
+     * has already been loaded, e.g. preloaded as the round started.
+     * @return the win table for the current board size, or null if there
+     *         are no tables or none is loaded for this size
+     */
+    private WinTable winTable() {
+        return winTables != null ? winTables.loaded(board.getBoardSize()) : null;
+    }
+
+
     // ──────────────────────────────────────────────────────────────
     // Private Members
     // ──────────────────────────────────────────────────────────────
@@ -668,5 +821,12 @@ public class CanogaModel {
     private Computer computer;
     private Log log;
     private int winnerScore = 0;
+    private WinTables winTables = null;
+    private DiceSource dice;
+    private GameEventListener events = null;
+
+    // Reused by loadGame, so batch imports do not allocate per file
+    private static final int LOAD_BUFFER_SIZE = 1024;
+    private ByteBuffer loadBuffer = null;
 
 }
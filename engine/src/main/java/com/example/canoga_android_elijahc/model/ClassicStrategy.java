@@ -0,0 +1,96 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    ClassicStrategy.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+import java.util.ArrayList;
+
+
+/**
+ * The original one-ply heuristic: one die once the remaining squares add
+ * up to 6 or less, cover or uncover by how many squares are left on each
+ * side, and then the fewest squares to cover or the most to uncover.
+ */
+public class ClassicStrategy implements ComputerStrategy {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    @Override
+    public String getName() {
+        return "Classic";
+    }
+
+
+    @Override
+    public int chooseNumDice(Player player, boolean isHuman) {
+        return player.chooseNumDice(isHuman);
+    }
+
+
+    @Override
+    public boolean shouldCover(Player player, boolean isHuman, int diceSum) {
+        return player.shouldCoverOwnSquares(isHuman, diceSum);
+    }
+
+
+    @Override
+    public int chooseMove(Player player, boolean isHuman, int diceSum, boolean isCover) {
+        ArrayList<ArrayList<Integer>> validMoves = validMoves(player, isHuman, diceSum, isCover);
+        if (validMoves.isEmpty())
+            return Move.NONE;
+        ArrayList<Integer> chosen = player.chooseBestMove(validMoves, isCover);
+        return Move.byPlayer(Board.maskOf(chosen), isCover, isHuman);
+    }
+
+
+    @Override
+    public String explainNumDice(int numDice) {
+        if (numDice == 1)
+            return "the sum of their remaining squares to cover is 6 or less";
+        return "the sum of their remaining squares to cover is greater than 6";
+    }
+
+
+    @Override
+    public void explainMove(Player player, int move, Log log) {
+        if (!log.isEnabled(Log.Level.INFO))
+            return;
+        boolean isCover = Move.isCover(move);
+        log.logMessage("There are more " + (isCover ? "covering" : "uncovering") +
+                " moves that will lead the computer to victory, so it's the best option.");
+        int diceSum = Move.sum(move);
+        player.displayValidMoves(validMoves(player, Move.isHumanMover(move), diceSum, isCover), log);
+    }
+
+
+    @Override
+    public String describeMove(int move) {
+        if (Move.isCover(move))
+            return "This move covers the square with the highest individual value possible";
+        return "This move uncovers as many opponent squares as possible";
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** @return every move of one type for the roll */
+    private static ArrayList<ArrayList<Integer>> validMoves(Player player, boolean isHuman, int diceSum, boolean isCover) {
+        Board board = player.getBoard();
+        ArrayList<Integer> available = isCover
+                ? board.getAvailableSquares(isHuman, true)
+                : board.getAvailableSquares(!isHuman, false);
+        return player.allValidMoves(available, diceSum);
+    }
+
+}
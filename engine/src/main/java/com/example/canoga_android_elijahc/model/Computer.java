@@ -0,0 +1,200 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    Computer.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+import java.util.ArrayList;
+import java.util.Set;
+
+
+/**
+ * The AI opponent in Canoga, extending Player to implement
+ * automated dice‐rolling and move‐making logic.
+ */
+public class Computer extends Player {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constructors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Constructs a Computer linked to the given Board.
+     * @param b the Board instance this computer will play on
+     */
+    public Computer(Board b) {
+        super(b);
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Selectors & Mutators
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** @return the strategy making the computer's decisions */
+    public ComputerStrategy getStrategy() {
+        return strategy;
+    }
+
+
+    /**
+     * Replaces the computer's decision logic.
+     * @param s the strategy to use; null restores the classic heuristic
+     */
+    public void setStrategy(ComputerStrategy s) {
+        strategy = s != null ? s : new ClassicStrategy();
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Rolls dice for the computer, with context‐sensitive logging.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>Skip building any message if INFO is disabled.</li>
+     *   <li>If upper squares aren’t all covered, log requirement to roll 2 dice.</li>
+     *   <li>Else log the strategy's reason for rolling numDice dice.</li>
+     *   <li>Roll numDice dice from the player's dice source and sum them.</li>
+     *   <li>Log the total rolled and return it.</li>
+     * </ol>
+     *
+     * @param numDice the number of dice to roll (1 or 2)
+     * @param log     the Log for outputting messages
+     * @return the total of the dice rolled
+     */
+    @Override
+    public int rollDice(int numDice, Log log) {
+        boolean verbose = log.isEnabled(Log.Level.INFO);
+        if (verbose) {
+            if (!board.checkUpperSquares(false)) {
+                log.logMessage("\nThe computer must roll 2 dice (since at least one square from 7 to " +
+                        board.getBoardSize() + " is uncovered).");
+            } else {
+                log.logMessage("\nThe computer chooses to roll " + numDice + " dice.\nSquares 7 through " +
+                        board.getBoardSize() + " are covered, and " + strategy.explainNumDice(numDice));
+            }
+        }
+        int total = dice.roll(numDice);
+        if (events != null)
+            events.onRoll(false, numDice, total);
+        if (verbose)
+            log.logMessage("\nComputer rolled a total of " + total + " using " + numDice + " dice.");
+        return total;
+    }
+
+
+
+    /**
+     * Chooses 1 or 2 dice for the computer's next roll.
+     * @return 1 or 2, as decided by the strategy
+     */
+    public int decideNumDice() {
+        return strategy.chooseNumDice(this, false);
+    }
+
+
+
+    /**
+     * Executes the computer's move strategy for a given dice sum.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>Log start and print current board (only if INFO is enabled).</li>
+     *   <li>If no moves available, log and return false.</li>
+     *   <li>Check for an instant‐win move; if found, apply and return false.</li>
+     *   <li>Ask the strategy whether to cover or uncover (always cover before turn 2).</li>
+     *   <li>Ask the strategy for the move; if none, log skip and return false.</li>
+     *   <li>Log the choice and the strategy's rationale.</li>
+     *   <li>Apply the move and log the action and the strategy's remark.</li>
+     *   <li>Print updated board, record how a win was reached, and return whether the turn continues.</li>
+     * </ol>
+     *
+     * @param move    unused (null for AI)
+     * @param diceSum the total rolled this turn
+     * @param isCover initial preference to cover or uncover
+     * @param log     the Log for outputting messages
+     * @return true if the computer’s turn should continue; false otherwise
+     */
+    @Override
+    public boolean makeMove(Set<Integer> move, int diceSum, boolean isCover, Log log) {
+        boolean verbose = log.isEnabled(Log.Level.INFO);
+        if (verbose) {
+            log.logMessage("\nComputer's move. Dice sum: " + diceSum);
+            new BoardView(board, log).printBoard();
+        }
+
+        if (checkNoMovesAvailable(false, diceSum)) {
+            if (verbose)
+                log.logMessage("\n\nNo available squares to cover or uncover that add up to " + diceSum + ". Turn ended.\n");
+            return false;
+        }
+
+        ArrayList<Integer> instantWin = getInstantWinMove(false, diceSum);
+        if (!instantWin.isEmpty() && board.getTurn() > 1) {
+            if (verbose)
+                log.logMessage("Computer found a winning move by " + (getWonByCover() ? "covering" : "uncovering") +
+                        " the following square(s): " + instantWin);
+            int winning = Move.byPlayer(Board.maskOf(instantWin), getWonByCover(), false);
+            board.applyMove(winning);
+            if (events != null)
+                events.onMove(winning);
+            return false;
+        }
+
+        boolean coverOwn = strategy.shouldCover(this, false, diceSum);
+        if (!coverOwn && board.getTurn() <= 1)
+            coverOwn = true;
+
+        int chosen = strategy.chooseMove(this, false, diceSum, coverOwn);
+        if (chosen == Move.NONE) {
+            if (verbose)
+                log.logMessage("No available squares to " + (coverOwn ? "cover" : "uncover") + ". Turn skipped.");
+            return false;
+        }
+
+        if (verbose) {
+            log.logMessage("Computer chooses to " + (coverOwn ? "cover its own squares" : "uncover opponent's squares") + ".");
+            strategy.explainMove(this, chosen, log);
+        }
+
+        board.applyMove(chosen);
+        if (events != null)
+            events.onMove(chosen);
+        if (verbose) {
+            StringBuilder sb = new StringBuilder();
+            sb.append("Computer ").append(coverOwn ? "covered" : "uncovered").append(" squares: ");
+            for (Integer s : Move.toList(chosen))
+                sb.append(s).append(" ");
+            log.logMessage(sb.toString());
+            String remark = strategy.describeMove(chosen);
+            if (remark != null)
+                log.logMessage(remark);
+            new BoardView(board, log).printBoard();
+        }
+
+        if (checkWin(false)) {
+            setWonByCover(board.allSquaresCovered(false));
+            return false;
+        }
+        return true;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private & Protected Fields
+    // ──────────────────────────────────────────────────────────────
+
+    // Makes the dice, cover/uncover and move decisions
+    private ComputerStrategy strategy = new ClassicStrategy();
+
+}
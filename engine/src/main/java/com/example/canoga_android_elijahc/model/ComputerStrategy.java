@@ -0,0 +1,151 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    ComputerStrategy.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+
+/**
+ * The Computer's decision logic: how many dice to roll, whether to cover
+ * or uncover, and which squares to move.
+ *
+ * <p>{@link Computer} handles everything around the decisions (rolling,
+ * instant wins, applying moves, the game log), so a strategy only answers
+ * questions about the current board and explains its answers.
+ */
+public interface ComputerStrategy {
+
+    // ──────────────────────────────────────────────────────────────
+    // Difficulty Levels
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** The strategies a game can be started with. */
+    enum Level {
+        CLASSIC("Classic"),
+        LOOKAHEAD("Lookahead"),
+        MONTE_CARLO("Monte Carlo"),
+        PERFECT("Perfect");
+
+        Level(String displayName) {
+            this.displayName = displayName;
+        }
+
+        /** @return the name shown to the player */
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        /**
+         * Builds a fresh strategy for this level.
+         * @param tables solved win tables; only PERFECT uses them, and it
+         *               plays Classic on sizes without a table
+         * @return the new strategy
+         */
+        public ComputerStrategy create(WinTables tables) {
+            switch (this) {
+                case LOOKAHEAD:
+                    return new ExpectimaxStrategy(new ExpectimaxEngine());
+                case MONTE_CARLO:
+                    return new MctsStrategy(new MctsEngine());
+                case PERFECT:
+                    return new PerfectStrategy(tables);
+                default:
+                    return new ClassicStrategy();
+            }
+        }
+
+        /**
+         * @param name an enum constant name, e.g. from an intent extra
+         * @return the matching level, or CLASSIC if name is null or unknown
+         */
+        public static Level fromName(String name) {
+            for (Level level : values()) {
+                if (level.name().equals(name))
+                    return level;
+            }
+            return CLASSIC;
+        }
+
+        private final String displayName;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Decisions
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** @return the name shown to the player */
+    String getName();
+
+
+    /**
+     * @param player  the player whose turn it is
+     * @param isHuman true if that player is the human
+     * @return 1 or 2 dice
+     */
+    int chooseNumDice(Player player, boolean isHuman);
+
+
+    /**
+     * @param player  the player whose turn it is
+     * @param isHuman true if that player is the human
+     * @param diceSum the rolled total
+     * @return true to cover own squares; false to uncover the opponent's
+     */
+    boolean shouldCover(Player player, boolean isHuman, int diceSum);
+
+
+    /**
+     * @param player  the player whose turn it is
+     * @param isHuman true if that player is the human
+     * @param diceSum the rolled total
+     * @param isCover the move type decided by shouldCover
+     * @return the packed {@link Move} to play, or Move.NONE if there is none
+     */
+    int chooseMove(Player player, boolean isHuman, int diceSum, boolean isCover);
+
+
+    /**
+     * Asks a decision in progress on another thread to stop at its next
+     * check and answer with what it has, and every later decision to stop
+     * as early as it can; e.g. when the game screen closes while the
+     * computer is thinking. Strategies that do not search ignore it.
+     */
+    default void cancel() {
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Explanations
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param numDice the dice count chosen once squares 7 and up are covered
+     * @return the reason, finishing "Squares 7 through N are covered, and ..."
+     */
+    String explainNumDice(int numDice);
+
+
+    /**
+     * Logs why a move was chosen, before it is applied.
+     * @param player the player making the move
+     * @param move   the packed move
+     * @param log    the Log for outputting messages
+     */
+    void explainMove(Player player, int move, Log log);
+
+
+    /**
+     * @param move the packed move just applied
+     * @return a closing remark about the move, or null for none
+     */
+    String describeMove(int move);
+
+}
@@ -0,0 +1,37 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    DiceSource.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+/**
+ * Where the game's dice come from. The model hands one source to both
+ * players, so every roll of a game, including the roll for first player,
+ * is drawn from it in order.
+ *
+ * <p>Sources are not thread-safe; each game, or each simulator thread,
+ * owns its own.
+ */
+public interface DiceSource {
+
+    /** @return one die, 1 to 6 */
+    int rollDie();
+
+
+    /**
+     * Rolls several dice.
+     * @param numDice how many dice to roll
+     * @return their total
+     */
+    default int roll(int numDice) {
+        int total = 0;
+        for (int i = 0; i < numDice; i++)
+            total += rollDie();
+        return total;
+    }
+
+}
@@ -0,0 +1,415 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    ExpectimaxEngine.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+
+/**
+ * Search-based decision engine: expectimax over dice rolls.
+ *
+ * <p>The tree alternates three kinds of node, all valued as the mover's
+ * probability of winning the round:
+ * <ul>
+ *   <li>dice choice – roll one die (when allowed) or two;</li>
+ *   <li>chance – weighted average over the sums those dice can show;</li>
+ *   <li>move choice – best cover/uncover move for the sum; with no legal
+ *       move the turn passes and the value flips to 1 − opponent's value.</li>
+ * </ul>
+ * A legal move keeps the turn with the same player, so one search plans the
+ * whole multi-roll turn. Depth is counted in rolls; past it, positions are
+ * scored with a quick heuristic. Search deepens one roll at a time until
+ * the depth or time budget runs out, and answers from the deepest search
+ * that finished.
+ */
+public class ExpectimaxEngine {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constructors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param maxDepth     maximum number of rolls to look ahead (at least 1)
+     * @param budgetMillis wall-clock limit per decision; 0 for no limit
+     */
+    public ExpectimaxEngine(int maxDepth, long budgetMillis) {
+        this.maxDepth = Math.max(1, maxDepth);
+        this.budgetNanos = budgetMillis * 1_000_000L;
+    }
+
+
+    /**
+     * Default budget: 3 rolls ahead, at most 250 ms per decision. A turn
+     * can take several decisions, so callers with a UI should search off
+     * the UI thread.
+     */
+    public ExpectimaxEngine() {
+        this(3, 250);
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Selectors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** @return the mover's estimated win probability from the last decision */
+    public double getLastValue() {
+        return lastValue;
+    }
+
+
+    /** @return the deepest completed search depth of the last decision */
+    public int getLastDepth() {
+        return lastDepth;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Cuts the decision in progress short at its next clock check, from any
+     * thread, as if its time were up; later decisions stop after one depth.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+
+    /**
+     * Decides how many dice to roll.
+     * @param board   the live board (not modified)
+     * @param isHuman true if the human is the mover
+     * @return 1 or 2
+     */
+    public int chooseNumDice(Board board, boolean isHuman) {
+        load(board, isHuman);
+        if (!Rules.canRollOne(rootOwn, size))
+            return 2;
+
+        int best = 2;
+        startClock();
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            try {
+                double two = chance(rootOwn, rootOpp, rootTurn, 2, depth);
+                double one = chance(rootOwn, rootOpp, rootTurn, 1, depth);
+                best = one > two ? 1 : 2;
+                finish(Math.max(one, two), depth);
+            } catch (OutOfTime e) {
+                break;
+            }
+        }
+        return best;
+    }
+
+
+    /**
+     * Picks the move with the highest expected win probability.
+     * @param board   the live board (not modified)
+     * @param isHuman true if the human is the mover
+     * @param diceSum the rolled total
+     * @return the chosen packed {@link Move}, or Move.NONE if no move is legal
+     */
+    public int chooseMove(Board board, boolean isHuman, int diceSum) {
+        load(board, isHuman);
+        if (diceSum < 1 || diceSum > MoveTable.MAX_SUM)
+            return Move.NONE;
+
+        int best = Move.NONE;
+        startClock();
+        for (int depth = 0; depth < maxDepth; depth++) {
+            try {
+                int depthBest = Move.NONE;
+                double bestValue = -1;
+
+                int end = table.end(rootOwn, diceSum);
+                for (int i = table.start(rootOwn, diceSum); i < end; i++) {
+                    int m = table.moveAt(i);
+                    double v = afterMove(rootOwn & ~m, rootOpp, rootTurn, depth);
+                    if (v > bestValue) {
+                        bestValue = v;
+                        depthBest = Move.byPlayer(m, true, rootIsHuman);
+                    }
+                }
+                if (Rules.isOpen(rootTurn)) {
+                    int covered = ~rootOpp & full;
+                    end = table.end(covered, diceSum);
+                    for (int i = table.start(covered, diceSum); i < end; i++) {
+                        int m = table.moveAt(i);
+                        double v = afterMove(rootOwn, rootOpp | m, rootTurn, depth);
+                        if (v > bestValue) {
+                            bestValue = v;
+                            depthBest = Move.byPlayer(m, false, rootIsHuman);
+                        }
+                    }
+                }
+                best = depthBest;
+                finish(bestValue, depth + 1);
+            } catch (OutOfTime e) {
+                break;
+            }
+        }
+        return best;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Protected Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Scores a position past the search horizon.
+     *
+     * <p>Each side is scored by the expected number of turns it would need
+     * to cover its own row if nobody ever uncovered (see
+     * {@link #turnsToCover(int)}). Fewer turns is better; the side holding
+     * the dice gets a small head start.
+     *
+     * @param own  mover's uncovered mask
+     * @param opp  opponent's uncovered mask
+     * @param turn board turn counter
+     * @return estimated probability the mover wins
+     */
+    protected double evaluate(int own, int opp, int turn) {
+        return coverRace(coverTurns, own, opp);
+    }
+
+
+    /**
+     * The {@link #evaluate(int, int, int)} heuristic for callers that keep
+     * their own turnsToCover table.
+     * @param coverTurns table from {@link #turnsToCover(int)}
+     * @param own        mover's uncovered mask
+     * @param opp        opponent's uncovered mask
+     * @return estimated probability the mover wins
+     */
+    public static double coverRace(double[] coverTurns, int own, int opp) {
+        double edge = (coverTurns[opp] - coverTurns[own] + MOVER_EDGE) / HEURISTIC_SCALE;
+        return 1.0 / (1.0 + Math.exp(-edge));
+    }
+
+
+    /**
+     * Expected turns to cover each row mask playing cover-only solitaire,
+     * built once per board size.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>T(empty) = 0.</li>
+     *   <li>For masks in increasing order (every move leads to a smaller mask):</li>
+     *     <ol type="a">
+     *       <li>For each allowed dice count, a = Σ p(sum)·min T(after move) over
+     *           sums with a move, q = chance of a sum with no move.</li>
+     *       <li>Getting stuck costs a turn and restarts at the same mask, so
+     *           T = (a + q) / (1 − q); keep the better dice count.</li>
+     *     </ol>
+     * </ol>
+     *
+     * @param size squares per row
+     * @return table indexed by uncovered mask
+     */
+    public static double[] turnsToCover(int size) {
+        synchronized (COVER_TURNS) {
+            if (COVER_TURNS[size] != null)
+                return COVER_TURNS[size];
+
+            MoveTable table = MoveTable.forSize(size);
+            double[] turns = new double[1 << size];
+            for (int mask = 1; mask < turns.length; mask++) {
+                double best = MAX_TURNS;
+                for (int numDice = 1; numDice <= 2; numDice++) {
+                    if (numDice == 1 && !Rules.canRollOne(mask, size))
+                        continue;
+                    double progress = 0, stuck = 0;
+                    for (int sum = numDice; sum <= 6 * numDice; sum++) {
+                        double p = Rules.rollProbability(numDice, sum);
+                        double bestAfter = Double.MAX_VALUE;
+                        int end = table.end(mask, sum);
+                        for (int i = table.start(mask, sum); i < end; i++)
+                            bestAfter = Math.min(bestAfter, turns[mask & ~table.moveAt(i)]);
+                        if (bestAfter == Double.MAX_VALUE)
+                            stuck += p;
+                        else
+                            progress += p * bestAfter;
+                    }
+                    if (stuck < 1)
+                        best = Math.min(best, (progress + stuck) / (1 - stuck));
+                }
+                turns[mask] = best;
+            }
+            COVER_TURNS[size] = turns;
+            return turns;
+        }
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Dice-choice node: the mover takes whichever dice count is better.
+     * @return mover's win probability
+     */
+    private double decide(int own, int opp, int turn, int depth) {
+        double best = chance(own, opp, turn, 2, depth);
+        if (Rules.canRollOne(own, size))
+            best = Math.max(best, chance(own, opp, turn, 1, depth));
+        return best;
+    }
+
+
+    /**
+     * Chance node: average over every sum numDice can roll.
+     * @return mover's win probability
+     */
+    private double chance(int own, int opp, int turn, int numDice, int depth) {
+        if (depth == 0)
+            return evaluate(own, opp, turn);
+        tick();
+        double total = 0;
+        for (int sum = numDice; sum <= 6 * numDice; sum++)
+            total += Rules.rollProbability(numDice, sum) * afterRoll(own, opp, turn, sum, depth - 1);
+        return total;
+    }
+
+
+    /**
+     * Move-choice node for a rolled sum.
+     * @return mover's win probability
+     */
+    private double afterRoll(int own, int opp, int turn, int sum, int depth) {
+        double best = -1;
+
+        int end = table.end(own, sum);
+        for (int i = table.start(own, sum); i < end; i++) {
+            double v = afterMove(own & ~table.moveAt(i), opp, turn, depth);
+            if (v > best)
+                best = v;
+            if (best >= 1)
+                return 1;
+        }
+        if (Rules.isOpen(turn)) {
+            int covered = ~opp & full;
+            end = table.end(covered, sum);
+            for (int i = table.start(covered, sum); i < end; i++) {
+                double v = afterMove(own, opp | table.moveAt(i), turn, depth);
+                if (v > best)
+                    best = v;
+                if (best >= 1)
+                    return 1;
+            }
+        }
+
+        if (best < 0) {
+            // no legal move: the turn passes to the opponent
+            return 1 - decide(opp, own, Rules.nextTurn(turn), depth);
+        }
+        return best;
+    }
+
+
+    /**
+     * Value right after the mover's move: a win, or the mover rolls again.
+     * @return mover's win probability
+     */
+    private double afterMove(int own, int opp, int turn, int depth) {
+        if (Rules.isWin(own, opp, full, turn))
+            return 1;
+        return decide(own, opp, turn, depth);
+    }
+
+
+    /** Captures the root position from the live board. */
+    private void load(Board board, boolean isHuman) {
+        size = board.getBoardSize();
+        full = board.fullMask();
+        table = MoveTable.forSize(size);
+        coverTurns = turnsToCover(size);
+        rootIsHuman = isHuman;
+        rootOwn = board.uncoveredMask(isHuman);
+        rootOpp = board.uncoveredMask(!isHuman);
+        rootTurn = Math.min(board.getTurn(), Rules.OPEN_TURN);
+    }
+
+
+    /** Starts the decision's time budget. */
+    private void startClock() {
+        deadline = budgetNanos > 0 ? System.nanoTime() + budgetNanos : Long.MAX_VALUE;
+        nodes = 0;
+        lastValue = 0.5;
+        lastDepth = 0;
+    }
+
+
+    /** Records the result of a completed depth. */
+    private void finish(double value, int depth) {
+        lastValue = value;
+        lastDepth = depth;
+    }
+
+
+    /** Counts a node and aborts the current depth once time is up or the search is cancelled. */
+    private void tick() {
+        if ((++nodes & CLOCK_MASK) == 0 && lastDepth > 0 && (cancelled || System.nanoTime() > deadline))
+            throw OUT_OF_TIME;
+    }
+
+
+    /** Unwinds an unfinished depth; preallocated, no stack trace. Never serialized. */
+    @SuppressWarnings("serial")
+    private static final class OutOfTime extends RuntimeException {
+        OutOfTime() {
+            super(null, null, false, false);
+        }
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    // Heuristic shape: turn difference per logistic unit, the roll-holder's
+    // head start (in turns), and a cap for rows that can never be covered
+    private static final double HEURISTIC_SCALE = 1.0;
+    private static final double MOVER_EDGE = 0.5;
+    private static final double MAX_TURNS = 50.0;
+
+    // Lazily built turnsToCover tables, one per board size
+    private static final double[][] COVER_TURNS = new double[Board.MAX_SIZE + 1][];
+
+    // Check the clock every 1024 chance nodes
+    private static final int CLOCK_MASK = 1023;
+    private static final OutOfTime OUT_OF_TIME = new OutOfTime();
+
+    private final int maxDepth;
+    private final long budgetNanos;
+
+    private int size;
+    private int full;
+    private MoveTable table;
+    private double[] coverTurns;
+    private boolean rootIsHuman;
+    private int rootOwn;
+    private int rootOpp;
+    private int rootTurn;
+
+    private long deadline;
+    private long nodes;
+
+    // Set by cancel, possibly from another thread
+    private volatile boolean cancelled = false;
+    private double lastValue = 0.5;
+    private int lastDepth = 0;
+
+}
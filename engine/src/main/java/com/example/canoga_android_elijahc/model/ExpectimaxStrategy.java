@@ -0,0 +1,83 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    ExpectimaxStrategy.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+
+/**
+ * Plays the moves an {@link ExpectimaxEngine} rates highest.
+ */
+public class ExpectimaxStrategy extends SearchStrategy {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constructors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param engine the engine to consult; its depth and time budget set the strength
+     */
+    public ExpectimaxStrategy(ExpectimaxEngine engine) {
+        this.engine = engine;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    @Override
+    public String getName() {
+        return "Lookahead";
+    }
+
+
+    @Override
+    public String explainNumDice(int numDice) {
+        return "looking ahead this gives the better chance of winning.";
+    }
+
+
+    @Override
+    public void cancel() {
+        engine.cancel();
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Protected Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    @Override
+    protected int searchNumDice(Board board, boolean isHuman) {
+        return engine.chooseNumDice(board, isHuman);
+    }
+
+
+    @Override
+    protected int searchMove(Board board, boolean isHuman, int diceSum) {
+        return engine.chooseMove(board, isHuman, diceSum);
+    }
+
+
+    @Override
+    protected String explainValue() {
+        return "Looking " + engine.getLastDepth() + " roll(s) ahead, this move gives the computer about a "
+                + percent(engine.getLastValue()) + "% chance of winning the round.";
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    private final ExpectimaxEngine engine;
+
+}
@@ -0,0 +1,223 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    GameEvent.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+
+/**
+ * One entry of a game's history, as an object. The model reports events
+ * straight to a {@link GameEventListener} without building these; they
+ * come from {@link GameEventStream#toEvents()} for code that would rather
+ * hold a list than implement a listener.
+ */
+public abstract class GameEvent {
+
+    /**
+     * Passes this event to the matching listener method.
+     * @param listener the receiver
+     */
+    public abstract void dispatch(GameEventListener listener);
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Event Types
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** See {@link GameEventListener#onRoundStart}. */
+    public static final class RoundStartEvent extends GameEvent {
+
+        public RoundStartEvent(int roundNum, int boardSize, boolean humanFirst) {
+            this.roundNum = roundNum;
+            this.boardSize = boardSize;
+            this.humanFirst = humanFirst;
+        }
+
+        /** @return round number, 1 for a new tournament */
+        public int getRoundNum() {
+            return roundNum;
+        }
+
+        /** @return squares per row */
+        public int getBoardSize() {
+            return boardSize;
+        }
+
+        /** @return true if the human moves first */
+        public boolean isHumanFirst() {
+            return humanFirst;
+        }
+
+        @Override
+        public void dispatch(GameEventListener listener) {
+            listener.onRoundStart(roundNum, boardSize, humanFirst);
+        }
+
+        private final int roundNum;
+        private final int boardSize;
+        private final boolean humanFirst;
+    }
+
+
+    /** See {@link GameEventListener#onHandicap}. */
+    public static final class HandicapEvent extends GameEvent {
+
+        public HandicapEvent(boolean isHuman, int square) {
+            this.isHuman = isHuman;
+            this.square = square;
+        }
+
+        /** @return true if the square is on the human's row */
+        public boolean isHuman() {
+            return isHuman;
+        }
+
+        /** @return the square covered */
+        public int getSquare() {
+            return square;
+        }
+
+        @Override
+        public void dispatch(GameEventListener listener) {
+            listener.onHandicap(isHuman, square);
+        }
+
+        private final boolean isHuman;
+        private final int square;
+    }
+
+
+    /** See {@link GameEventListener#onRoll}. */
+    public static final class RollEvent extends GameEvent {
+
+        public RollEvent(boolean isHuman, int numDice, int total) {
+            this.isHuman = isHuman;
+            this.numDice = numDice;
+            this.total = total;
+        }
+
+        /** @return true if the human rolled */
+        public boolean isHuman() {
+            return isHuman;
+        }
+
+        /** @return 1 or 2 */
+        public int getNumDice() {
+            return numDice;
+        }
+
+        /** @return the sum rolled */
+        public int getTotal() {
+            return total;
+        }
+
+        @Override
+        public void dispatch(GameEventListener listener) {
+            listener.onRoll(isHuman, numDice, total);
+        }
+
+        private final boolean isHuman;
+        private final int numDice;
+        private final int total;
+    }
+
+
+    /** See {@link GameEventListener#onMove}. */
+    public static final class MoveEvent extends GameEvent {
+
+        public MoveEvent(int move) {
+            this.move = move;
+        }
+
+        /** @return the packed {@link Move} */
+        public int getMove() {
+            return move;
+        }
+
+        /** @return true if the mover was the human */
+        public boolean isHuman() {
+            return Move.isHumanMover(move);
+        }
+
+        /** @return true for a cover, false for an uncover */
+        public boolean isCover() {
+            return Move.isCover(move);
+        }
+
+        @Override
+        public void dispatch(GameEventListener listener) {
+            listener.onMove(move);
+        }
+
+        private final int move;
+    }
+
+
+    /** See {@link GameEventListener#onTurnEnd}. */
+    public static final class TurnEndEvent extends GameEvent {
+
+        public TurnEndEvent(boolean isHuman) {
+            this.isHuman = isHuman;
+        }
+
+        /** @return true if it was the human's turn */
+        public boolean isHuman() {
+            return isHuman;
+        }
+
+        @Override
+        public void dispatch(GameEventListener listener) {
+            listener.onTurnEnd(isHuman);
+        }
+
+        private final boolean isHuman;
+    }
+
+
+    /** See {@link GameEventListener#onRoundEnd}. */
+    public static final class RoundEndEvent extends GameEvent {
+
+        public RoundEndEvent(boolean hasWinner, boolean humanWon, boolean byCover, int score) {
+            this.hasWinner = hasWinner;
+            this.humanWon = humanWon;
+            this.byCover = byCover;
+            this.score = score;
+        }
+
+        /** @return false if the round ended with no winner */
+        public boolean hasWinner() {
+            return hasWinner;
+        }
+
+        /** @return true if the human won */
+        public boolean isHumanWon() {
+            return humanWon;
+        }
+
+        /** @return true if the win was by covering */
+        public boolean isByCover() {
+            return byCover;
+        }
+
+        /** @return points the winner earned */
+        public int getScore() {
+            return score;
+        }
+
+        @Override
+        public void dispatch(GameEventListener listener) {
+            listener.onRoundEnd(hasWinner, humanWon, byCover, score);
+        }
+
+        private final boolean hasWinner;
+        private final boolean humanWon;
+        private final boolean byCover;
+        private final int score;
+    }
+
+}
@@ -0,0 +1,78 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    GameEventListener.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+
+/**
+ * Receives a game's history as typed events, as the model plays it or as
+ * a {@link GameEventStream} replays it. Every method does nothing by
+ * default, so a listener overrides only the events it cares about.
+ *
+ * <p>The arguments are primitives so recording and scanning allocate
+ * nothing; {@link GameEvent} has an object for each kind when one is
+ * wanted.
+ */
+public interface GameEventListener {
+
+    /**
+     * A round begins, after the first player is decided.
+     * @param roundNum   round number, 1 for a new tournament
+     * @param boardSize  squares per row
+     * @param humanFirst true if the human moves first
+     */
+    default void onRoundStart(int roundNum, int boardSize, boolean humanFirst) {
+    }
+
+
+    /**
+     * A square is covered before play as the round's handicap.
+     * @param isHuman true if the square is on the human's row
+     * @param square  the square covered
+     */
+    default void onHandicap(boolean isHuman, int square) {
+    }
+
+
+    /**
+     * A player rolls.
+     * @param isHuman true if the human rolled
+     * @param numDice 1 or 2
+     * @param total   the sum rolled
+     */
+    default void onRoll(boolean isHuman, int numDice, int total) {
+    }
+
+
+    /**
+     * A move is applied.
+     * @param move the packed {@link Move}; it records the row and the move type
+     */
+    default void onMove(int move) {
+    }
+
+
+    /**
+     * A player's turn ends without a win and play passes over.
+     * @param isHuman true if it was the human's turn
+     */
+    default void onTurnEnd(boolean isHuman) {
+    }
+
+
+    /**
+     * A round is scored.
+     * @param hasWinner true unless the round ended with no winner
+     * @param humanWon  true if the human won
+     * @param byCover   true if the win was by covering
+     * @param score     points the winner earned
+     */
+    default void onRoundEnd(boolean hasWinner, boolean humanWon, boolean byCover, int score) {
+    }
+
+}
@@ -0,0 +1,115 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    GameEventRenderer.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+
+/**
+ * Turns game events into one short line of text each, written to a
+ * {@link Log} at INFO. Used live as the model's listener, or afterwards
+ * through {@link GameEventStream#replay}, it gives a plain transcript of
+ * what happened without the model's advice and reasoning.
+ */
+public class GameEventRenderer implements GameEventListener {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constructors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param log where the lines go
+     */
+    public GameEventRenderer(Log log) {
+        this.log = log;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    @Override
+    public void onRoundStart(int roundNum, int boardSize, boolean humanFirst) {
+        if (log.isEnabled(Log.Level.INFO))
+            log.logMessage("\n=======Round " + roundNum + "======= (" + boardSize + " squares, "
+                    + player(humanFirst) + " first)");
+    }
+
+
+    @Override
+    public void onHandicap(boolean isHuman, int square) {
+        if (log.isEnabled(Log.Level.INFO))
+            log.logMessage("Handicap: square " + square + " covered on the " + row(isHuman) + ".");
+    }
+
+
+    @Override
+    public void onRoll(boolean isHuman, int numDice, int total) {
+        if (log.isEnabled(Log.Level.INFO))
+            log.logMessage(player(isHuman) + " rolled " + total + " with " + numDice + (numDice == 1 ? " die." : " dice."));
+    }
+
+
+    @Override
+    public void onMove(int move) {
+        if (!log.isEnabled(Log.Level.INFO))
+            return;
+        StringBuilder sb = new StringBuilder();
+        sb.append(player(Move.isHumanMover(move)))
+                .append(Move.isCover(move) ? " covered" : " uncovered");
+        for (Integer sq : Move.toList(move))
+            sb.append(' ').append(sq);
+        sb.append(" on the ").append(row(Move.isHumanRow(move))).append('.');
+        log.logMessage(sb.toString());
+    }
+
+
+    @Override
+    public void onTurnEnd(boolean isHuman) {
+        if (log.isEnabled(Log.Level.INFO))
+            log.logMessage(player(isHuman) + "'s turn ends.");
+    }
+
+
+    @Override
+    public void onRoundEnd(boolean hasWinner, boolean humanWon, boolean byCover, int score) {
+        if (!log.isEnabled(Log.Level.INFO))
+            return;
+        if (!hasWinner) {
+            log.logMessage("No winner this round.");
+            return;
+        }
+        log.logMessage(player(humanWon) + " wins the round by " + (byCover ? "covering" : "uncovering")
+                + " and earns " + score + " points.");
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    private static String player(boolean isHuman) {
+        return isHuman ? "Human" : "Computer";
+    }
+
+
+    private static String row(boolean isHuman) {
+        return isHuman ? "human's row" : "computer's row";
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    private final Log log;
+
+}
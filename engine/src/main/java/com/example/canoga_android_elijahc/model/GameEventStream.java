@@ -0,0 +1,356 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    GameEventStream.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * A game's history recorded as compact binary events. As a
+ * {@link GameEventListener} it appends every event it is told about;
+ * {@link #replay} reads them back to any other listener, e.g. a
+ * {@link GameEventRenderer} for text or a statistics pass.
+ *
+ * <p>Each event is one header byte, the type in the top three bits and
+ * up to five flags below, followed by a fixed payload for that type:
+ * <pre>
+ *   type         flags                       payload              bytes
+ *   ROUND_START  human first                 size, round (2, LE)  4
+ *   HANDICAP     human row                   square               2
+ *   ROLL         human, two dice             total                2
+ *   MOVE         cover, human row            squares (2, LE)      3
+ *   TURN_END     human                       -                    1
+ *   ROUND_END    winner, human won, by cover score                2
+ * </pre>
+ * Since lengths depend only on the type, a scan is a table lookup per
+ * event, and streams of many games can simply be concatenated.
+ */
+public class GameEventStream implements GameEventListener {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constructors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** Creates an empty stream. */
+    public GameEventStream() {
+        this(256);
+    }
+
+
+    /**
+     * Creates an empty stream.
+     * @param capacity bytes to reserve before the buffer has to grow
+     */
+    public GameEventStream(int capacity) {
+        data = new byte[Math.max(16, capacity)];
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Wraps encoded events, e.g. read back from a file.
+     * @param bytes the encoding; copied
+     * @return a stream holding those events
+     * @throws IllegalArgumentException if the bytes are not whole events
+     */
+    public static GameEventStream fromBytes(byte[] bytes) {
+        GameEventStream stream = new GameEventStream(bytes.length);
+        System.arraycopy(bytes, 0, stream.data, 0, bytes.length);
+        stream.length = bytes.length;
+        stream.count = stream.countEvents();
+        return stream;
+    }
+
+
+    /**
+     * Wraps the whole events at the start of an encoding, dropping anything
+     * after the first cut-off or unknown event, e.g. the tail of a file
+     * that was being written when the process died.
+     * @param bytes the encoding; copied
+     * @return a stream holding the whole events
+     */
+    public static GameEventStream recover(byte[] bytes) {
+        GameEventStream stream = new GameEventStream(bytes.length);
+        System.arraycopy(bytes, 0, stream.data, 0, bytes.length);
+        int pos = 0;
+        while (pos < bytes.length) {
+            int type = (bytes[pos] & 0xFF) >>> TYPE_SHIFT;
+            if (type >= LENGTH.length || pos + LENGTH[type] > bytes.length)
+                break;
+            pos += LENGTH[type];
+            stream.count++;
+        }
+        stream.length = pos;
+        return stream;
+    }
+
+
+    /**
+     * Reads encoded events to the end of the input.
+     * @param in the source; not closed
+     * @return a stream holding those events
+     * @throws IOException if reading fails or the data is not whole events
+     */
+    public static GameEventStream read(InputStream in) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        int n;
+        while ((n = in.read(chunk)) > 0)
+            bytes.write(chunk, 0, n);
+        try {
+            return fromBytes(bytes.toByteArray());
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage());
+        }
+    }
+
+
+    /** @return bytes recorded */
+    public int length() {
+        return length;
+    }
+
+
+    /** @return events recorded */
+    public int getEventCount() {
+        return count;
+    }
+
+
+    /** Forgets every event, keeping the buffer. */
+    public void clear() {
+        length = 0;
+        count = 0;
+    }
+
+
+    /** @return a copy of the encoding */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(data, length);
+    }
+
+
+    /**
+     * Appends the encoding to an output, e.g. a file of many games.
+     * @param out the destination; not closed
+     * @throws IOException if writing fails
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(data, 0, length);
+    }
+
+
+    /**
+     * Reads every event back, in order, to a listener.
+     * @param listener the receiver
+     */
+    public void replay(GameEventListener listener) {
+        int pos = 0;
+        while (pos < length) {
+            int header = data[pos] & 0xFF;
+            int flags = header & FLAG_MASK;
+            switch (header >>> TYPE_SHIFT) {
+                case ROUND_START:
+                    listener.onRoundStart(u16(pos + 2), data[pos + 1] & 0xFF, (flags & 1) != 0);
+                    break;
+                case HANDICAP:
+                    listener.onHandicap((flags & 1) != 0, data[pos + 1] & 0xFF);
+                    break;
+                case ROLL:
+                    listener.onRoll((flags & 1) != 0, (flags & 2) != 0 ? 2 : 1, data[pos + 1] & 0xFF);
+                    break;
+                case MOVE:
+                    listener.onMove(Move.of(u16(pos + 1), (flags & 1) != 0, (flags & 2) != 0));
+                    break;
+                case TURN_END:
+                    listener.onTurnEnd((flags & 1) != 0);
+                    break;
+                default:
+                    listener.onRoundEnd((flags & 1) != 0, (flags & 2) != 0, (flags & 4) != 0, data[pos + 1] & 0xFF);
+                    break;
+            }
+            pos += LENGTH[header >>> TYPE_SHIFT];
+        }
+    }
+
+
+    /** @return every event as an object, in order */
+    public List<GameEvent> toEvents() {
+        ArrayList<GameEvent> events = new ArrayList<>(count);
+        replay(new GameEventListener() {
+            @Override
+            public void onRoundStart(int roundNum, int boardSize, boolean humanFirst) {
+                events.add(new GameEvent.RoundStartEvent(roundNum, boardSize, humanFirst));
+            }
+
+            @Override
+            public void onHandicap(boolean isHuman, int square) {
+                events.add(new GameEvent.HandicapEvent(isHuman, square));
+            }
+
+            @Override
+            public void onRoll(boolean isHuman, int numDice, int total) {
+                events.add(new GameEvent.RollEvent(isHuman, numDice, total));
+            }
+
+            @Override
+            public void onMove(int move) {
+                events.add(new GameEvent.MoveEvent(move));
+            }
+
+            @Override
+            public void onTurnEnd(boolean isHuman) {
+                events.add(new GameEvent.TurnEndEvent(isHuman));
+            }
+
+            @Override
+            public void onRoundEnd(boolean hasWinner, boolean humanWon, boolean byCover, int score) {
+                events.add(new GameEvent.RoundEndEvent(hasWinner, humanWon, byCover, score));
+            }
+        });
+        return events;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Recording
+    // ──────────────────────────────────────────────────────────────
+
+
+    @Override
+    public void onRoundStart(int roundNum, int boardSize, boolean humanFirst) {
+        int round = Math.min(roundNum, 0xFFFF);
+        int pos = begin(ROUND_START, flag(humanFirst, 0));
+        data[pos] = (byte) boardSize;
+        data[pos + 1] = (byte) round;
+        data[pos + 2] = (byte) (round >>> 8);
+    }
+
+
+    @Override
+    public void onHandicap(boolean isHuman, int square) {
+        int pos = begin(HANDICAP, flag(isHuman, 0));
+        data[pos] = (byte) square;
+    }
+
+
+    @Override
+    public void onRoll(boolean isHuman, int numDice, int total) {
+        int pos = begin(ROLL, flag(isHuman, 0) | flag(numDice == 2, 1));
+        data[pos] = (byte) total;
+    }
+
+
+    @Override
+    public void onMove(int move) {
+        int squares = Move.squares(move);
+        int pos = begin(MOVE, flag(Move.isCover(move), 0) | flag(Move.isHumanRow(move), 1));
+        data[pos] = (byte) squares;
+        data[pos + 1] = (byte) (squares >>> 8);
+    }
+
+
+    @Override
+    public void onTurnEnd(boolean isHuman) {
+        begin(TURN_END, flag(isHuman, 0));
+    }
+
+
+    @Override
+    public void onRoundEnd(boolean hasWinner, boolean humanWon, boolean byCover, int score) {
+        int pos = begin(ROUND_END, flag(hasWinner, 0) | flag(humanWon, 1) | flag(byCover, 2));
+        data[pos] = (byte) score;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** @return bit set if value is true */
+    private static int flag(boolean value, int bit) {
+        return value ? 1 << bit : 0;
+    }
+
+
+    /**
+     * Appends an event's header and reserves its payload.
+     * @return index of the first payload byte, for the caller to fill
+     */
+    private int begin(int type, int flags) {
+        int size = LENGTH[type];
+        if (length + size > data.length)
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + size));
+        int pos = length;
+        data[pos] = (byte) (type << TYPE_SHIFT | flags);
+        length += size;
+        count++;
+        return pos + 1;
+    }
+
+
+    /** @return the little-endian 16-bit value at pos */
+    private int u16(int pos) {
+        return (data[pos] & 0xFF) | (data[pos + 1] & 0xFF) << 8;
+    }
+
+
+    /**
+     * @return events in the buffer
+     * @throws IllegalArgumentException on an unknown type or a cut-off event
+     */
+    private int countEvents() {
+        int events = 0;
+        int pos = 0;
+        while (pos < length) {
+            int type = (data[pos] & 0xFF) >>> TYPE_SHIFT;
+            if (type >= LENGTH.length || pos + LENGTH[type] > length)
+                throw new IllegalArgumentException("Corrupt game event stream at byte " + pos);
+            pos += LENGTH[type];
+            events++;
+        }
+        return events;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    // Event types, stored in the top bits of the header byte
+    private static final int ROUND_START = 0;
+    private static final int HANDICAP = 1;
+    private static final int ROLL = 2;
+    private static final int MOVE = 3;
+    private static final int TURN_END = 4;
+    private static final int ROUND_END = 5;
+
+    private static final int TYPE_SHIFT = 5;
+    private static final int FLAG_MASK = (1 << TYPE_SHIFT) - 1;
+
+    // Encoded size of each type, header included
+    private static final int[] LENGTH = {4, 2, 2, 3, 1, 2};
+
+    private byte[] data;
+    private int length = 0;
+    private int count = 0;
+
+}
@@ -0,0 +1,743 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    GameJournal.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+/**
+ * Autosave as an append-only journal. Set as a model's event listener, it
+ * records every roll and move as it happens, so a move costs a few bytes
+ * instead of a rewrite of the save file, and nothing is lost if the
+ * process dies. The file is fsynced every {@value #SYNC_EVENTS} events and
+ * at the end of each turn and round.
+ *
+ * <p>The journal also tracks the game state the events lead to: the save
+ * fields plus the round, the turn counter and a roll not yet used, so a
+ * restore keeps the opening-turn rules and cannot be used to re-roll.
+ * Every {@value #SNAPSHOT_EVENTS} events, at the next turn or round
+ * boundary, it writes that state as a snapshot and starts an empty
+ * journal, so the journal never grows past one snapshot interval.
+ * {@link #restore(File)} replays the latest snapshot plus the journal tail.
+ *
+ * <p>Nothing is written until the first event, which starts the files
+ * with a snapshot; an autosave already in the directory is kept until
+ * then. All file work runs on one background writer thread shared by
+ * every journal, in the order it was asked for, so events cost the
+ * caller no IO. If writing fails, the error is logged and the journal
+ * stops; the game goes on without autosave.
+ *
+ * <p>Files, in the directory given:
+ * <ul>
+ *   <li>{@value #SNAPSHOT_FILE}: generation (8 bytes), then the state: a
+ *       binary {@link SaveData}, round (2), turn (4), flags (1: roll
+ *       pending, roll human, round over), roll dice (1), roll total (1)</li>
+ *   <li>{@value #JOURNAL_FILE}: magic "CNGJ", generation (8 bytes), then
+ *       events in the {@link GameEventStream} encoding</li>
+ * </ul>
+ * Each snapshot gets a new generation and is renamed into place before the
+ * journal is replaced, so after a crash between the two, the old journal's
+ * generation does not match and its events, already in the snapshot, are
+ * skipped. An event cut off by a crash is dropped.
+ */
+public class GameJournal implements GameEventListener, Closeable {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Nested Types
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * A journaled game: what a save holds, plus what a save leaves out
+     * but a resumed turn needs.
+     */
+    public static final class State {
+
+        /**
+         * A game between rolls, e.g. one just loaded from a save file.
+         * @param save  the game state, e.g. model.getSaveData()
+         * @param round the round being played
+         * @param turn  the board's turn counter
+         */
+        public State(SaveData save, int round, int turn) {
+            this(save, round, turn, false, false, 0, 0);
+        }
+
+        State(SaveData save, int round, int turn, boolean roundOver,
+              boolean rollHuman, int rollDice, int rollTotal) {
+            this.save = save;
+            this.round = round;
+            this.turn = turn;
+            this.roundOver = roundOver;
+            this.rollHuman = rollHuman;
+            this.rollDice = rollDice;
+            this.rollTotal = rollTotal;
+        }
+
+        /** @return the game state, ready for model.loadSaveData */
+        public SaveData getSave() {
+            return save;
+        }
+
+        /** @return the round being played, or just finished */
+        public int getRound() {
+            return round;
+        }
+
+        /** @return the board's turn counter */
+        public int getTurn() {
+            return turn;
+        }
+
+        /** @return true if the round has ended and the next is not yet started */
+        public boolean isRoundOver() {
+            return roundOver;
+        }
+
+        /** @return true if a player has rolled and not yet moved */
+        public boolean hasRoll() {
+            return rollDice != 0;
+        }
+
+        /** @return true if that roll is the human's */
+        public boolean isRollHuman() {
+            return rollHuman;
+        }
+
+        /** @return dice in that roll, 1 or 2; 0 if there is none */
+        public int getRollDice() {
+            return rollDice;
+        }
+
+        /** @return that roll's total */
+        public int getRollTotal() {
+            return rollTotal;
+        }
+
+        /** @return the state's {@value #LENGTH}-byte encoding */
+        byte[] toBytes() {
+            ByteBuffer buf = ByteBuffer.allocate(LENGTH);
+            buf.put(save.toBytes())
+                    .putShort((short) round)
+                    .putInt(turn)
+                    .put((byte) ((rollDice != 0 ? 1 : 0) | (rollHuman ? 2 : 0) | (roundOver ? 4 : 0)))
+                    .put((byte) rollDice)
+                    .put((byte) rollTotal);
+            return buf.array();
+        }
+
+        /**
+         * @param buf positioned at an encoded state; advanced past it
+         * @return the state
+         * @throws IOException if the save part is invalid
+         */
+        static State fromBytes(ByteBuffer buf) throws IOException {
+            byte[] saved = new byte[SaveData.BINARY_LENGTH];
+            buf.get(saved);
+            SaveData save = SaveData.fromBytes(saved, saved.length);
+            int round = buf.getShort() & 0xFFFF;
+            int turn = buf.getInt();
+            int flags = buf.get();
+            int rollDice = buf.get();
+            int rollTotal = buf.get();
+            if ((flags & 1) == 0)
+                rollDice = 0;
+            return new State(save, round, turn, (flags & 4) != 0, (flags & 2) != 0, rollDice, rollTotal);
+        }
+
+        // Encoded size: the save, round, turn, flags, roll dice and total
+        static final int LENGTH = SaveData.BINARY_LENGTH + 2 + 4 + 1 + 1 + 1;
+
+        private final SaveData save;
+        private final int round;
+        private final int turn;
+        private final boolean roundOver;
+        private final boolean rollHuman;
+        private final int rollDice;
+        private final int rollTotal;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constructors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Journals from the given state on. Nothing is written until the first
+     * event, which replaces any journal already in the directory.
+     * @param dir   directory holding the journal files; created if missing
+     * @param start the game as it stands now
+     * @param log   told if autosaving fails; called on the writer thread
+     */
+    public GameJournal(File dir, State start, Log log) {
+        this.dir = dir;
+        this.state = new Tracker(start);
+        this.log = log;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Static Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param dir a journal directory
+     * @return true if it holds a snapshot to restore; writes still queued
+     *         on the writer thread are not seen
+     */
+    public static boolean exists(File dir) {
+        return new File(dir, SNAPSHOT_FILE).isFile();
+    }
+
+
+    /**
+     * Rebuilds the latest journaled state, after any writes still queued
+     * by a closed journal have finished.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>On the writer thread, read the snapshot's generation and state.</li>
+     *   <li>If the journal's header has the same generation → replay its
+     *       whole events onto the snapshot state.</li>
+     *   <li>Wait for and return the resulting state.</li>
+     * </ol>
+     *
+     * A journal that ends between rounds restores to a fresh board with
+     * the updated scores, as the model leaves it after roundEnd, and
+     * {@link State#isRoundOver} set.
+     *
+     * @param dir the journal directory
+     * @return the state
+     * @throws IOException if there is no snapshot or it is corrupt
+     */
+    public static State restore(File dir) throws IOException {
+        try {
+            return WRITER.submit(() -> read(dir)).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException)
+                throw (IOException) e.getCause();
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while restoring the autosave.");
+        }
+    }
+
+
+    /**
+     * Removes the journal files, e.g. once a tournament is over, after any
+     * writes still queued by a closed journal.
+     * @param dir the journal directory
+     */
+    public static void delete(File dir) {
+        WRITER.execute(() -> {
+            new File(dir, JOURNAL_FILE).delete();
+            new File(dir, SNAPSHOT_FILE).delete();
+        });
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @return the state the journaled events have led to
+     */
+    public State getState() {
+        return state.toState();
+    }
+
+
+    /**
+     * Queues an fsync of every journaled event.
+     */
+    public void sync() {
+        WRITER.execute(() -> {
+            try {
+                syncNow();
+            } catch (IOException e) {
+                fail(e);
+            }
+        });
+    }
+
+
+    /**
+     * Queues a final sync and closes the journal; the files stay for
+     * {@link #restore}. Events reported afterwards are not written.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        WRITER.execute(() -> {
+            if (journal == null)
+                return;
+            try {
+                syncNow();
+                journal.close();
+                journal = null;
+            } catch (IOException e) {
+                fail(e);
+            }
+        });
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Journaling
+    // ──────────────────────────────────────────────────────────────
+
+
+    @Override
+    public void onRoundStart(int roundNum, int boardSize, boolean humanFirst) {
+        state.onRoundStart(roundNum, boardSize, humanFirst);
+        pending.onRoundStart(roundNum, boardSize, humanFirst);
+        append(false);
+    }
+
+
+    @Override
+    public void onHandicap(boolean isHuman, int square) {
+        state.onHandicap(isHuman, square);
+        pending.onHandicap(isHuman, square);
+        append(false);
+    }
+
+
+    @Override
+    public void onRoll(boolean isHuman, int numDice, int total) {
+        state.onRoll(isHuman, numDice, total);
+        pending.onRoll(isHuman, numDice, total);
+        append(false);
+    }
+
+
+    @Override
+    public void onMove(int move) {
+        state.onMove(move);
+        pending.onMove(move);
+        append(false);
+    }
+
+
+    @Override
+    public void onTurnEnd(boolean isHuman) {
+        state.onTurnEnd(isHuman);
+        pending.onTurnEnd(isHuman);
+        append(true);
+    }
+
+
+    @Override
+    public void onRoundEnd(boolean hasWinner, boolean humanWon, boolean byCover, int score) {
+        state.onRoundEnd(hasWinner, humanWon, byCover, score);
+        pending.onRoundEnd(hasWinner, humanWon, byCover, score);
+        append(true);
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Helpers
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Hands the event just recorded in pending to the writer thread.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>If the journal has failed or is closed → drop the event.</li>
+     *   <li>Take pending's bytes and clear it.</li>
+     *   <li>If this is the first event, or at a boundary with a snapshot
+     *       due → also take the tracked state, which includes the event.</li>
+     *   <li>Queue write with both.</li>
+     * </ol>
+     *
+     * @param boundary true at the end of a turn or round
+     */
+    private void append(boolean boundary) {
+        if (failed || closed) {
+            pending.clear();
+            return;
+        }
+        byte[] events = pending.toByteArray();
+        pending.clear();
+        sinceSnapshot++;
+        byte[] snapshot = null;
+        if (!started || boundary && sinceSnapshot >= SNAPSHOT_EVENTS) {
+            snapshot = state.toState().toBytes();
+            started = true;
+            sinceSnapshot = 0;
+        }
+        byte[] compacted = snapshot;
+        WRITER.execute(() -> write(events, compacted, boundary));
+    }
+
+
+    /**
+     * On the writer thread: records events, or a snapshot that already
+     * holds them.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>If the journal has failed → do nothing.</li>
+     *   <li>If given a snapshot → compact with it.</li>
+     *   <li>Else append the events; at a boundary or every SYNC_EVENTS → fsync.</li>
+     *   <li>On an IO error → fail.</li>
+     * </ol>
+     *
+     * @param events   encoded events
+     * @param snapshot encoded state after those events, or null
+     * @param boundary true at the end of a turn or round
+     */
+    private void write(byte[] events, byte[] snapshot, boolean boundary) {
+        if (failed)
+            return;
+        try {
+            if (snapshot != null) {
+                compact(snapshot);
+                return;
+            }
+            journalOut.write(events);
+            unsynced++;
+            if (boundary || unsynced >= SYNC_EVENTS)
+                syncNow();
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+
+    /**
+     * On the writer thread: forces every journaled event to disk.
+     * @throws IOException if syncing fails
+     */
+    private void syncNow() throws IOException {
+        if (journal == null || unsynced == 0)
+            return;
+        journal.force(false);
+        unsynced = 0;
+    }
+
+
+    /**
+     * On the writer thread: stops journaling after an IO error and says so.
+     * @param e the error
+     */
+    private void fail(IOException e) {
+        failed = true;
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException closing) {
+                // already failed; the error below is the one to report
+            }
+            journal = null;
+        }
+        log.logMessage(Log.Level.ERROR, "\nError: Autosave stopped, " + e.getMessage());
+    }
+
+
+    /**
+     * On the writer thread: writes a state as a new snapshot and starts an
+     * empty journal of the same generation.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>On the first call, create the directory and read the old generation.</li>
+     *   <li>Bump the generation.</li>
+     *   <li>Write generation + state to a temp file, fsync, rename over the snapshot.</li>
+     *   <li>Write a journal header to a temp file, fsync, rename over the journal.</li>
+     *   <li>Reopen the journal for appending.</li>
+     * </ol>
+     *
+     * @param encoded the state, as State.toBytes
+     * @throws IOException if writing fails
+     */
+    private void compact(byte[] encoded) throws IOException {
+        if (journal == null) {
+            dir.mkdirs();
+            generation = Math.max(generation, readGeneration(new File(dir, SNAPSHOT_FILE)));
+        }
+        generation++;
+        ByteBuffer snapshot = ByteBuffer.allocate(8 + State.LENGTH);
+        snapshot.putLong(generation).put(encoded);
+        replace(new File(dir, SNAPSHOT_FILE), snapshot.array());
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        header.put(MAGIC).putLong(generation);
+        if (journal != null)
+            journal.close();
+        journal = null;
+        replace(new File(dir, JOURNAL_FILE), header.array());
+        journal = new FileOutputStream(new File(dir, JOURNAL_FILE), true).getChannel();
+        journalOut = Channels.newOutputStream(journal);
+        unsynced = 0;
+    }
+
+
+    /**
+     * Atomically replaces a file's contents.
+     * @param file  the file to replace
+     * @param bytes its new contents
+     * @throws IOException if writing or renaming fails
+     */
+    private void replace(File file, byte[] bytes) throws IOException {
+        File tmp = new File(dir, file.getName() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(tmp)) {
+            out.write(bytes);
+            out.getFD().sync();
+        }
+        if (!tmp.renameTo(file))
+            throw new IOException("Unable to replace " + file);
+    }
+
+
+    /**
+     * Reads the latest journaled state; runs on the writer thread.
+     * @param dir the journal directory
+     * @return the snapshot's state with the matching journal replayed onto it
+     * @throws IOException if there is no snapshot or it is corrupt
+     */
+    private static State read(File dir) throws IOException {
+        byte[] snapshot = readAll(new File(dir, SNAPSHOT_FILE));
+        if (snapshot.length != 8 + State.LENGTH)
+            throw new IOException("Invalid journal snapshot.");
+        ByteBuffer buf = ByteBuffer.wrap(snapshot);
+        long gen = buf.getLong();
+        Tracker tracker = new Tracker(State.fromBytes(buf));
+
+        File journal = new File(dir, JOURNAL_FILE);
+        if (journal.isFile()) {
+            byte[] bytes = readAll(journal);
+            if (bytes.length >= HEADER_LENGTH && hasMagic(bytes)
+                    && ByteBuffer.wrap(bytes, MAGIC.length, 8).getLong() == gen) {
+                byte[] events = Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length);
+                GameEventStream.recover(events).replay(tracker);
+            }
+        }
+        return tracker.toState();
+    }
+
+
+    /**
+     * @param snapshot a snapshot file
+     * @return its generation, or 0 if it is missing or unreadable
+     */
+    private static long readGeneration(File snapshot) {
+        try (RandomAccessFile in = new RandomAccessFile(snapshot, "r")) {
+            return in.readLong();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+
+    /**
+     * @param file a file
+     * @return its whole contents
+     * @throws IOException if it cannot be read
+     */
+    private static byte[] readAll(File file) throws IOException {
+        try (FileInputStream in = new FileInputStream(file)) {
+            byte[] bytes = new byte[(int) in.getChannel().size()];
+            int n = 0, read;
+            while (n < bytes.length && (read = in.read(bytes, n, bytes.length - n)) > 0)
+                n += read;
+            return n == bytes.length ? bytes : Arrays.copyOf(bytes, n);
+        }
+    }
+
+
+    /**
+     * @param bytes a journal file's contents
+     * @return true if they start with the journal magic
+     */
+    private static boolean hasMagic(byte[] bytes) {
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (bytes[i] != MAGIC[i])
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * Game state as the events describe it: the same fields a journal
+     * state holds, updated the way the model and controller update them.
+     */
+    private static final class Tracker implements GameEventListener {
+
+        Tracker(State start) {
+            SaveData s = start.getSave();
+            size = s.getBoardSize();
+            rows[0] = s.getComputerMask();
+            rows[1] = s.getHumanMask();
+            scores[0] = s.getComputerScore();
+            scores[1] = s.getHumanScore();
+            humanFirst = s.getHumanFirst();
+            humanNext = s.getHumanNext();
+            handicapHuman = s.getHandicapHuman();
+            handicapSquare = s.getHandicapSquare();
+            round = start.getRound();
+            turn = start.getTurn();
+            roundOver = start.isRoundOver();
+            rollHuman = start.isRollHuman();
+            rollDice = start.getRollDice();
+            rollTotal = start.getRollTotal();
+        }
+
+        State toState() {
+            SaveData save = new SaveData(size, rows[0], rows[1], scores[0], scores[1],
+                    humanFirst, humanNext, handicapHuman, handicapSquare);
+            return new State(save, round, turn, roundOver, rollHuman, rollDice, rollTotal);
+        }
+
+        @Override
+        public void onRoundStart(int roundNum, int boardSize, boolean first) {
+            size = boardSize;
+            rows[0] = rows[1] = (1 << size) - 1;
+            humanFirst = humanNext = first;
+            handicapHuman = false;
+            handicapSquare = 0;
+            round = roundNum;
+            turn = 0;
+            roundOver = false;
+            rollDice = 0;
+        }
+
+        @Override
+        public void onHandicap(boolean isHuman, int square) {
+            rows[isHuman ? 1 : 0] &= ~(1 << (square - 1));
+            handicapHuman = isHuman;
+            handicapSquare = square;
+        }
+
+        @Override
+        public void onRoll(boolean isHuman, int numDice, int total) {
+            rollHuman = isHuman;
+            rollDice = numDice;
+            rollTotal = total;
+        }
+
+        @Override
+        public void onMove(int move) {
+            int row = Move.isHumanRow(move) ? 1 : 0;
+            if (Move.isCover(move))
+                rows[row] &= ~Move.squares(move);
+            else
+                rows[row] |= Move.squares(move);
+            rollDice = 0;
+        }
+
+        @Override
+        public void onTurnEnd(boolean isHuman) {
+            humanNext = !isHuman;
+            rollDice = 0;
+            // the turn counter moves as the computer's turn starts and
+            // again in computerMove as it ends; a human turn leaves it
+            if (!isHuman)
+                turn += 2;
+        }
+
+        @Override
+        public void onRoundEnd(boolean hasWinner, boolean humanWon, boolean byCover, int score) {
+            rollDice = 0;
+            if (!hasWinner)
+                return;
+            scores[humanWon ? 1 : 0] += score;
+            humanNext = !humanWon;
+            rows[0] = rows[1] = (1 << size) - 1;
+            handicapHuman = false;
+            handicapSquare = 0;
+            turn = 0;
+            roundOver = true;
+        }
+
+        // Indexed 0 for the computer, 1 for the human
+        private final int[] rows = new int[2];
+        private final int[] scores = new int[2];
+        private int size;
+        private boolean humanFirst, humanNext;
+        private boolean handicapHuman;
+        private int handicapSquare;
+        private int round;
+        private int turn;
+        private boolean roundOver;
+
+        // The last roll not yet used by a move or the turn's end; 0 dice if none
+        private boolean rollHuman;
+        private int rollDice;
+        private int rollTotal;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    // Events between fsyncs, at most
+    private static final int SYNC_EVENTS = 32;
+
+    // Events between snapshots, at least
+    private static final int SNAPSHOT_EVENTS = 512;
+
+    private static final String SNAPSHOT_FILE = "autosave.snapshot";
+    private static final String JOURNAL_FILE = "autosave.journal";
+
+    private static final byte[] MAGIC = {'C', 'N', 'G', 'J'};
+    private static final int HEADER_LENGTH = 4 + 8;
+
+    // Does every journal's file work in order, so a closed journal's last
+    // writes land before a later restore or delete of the same files
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "GameJournal writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final File dir;
+    private final Log log;
+
+    // Used by whichever thread reports the events
+    private final Tracker state;
+    private final GameEventStream pending = new GameEventStream(16);
+    private boolean started = false;
+    private int sinceSnapshot = 0;
+
+    // Used only on the writer thread
+    private FileChannel journal;
+    private OutputStream journalOut;
+    private long generation;
+    private int unsynced = 0;
+
+    // Set on the writer thread once an IO error stops the journal
+    private volatile boolean failed = false;
+
+    // Set by close, possibly while another thread is still reporting events
+    private volatile boolean closed = false;
+}
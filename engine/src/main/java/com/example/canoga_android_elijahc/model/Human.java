@@ -7,7 +7,6 @@
  ************************************************************/
 
 package com.example.canoga_android_elijahc.model;
-import java.util.Random;
 import java.util.Set;
 
 
@@ -41,12 +40,7 @@ public class Human extends Player {
      *
      * <p><strong>Pseudocode:</strong>
      * <ol>
-     *   <li>Initialize total = 0.</li>
-     *   <li>Repeat numDice times:</li>
-     *     <ol type="a">
-     *       <li>Generate random 1–6.</li>
-     *       <li>Add to total.</li>
-     *     </ol>
+     *   <li>Roll numDice dice from the player's dice source and total them.</li>
      *   <li>Log the result and return total.</li>
      * </ol>
      *
@@ -56,13 +50,10 @@ public class Human extends Player {
      */
     @Override
     public int rollDice(int numDice, Log log) {
-        int total = 0;
-        Random rand = new Random();
-        for (int i = 0; i < numDice; i++) {
-            int dice = rand.nextInt(6) + 1;
-            total += dice;
-        }
-        log.logMessage("\nYou rolled a total of " + total + " using " + numDice + " dice.");
+        int total = dice.roll(numDice);
+        if (events != null)
+            events.onRoll(true, numDice, total);
+        log.logMessage(Log.Level.INFO, () -> "\nYou rolled a total of " + total + " using " + numDice + " dice.");
         return total;
     }
 
@@ -117,18 +108,18 @@ public class Human extends Player {
         }
 
         //If valid, make move
+        int applied = Move.fromSquares(move, isCover, isCover);
+        board.applyMove(applied);
+        if (events != null)
+            events.onMove(applied);
+        if (!log.isEnabled(Log.Level.INFO))
+            return true;
         StringBuilder resultSb = new StringBuilder("\nYou ");
         resultSb.append(isCover ? "covered" : "uncovered").append(" squares: ");
-        for (Integer sq : move) {
-            if (isCover)
-                board.coverSquare(true, sq);
-            else
-                board.uncoverSquare(false, sq);
+        for (Integer sq : move)
             resultSb.append(sq).append(" ");
-        }
         log.logMessage(resultSb.toString());
-        BoardView updatedView = new BoardView(board, log);
-        updatedView.printBoard();
+        new BoardView(board, log).printBoard();
         return true;
     }
 
@@ -0,0 +1,86 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    Log.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+import java.util.function.Supplier;
+
+
+/**
+ * Logging interface for outputting game messages.
+ * Implementations handle where and how messages are displayed.
+ *
+ * <p>Plain {@link #logMessage(String)} calls are INFO messages. Call sites
+ * whose text is costly to build (board printouts, move lists, the
+ * computer's reasoning) check {@link #isEnabled(Level)} first or pass a
+ * {@link Supplier}, so with a level turned off nothing is built at all.
+ */
+public interface Log {
+
+    /** How important a message is, from least to most. */
+    enum Level {
+        /** Internal detail a player never needs to see. */
+        DEBUG,
+        /** Normal game narration: rolls, moves, board, scores. */
+        INFO,
+        /** Something went wrong, e.g. a file could not be loaded. */
+        ERROR
+    }
+
+
+    /** Discards everything and reports every level as disabled. */
+    Log OFF = new Log() {
+        @Override
+        public void logMessage(String message) {
+        }
+
+        @Override
+        public boolean isEnabled(Level level) {
+            return false;
+        }
+    };
+
+
+    /**
+     * Outputs a message to the game log.
+     * @param message the text to append to the log
+     */
+    void logMessage(String message);
+
+
+    /**
+     * @param level a message level
+     * @return true if messages of that level are shown; all are by default
+     */
+    default boolean isEnabled(Level level) {
+        return true;
+    }
+
+
+    /**
+     * Outputs a message if its level is enabled.
+     * @param level   the message's level
+     * @param message the text to append to the log
+     */
+    default void logMessage(Level level, String message) {
+        if (isEnabled(level))
+            logMessage(message);
+    }
+
+
+    /**
+     * Builds and outputs a message only if its level is enabled.
+     * @param level   the message's level
+     * @param message builds the text to append to the log
+     */
+    default void logMessage(Level level, Supplier<String> message) {
+        if (isEnabled(level))
+            logMessage(message.get());
+    }
+
+}
@@ -0,0 +1,347 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    LogStore.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+
+/**
+ * The game log as an indexed list of entries, one per logged message,
+ * backed by an append-only log file. Every entry is written to the file as
+ * it is added; only the newest are also kept in memory, and older ones are
+ * read back from the file on demand, so a list view showing a few rows at
+ * a time costs the same however long the tournament runs.
+ *
+ * <p>The file holds each entry as a 4-byte length and UTF-8 bytes. The
+ * offset of every {@value #BLOCK}th entry is appended to an index file
+ * next to it (the log file's name plus ".idx"), and the block last read
+ * back is cached, so paging through old history reads the file one block
+ * at a time. {@link #open(File)} reopens a finished log for reading
+ * without loading it, e.g. on the results screen.
+ *
+ * <p>Not thread-safe: the game fills it on the UI thread, which also
+ * reads it to draw the list.
+ */
+public class LogStore extends AbstractList<String> implements Log, RandomAccess, Closeable {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constructors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Starts a new, empty log.
+     * @param logFile   file the entries are written to; created or truncated
+     *                  now, along with its index file
+     * @param memoryCap entries also kept in memory, at least 1
+     * @throws UncheckedIOException if the files cannot be created
+     */
+    public LogStore(File logFile, int memoryCap) {
+        if (memoryCap < 1)
+            throw new IllegalArgumentException("Memory cap must be at least 1: " + memoryCap);
+        this.logFile = logFile;
+        this.recent = new String[memoryCap];
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(logFile)));
+            indexOut = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile(logFile))));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    /**
+     * Opens a log written by another LogStore for reading only. Just the
+     * index and the last block are read now; entries are read as they are
+     * asked for. A record cut short by a crash is ignored.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>Read the block offsets from the index file.</li>
+     *   <li>Count the whole records in the last block.</li>
+     *   <li>size = 64 per earlier block + that count.</li>
+     * </ol>
+     *
+     * @param logFile the log file
+     * @return a read-only store over it
+     * @throws IOException if either file cannot be read
+     */
+    public static LogStore open(File logFile) throws IOException {
+        LogStore store = new LogStore(logFile);
+        File index = indexFile(logFile);
+        int blocks = (int) (index.length() / 8);
+        store.blockOffsets = new long[Math.max(blocks, 1)];
+        try (DataInputStream in = new DataInputStream(new FileInputStream(index))) {
+            for (int b = 0; b < blocks; b++)
+                store.blockOffsets[b] = in.readLong();
+        }
+        store.reader = new RandomAccessFile(logFile, "r");
+        long end = store.reader.length();
+        store.writePos = blocks == 0 ? 0 : Math.min(store.blockOffsets[blocks - 1], end);
+        int last = 0;
+        store.reader.seek(store.writePos);
+        while (last < BLOCK && store.writePos + 4 <= end) {
+            int length = store.reader.readInt();
+            if (length < 0 || store.writePos + 4 + length > end)
+                break;
+            store.reader.skipBytes(length);
+            store.writePos += 4 + length;
+            last++;
+        }
+        store.size = blocks == 0 ? 0 : (blocks - 1) * BLOCK + last;
+        return store;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Adding Entries
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Adds a message as the newest entry.
+     * @param message the text to append to the log
+     */
+    @Override
+    public void logMessage(String message) {
+        add(message);
+    }
+
+
+    /**
+     * Adds an entry at the end: appends it to the log file and keeps it in
+     * memory in place of the oldest in-memory entry.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>If the entry starts a block → record and index the file offset.</li>
+     *   <li>Write its byte length and UTF-8 bytes.</li>
+     *   <li>Store it in the next ring slot, overwriting the oldest, and count it.</li>
+     * </ol>
+     *
+     * @param entry the text of the entry
+     * @return true, as required by {@link java.util.Collection#add}
+     * @throws UncheckedIOException if writing fails
+     * @throws IllegalStateException if the store was opened read-only
+     */
+    @Override
+    public boolean add(String entry) {
+        if (out == null)
+            throw new IllegalStateException("Log was opened read-only");
+        byte[] bytes = entry.getBytes(StandardCharsets.UTF_8);
+        try {
+            if (size % BLOCK == 0) {
+                int block = size / BLOCK;
+                if (block == blockOffsets.length)
+                    blockOffsets = Arrays.copyOf(blockOffsets, block * 2);
+                blockOffsets[block] = writePos;
+                indexOut.writeLong(writePos);
+            }
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        writePos += 4 + bytes.length;
+        recent[size % recent.length] = entry;
+        size++;
+        modCount++;
+        return true;
+    }
+
+
+    /**
+     * Pushes buffered entries out to the log file, so a reader opening it
+     * sees everything added so far.
+     * @throws UncheckedIOException if writing fails
+     */
+    public void flush() {
+        if (out == null)
+            return;
+        try {
+            out.flush();
+            indexOut.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Reading Entries
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @return total entries in the log
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+
+    /**
+     * @param index 0 for the oldest entry, size() - 1 for the newest
+     * @return the entry's text, read back from the log file if it is no
+     *         longer in memory
+     * @throws UncheckedIOException if reading the log file fails
+     */
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        if (index >= size - getMemoryCount())
+            return recent[index % recent.length];
+        int block = index / BLOCK;
+        if (block != cachedBlock || index % BLOCK >= cachedCount)
+            loadBlock(block);
+        return cached[index % BLOCK];
+    }
+
+
+    /**
+     * @return entries currently held in memory as well as in the file
+     */
+    public int getMemoryCount() {
+        return Math.min(size, recent.length);
+    }
+
+
+    /**
+     * @return the file the entries are written to
+     */
+    public File getFile() {
+        return logFile;
+    }
+
+
+    /**
+     * Flushes and closes the files. The log file is kept, so it can be
+     * reopened with {@link #open(File)}; the store must not be used
+     * afterwards.
+     */
+    @Override
+    public void close() {
+        try {
+            if (out != null) {
+                out.close();
+                indexOut.close();
+            }
+            if (reader != null)
+                reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Helpers
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Creates a read-only store with no entries yet; see {@link #open(File)}.
+     * @param logFile the log file
+     */
+    private LogStore(File logFile) {
+        this.logFile = logFile;
+        this.recent = new String[0];
+        this.out = null;
+        this.indexOut = null;
+    }
+
+
+    /**
+     * @param logFile a log file
+     * @return the index file kept next to it
+     */
+    private static File indexFile(File logFile) {
+        return new File(logFile.getPath() + ".idx");
+    }
+
+
+    /**
+     * Reads one block of entries from the log file into the cache. The
+     * newest block may still be filling, so only the entries written so
+     * far are read.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>Flush pending writes and open the file for reading if needed.</li>
+     *   <li>Read the block's bytes, up to the next block's offset, in one call.</li>
+     *   <li>Decode each length-prefixed entry into the cache.</li>
+     * </ol>
+     *
+     * @param block index of the block, i.e. entry index / BLOCK
+     */
+    private void loadBlock(int block) {
+        int count = Math.min(BLOCK, size - block * BLOCK);
+        long from = blockOffsets[block];
+        long to = block + 1 < (size + BLOCK - 1) / BLOCK ? blockOffsets[block + 1] : writePos;
+        byte[] bytes = new byte[(int) (to - from)];
+        try {
+            flush();
+            if (reader == null)
+                reader = new RandomAccessFile(logFile, "r");
+            reader.seek(from);
+            reader.readFully(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ByteBuffer buf = ByteBuffer.wrap(bytes);
+        for (int i = 0; i < count; i++) {
+            int length = buf.getInt();
+            cached[i] = new String(bytes, buf.position(), length, StandardCharsets.UTF_8);
+            buf.position(buf.position() + length);
+        }
+        cachedBlock = block;
+        cachedCount = count;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    // Entries per indexed block
+    private static final int BLOCK = 64;
+
+    private final File logFile;
+    private final DataOutputStream out, indexOut;
+    private RandomAccessFile reader;
+    private long writePos = 0;
+    private int size = 0;
+
+    // Ring of the newest entries; entry i is at recent[i % recent.length]
+    private final String[] recent;
+
+    // File offset of the first entry of each block
+    private long[] blockOffsets = new long[16];
+
+    // The block last read back from the file
+    private final String[] cached = new String[BLOCK];
+    private int cachedBlock = -1;
+    private int cachedCount = 0;
+}
@@ -0,0 +1,479 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    MctsEngine.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+import java.util.SplittableRandom;
+
+
+/**
+ * Monte Carlo Tree Search decision engine with an anytime time budget.
+ *
+ * <p>The tree mirrors the game's turn structure, seen from the player
+ * holding the dice as in {@link Rules}:
+ * <ul>
+ *   <li>decision nodes pick one die or two by UCB1;</li>
+ *   <li>chance nodes sample a sum with the real dice odds;</li>
+ *   <li>move nodes pick a cover/uncover move by UCB1; with no legal move the
+ *       turn passes to a decision node for the opponent.</li>
+ * </ul>
+ * New leaves are scored by one random playout: the mover takes any
+ * winning move, otherwise a uniformly random legal move, and rolls one
+ * die whenever the classic rule would. Playouts that run too long are
+ * scored with {@link ExpectimaxEngine#turnsToCover(int)}.
+ *
+ * <p>The subtree under the chosen action is kept, so the next decision in
+ * the same turn (the roll after a dice choice, the next dice choice after
+ * a move) starts from the statistics already gathered.
+ */
+public class MctsEngine {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constructors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param budgetMillis  wall-clock limit per decision; 0 for no limit
+     * @param maxIterations cap on playouts per decision; 0 for no cap
+     * @param seed          seed for dice and playout choices
+     */
+    public MctsEngine(long budgetMillis, int maxIterations, long seed) {
+        if (budgetMillis <= 0 && maxIterations <= 0)
+            throw new IllegalArgumentException("MCTS needs a time budget or an iteration cap.");
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.maxIterations = maxIterations;
+        this.random = new SplittableRandom(seed);
+    }
+
+
+    /**
+     * Default budget: 200 ms per decision. A turn can take several
+     * decisions, so callers with a UI should search off the UI thread.
+     */
+    public MctsEngine() {
+        this(200, 0, System.nanoTime());
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Selectors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** @return the mover's estimated win probability from the last decision */
+    public double getLastValue() {
+        return lastValue;
+    }
+
+
+    /** @return playouts run for the last decision, including reused ones */
+    public int getLastIterations() {
+        return lastIterations;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Ends the search in progress at its next clock check, from any thread,
+     * as if its time were up; later searches stop after their first playouts.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+
+    /**
+     * Decides how many dice to roll.
+     * @param board   the live board (not modified)
+     * @param isHuman true if the human is the mover
+     * @return 1 or 2
+     */
+    public int chooseNumDice(Board board, boolean isHuman) {
+        load(board, isHuman);
+        DecisionNode root = reusedDecision();
+        if (root == null)
+            root = new DecisionNode(rootOwn, rootOpp, rootTurn);
+        search(root);
+
+        int numDice = 2;
+        if (Rules.canRollOne(rootOwn, size) && root.diceVisits[1] > root.diceVisits[2])
+            numDice = 1;
+        lastValue = root.diceVisits[numDice] > 0
+                ? root.diceTotal[numDice] / root.diceVisits[numDice] : 0.5;
+        lastIterations = root.visits;
+
+        keptDecision = root;
+        keptMove = null;
+        return numDice;
+    }
+
+
+    /**
+     * Picks the move whose subtree was visited most.
+     * @param board   the live board (not modified)
+     * @param isHuman true if the human is the mover
+     * @param diceSum the rolled total
+     * @return the chosen packed {@link Move}, or Move.NONE if no move is legal
+     */
+    public int chooseMove(Board board, boolean isHuman, int diceSum) {
+        load(board, isHuman);
+        if (diceSum < 1 || diceSum > MoveTable.MAX_SUM)
+            return Move.NONE;
+
+        MoveNode root = reusedMoveNode(diceSum);
+        if (root == null)
+            root = new MoveNode(rootOwn, rootOpp, rootTurn, diceSum);
+        root.expand();
+        if (root.moves.length == 0) {
+            clearTree();
+            return Move.NONE;
+        }
+        search(root);
+
+        int best = 0;
+        for (int i = 1; i < root.moves.length; i++) {
+            if (root.visits[i] > root.visits[best])
+                best = i;
+        }
+        lastValue = root.visits[best] > 0 ? root.totals[best] / root.visits[best] : 0.5;
+        lastIterations = root.totalVisits;
+
+        // keep the chosen move's subtree for the next dice choice
+        keptDecision = null;
+        keptMove = root.children[best];
+        int squares = Move.squares(root.moves[best]);
+        return Move.byPlayer(squares, Move.isCover(root.moves[best]), isHuman);
+    }
+
+
+    /** Forgets the kept subtree, e.g. when a new round starts. */
+    public void clearTree() {
+        keptDecision = null;
+        keptMove = null;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** Runs playouts from a decision node until the budget is spent. */
+    private void search(DecisionNode root) {
+        long deadline = startClock();
+        for (int i = 0; !outOfBudget(i, deadline); i++)
+            visit(root);
+    }
+
+
+    /** Runs playouts from a move node until the budget is spent. */
+    private void search(MoveNode root) {
+        long deadline = startClock();
+        for (int i = 0; !outOfBudget(i, deadline); i++)
+            visit(root);
+    }
+
+
+    /**
+     * One iteration through a decision node.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>On a node's first visit, score it with a playout.</li>
+     *   <li>Otherwise pick a dice count by UCB1, sample a sum, and descend
+     *       into that sum's move node.</li>
+     *   <li>Add the result to the node's statistics.</li>
+     * </ol>
+     *
+     * @return result for this node's mover (1 win, 0 loss)
+     */
+    private double visit(DecisionNode node) {
+        double result;
+        if (node.visits == 0) {
+            result = playout(node.own, node.opp, node.turn);
+        } else {
+            int numDice = 2;
+            if (Rules.canRollOne(node.own, size)
+                    && ucb(node.diceTotal[1], node.diceVisits[1], node.visits)
+                    > ucb(node.diceTotal[2], node.diceVisits[2], node.visits))
+                numDice = 1;
+
+            int sum = rollSum(numDice);
+            if (node.bySum[sum] == null)
+                node.bySum[sum] = new MoveNode(node.own, node.opp, node.turn, sum);
+            result = visit(node.bySum[sum]);
+            node.diceVisits[numDice]++;
+            node.diceTotal[numDice] += result;
+        }
+        node.visits++;
+        return result;
+    }
+
+
+    /**
+     * One iteration through a move node: pass the turn if there is no move,
+     * otherwise pick a move by UCB1 and descend.
+     * @return result for this node's mover (1 win, 0 loss)
+     */
+    private double visit(MoveNode node) {
+        node.expand();
+        node.totalVisits++;
+        if (node.moves.length == 0) {
+            if (node.pass == null)
+                node.pass = new DecisionNode(node.opp, node.own, Rules.nextTurn(node.turn));
+            return 1 - visit(node.pass);
+        }
+
+        int pick = 0;
+        double bestScore = -1;
+        for (int i = 0; i < node.moves.length; i++) {
+            double score = ucb(node.totals[i], node.visits[i], node.totalVisits);
+            if (score > bestScore) {
+                bestScore = score;
+                pick = i;
+            }
+        }
+
+        double result;
+        DecisionNode child = node.children[pick];
+        if (child == null) {
+            result = 1;
+        } else {
+            result = visit(child);
+        }
+        node.visits[pick]++;
+        node.totals[pick] += result;
+        return result;
+    }
+
+
+    /**
+     * Plays random moves to the end of the round.
+     * @return 1 if the player to move at the start wins, 0 if not
+     */
+    private double playout(int own, int opp, int turn) {
+        boolean rootToMove = true;
+        for (int rolls = 0; rolls < MAX_PLAYOUT_ROLLS; rolls++) {
+            int numDice = Rules.canRollOne(own, size) && Rules.squareSum(own) <= 6 ? 1 : 2;
+            int sum = rollSum(numDice);
+
+            int coverCount = table.count(own, sum);
+            int covered = ~opp & full;
+            int uncoverCount = Rules.isOpen(turn) ? table.count(covered, sum) : 0;
+            if (coverCount + uncoverCount == 0) {
+                int swap = own;
+                own = opp;
+                opp = swap;
+                turn = Rules.nextTurn(turn);
+                rootToMove = !rootToMove;
+                continue;
+            }
+
+            if (Rules.isOpen(turn) && hasWinningMove(own, opp, sum, coverCount, uncoverCount))
+                return rootToMove ? 1 : 0;
+
+            int pick = random.nextInt(coverCount + uncoverCount);
+            if (pick < coverCount)
+                own &= ~table.moveAt(table.start(own, sum) + pick);
+            else
+                opp |= table.moveAt(table.start(covered, sum) + pick - coverCount);
+        }
+
+        double edge = (coverTurns[opp] - coverTurns[own]) / PLAYOUT_SCALE;
+        double moverValue = 1.0 / (1.0 + Math.exp(-edge));
+        return rootToMove ? moverValue : 1 - moverValue;
+    }
+
+
+    /** @return true if some move for sum wins on the spot (open turns only) */
+    private boolean hasWinningMove(int own, int opp, int sum, int coverCount, int uncoverCount) {
+        if (coverCount > 0 && (opp == full || Rules.squareSum(own) == sum))
+            return true;
+        return uncoverCount > 0 && (own == 0 || Rules.squareSum(~opp & full) == sum);
+    }
+
+
+    /** @return UCB1 score of a child; unvisited children come first */
+    private static double ucb(double total, int visits, int parentVisits) {
+        if (visits == 0)
+            return Double.MAX_VALUE;
+        return total / visits + EXPLORATION * Math.sqrt(Math.log(parentVisits) / visits);
+    }
+
+
+    /** @return a random dice total for numDice dice */
+    private int rollSum(int numDice) {
+        int total = 0;
+        for (int i = 0; i < numDice; i++)
+            total += random.nextInt(6) + 1;
+        return total;
+    }
+
+
+    /** @return the kept decision node if it is the live position */
+    private DecisionNode reusedDecision() {
+        DecisionNode kept = keptMove != null ? keptMove : keptDecision;
+        if (kept != null && kept.own == rootOwn && kept.opp == rootOpp && kept.turn == rootTurn)
+            return kept;
+        return null;
+    }
+
+
+    /** @return the kept move node for this roll if it is the live position */
+    private MoveNode reusedMoveNode(int diceSum) {
+        DecisionNode decision = reusedDecision();
+        return decision != null ? decision.bySum[diceSum] : null;
+    }
+
+
+    /** Captures the root position from the live board. */
+    private void load(Board board, boolean isHuman) {
+        if (board.getBoardSize() != size || isHuman != rootIsHuman)
+            clearTree();
+        size = board.getBoardSize();
+        full = board.fullMask();
+        table = MoveTable.forSize(size);
+        coverTurns = ExpectimaxEngine.turnsToCover(size);
+        rootIsHuman = isHuman;
+        rootOwn = board.uncoveredMask(isHuman);
+        rootOpp = board.uncoveredMask(!isHuman);
+        rootTurn = Math.min(board.getTurn(), Rules.OPEN_TURN);
+    }
+
+
+    /** @return the decision's deadline in System.nanoTime() terms */
+    private long startClock() {
+        return budgetNanos > 0 ? System.nanoTime() + budgetNanos : Long.MAX_VALUE;
+    }
+
+
+    /**
+     * @return true once the iteration cap is reached or (checked every 64
+     *         playouts) the clock runs out or the search is cancelled
+     */
+    private boolean outOfBudget(int iterations, long deadline) {
+        if (maxIterations > 0 && iterations >= maxIterations)
+            return true;
+        return (iterations & CLOCK_MASK) == 0 && iterations > 0 && (cancelled || System.nanoTime() > deadline);
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Tree Nodes
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** A position with the mover about to choose how many dice to roll. */
+    private static final class DecisionNode {
+        final int own;
+        final int opp;
+        final int turn;
+        final MoveNode[] bySum = new MoveNode[MoveTable.MAX_SUM + 1];
+        final int[] diceVisits = new int[3];
+        final double[] diceTotal = new double[3];
+        int visits;
+
+        DecisionNode(int own, int opp, int turn) {
+            this.own = own;
+            this.opp = opp;
+            this.turn = turn;
+        }
+    }
+
+
+    /** A position with a rolled sum and the mover about to pick a move. */
+    private final class MoveNode {
+        final int own;
+        final int opp;
+        final int turn;
+        final int sum;
+        int[] moves;
+        DecisionNode[] children;
+        int[] visits;
+        double[] totals;
+        DecisionNode pass;
+        int totalVisits;
+
+        MoveNode(int own, int opp, int turn, int sum) {
+            this.own = own;
+            this.opp = opp;
+            this.turn = turn;
+            this.sum = sum;
+        }
+
+        /** Lists the legal moves once; a null child marks a winning move. */
+        void expand() {
+            if (moves != null)
+                return;
+            int covered = ~opp & full;
+            int coverCount = table.count(own, sum);
+            int uncoverCount = Rules.isOpen(turn) ? table.count(covered, sum) : 0;
+            moves = new int[coverCount + uncoverCount];
+            children = new DecisionNode[moves.length];
+            visits = new int[moves.length];
+            totals = new double[moves.length];
+
+            for (int i = 0; i < moves.length; i++) {
+                boolean isCover = i < coverCount;
+                int squares = isCover
+                        ? table.moveAt(table.start(own, sum) + i)
+                        : table.moveAt(table.start(covered, sum) + i - coverCount);
+                int nextOwn = isCover ? own & ~squares : own;
+                int nextOpp = isCover ? opp : opp | squares;
+                moves[i] = Move.of(squares, isCover, false);
+                if (!Rules.isWin(nextOwn, nextOpp, full, turn))
+                    children[i] = new DecisionNode(nextOwn, nextOpp, turn);
+            }
+        }
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    // UCB1 exploration constant
+    private static final double EXPLORATION = 0.7;
+
+    // Playouts stop after this many rolls and are scored by cover turns,
+    // one logistic unit per PLAYOUT_SCALE turns of difference
+    private static final int MAX_PLAYOUT_ROLLS = 200;
+    private static final double PLAYOUT_SCALE = 1.0;
+
+    // Check the clock every 64 playouts
+    private static final int CLOCK_MASK = 63;
+
+    private final long budgetNanos;
+    private final int maxIterations;
+    private final SplittableRandom random;
+
+    private int size;
+    private int full;
+    private MoveTable table;
+    private double[] coverTurns;
+    private boolean rootIsHuman;
+    private int rootOwn;
+    private int rootOpp;
+    private int rootTurn;
+
+    // Subtree kept from the previous decision of the same turn
+    private DecisionNode keptDecision;
+    private DecisionNode keptMove;
+
+    private double lastValue = 0.5;
+    private int lastIterations = 0;
+
+    // Set by cancel, possibly from another thread
+    private volatile boolean cancelled = false;
+
+}
@@ -0,0 +1,83 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    MctsStrategy.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+
+/**
+ * Plays the moves an {@link MctsEngine} visits most.
+ */
+public class MctsStrategy extends SearchStrategy {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constructors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param engine the engine to consult; its time budget sets the strength
+     */
+    public MctsStrategy(MctsEngine engine) {
+        this.engine = engine;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    @Override
+    public String getName() {
+        return "Monte Carlo";
+    }
+
+
+    @Override
+    public String explainNumDice(int numDice) {
+        return "simulated games show this gives the better chance of winning.";
+    }
+
+
+    @Override
+    public void cancel() {
+        engine.cancel();
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Protected Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    @Override
+    protected int searchNumDice(Board board, boolean isHuman) {
+        return engine.chooseNumDice(board, isHuman);
+    }
+
+
+    @Override
+    protected int searchMove(Board board, boolean isHuman, int diceSum) {
+        return engine.chooseMove(board, isHuman, diceSum);
+    }
+
+
+    @Override
+    protected String explainValue() {
+        return "After " + engine.getLastIterations() + " simulated games, this move gives the computer about a "
+                + percent(engine.getLastValue()) + "% chance of winning the round.";
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    private final MctsEngine engine;
+
+}
@@ -0,0 +1,177 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    Move.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+
+/**
+ * Static helpers for moves packed into a single int.
+ *
+ * <p>Layout:
+ * <ul>
+ *   <li>bits 0–15: square bitmask, bit (sq - 1) set for each square moved</li>
+ *   <li>bit 16: set for a cover move, clear for an uncover move</li>
+ *   <li>bit 17: set when the human's row is changed, clear for the computer's</li>
+ * </ul>
+ * A move is a plain int, so storing, comparing and hashing moves never
+ * allocates. {@link #NONE} (0) means "no move". The collection
+ * conversions let list/set based code adopt moves one call site at a time.
+ */
+public final class Move {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constants
+    // ──────────────────────────────────────────────────────────────
+
+    /** The empty move. */
+    public static final int NONE = 0;
+
+    /** Mask of the square bits. */
+    public static final int SQUARES_MASK = 0xFFFF;
+
+    /** Set on cover moves. */
+    public static final int COVER_BIT = 1 << 16;
+
+    /** Set when the move changes the human's row. */
+    public static final int HUMAN_ROW_BIT = 1 << 17;
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Static Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Packs a move.
+     * @param squares  bitmask of squares to change
+     * @param isCover  true to cover; false to uncover
+     * @param humanRow true if the human's row is changed; false for the computer's
+     * @return the packed move
+     */
+    public static int of(int squares, boolean isCover, boolean humanRow) {
+        return (squares & SQUARES_MASK)
+                | (isCover ? COVER_BIT : 0)
+                | (humanRow ? HUMAN_ROW_BIT : 0);
+    }
+
+
+    /**
+     * Packs a move made by the given player: covers land on the mover's own
+     * row, uncovers on the opponent's.
+     * @param squares bitmask of squares to change
+     * @param isCover true to cover; false to uncover
+     * @param isHuman true if the human is moving
+     * @return the packed move
+     */
+    public static int byPlayer(int squares, boolean isCover, boolean isHuman) {
+        return of(squares, isCover, isCover == isHuman);
+    }
+
+
+    /**
+     * Packs a move from a collection of 1-based squares.
+     * @param squares  squares to change
+     * @param isCover  true to cover; false to uncover
+     * @param humanRow true if the human's row is changed
+     * @return the packed move
+     */
+    public static int fromSquares(Collection<Integer> squares, boolean isCover, boolean humanRow) {
+        int mask = 0;
+        for (Integer sq : squares) {
+            if (sq >= 1 && sq <= 16)
+                mask |= 1 << (sq - 1);
+        }
+        return of(mask, isCover, humanRow);
+    }
+
+
+    /** @return the square bitmask of a move */
+    public static int squares(int move) {
+        return move & SQUARES_MASK;
+    }
+
+
+    /** @return true for a cover move; false for an uncover move */
+    public static boolean isCover(int move) {
+        return (move & COVER_BIT) != 0;
+    }
+
+
+    /** @return true if the move changes the human's row */
+    public static boolean isHumanRow(int move) {
+        return (move & HUMAN_ROW_BIT) != 0;
+    }
+
+
+    /** @return true if the human is the player making this move */
+    public static boolean isHumanMover(int move) {
+        return isCover(move) == isHumanRow(move);
+    }
+
+
+    /** @return number of squares the move uses */
+    public static int size(int move) {
+        return Integer.bitCount(squares(move));
+    }
+
+
+    /** @return total of the square values the move uses */
+    public static int sum(int move) {
+        int squares = squares(move);
+        int total = 0;
+        while (squares != 0) {
+            total += Integer.numberOfTrailingZeros(squares) + 1;
+            squares &= squares - 1;
+        }
+        return total;
+    }
+
+
+    /** @return the move's squares as an ascending list */
+    public static ArrayList<Integer> toList(int move) {
+        return MoveTable.toList(squares(move));
+    }
+
+
+    /** @return the move's squares as a set */
+    public static Set<Integer> toSet(int move) {
+        return new HashSet<>(toList(move));
+    }
+
+
+    /**
+     * @param move a packed move
+     * @return the squares in the "{ 1, 2 }" format used by the game log
+     */
+    public static String toString(int move) {
+        StringBuilder sb = new StringBuilder("{ ");
+        int squares = squares(move);
+        while (squares != 0) {
+            sb.append(Integer.numberOfTrailingZeros(squares) + 1);
+            squares &= squares - 1;
+            if (squares != 0)
+                sb.append(", ");
+        }
+        return sb.append(" }").toString();
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Constructors
+    // ──────────────────────────────────────────────────────────────
+
+    /** Not instantiable; moves are plain ints. */
+    private Move() {
+    }
+
+}
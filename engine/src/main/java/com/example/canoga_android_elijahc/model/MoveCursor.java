@@ -0,0 +1,77 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    MoveCursor.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+
+/**
+ * Reusable, allocation-free iterator over the packed moves a
+ * {@link MoveTable} holds for one (available mask, dice sum) key.
+ *
+ * <p>Typical use:
+ * <pre>
+ *   cursor.reset(table, available, diceSum);
+ *   while (cursor.next()) {
+ *       int squares = cursor.move();
+ *       ...
+ *   }
+ * </pre>
+ * A cursor is not thread-safe; keep one per thread or per owner.
+ */
+public final class MoveCursor {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Points the cursor just before the first move for a key.
+     * Sums outside 1..MAX_SUM have no moves.
+     * @param table     the move table for the board size
+     * @param available bitmask of squares that may be used
+     * @param sum       the dice sum to match
+     * @return this cursor, for chaining
+     */
+    public MoveCursor reset(MoveTable table, int available, int sum) {
+        this.table = table;
+        if (sum < 1 || sum > MoveTable.MAX_SUM) {
+            index = 0;
+            end = 0;
+        } else {
+            index = table.start(available, sum) - 1;
+            end = table.end(available, sum);
+        }
+        return this;
+    }
+
+
+    /**
+     * Advances to the next move.
+     * @return true if a move is available through {@link #move()}
+     */
+    public boolean next() {
+        return ++index < end;
+    }
+
+
+    /** @return the packed square mask at the cursor */
+    public int move() {
+        return table.moveAt(index);
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    private MoveTable table;
+    private int index = 0;
+    private int end = 0;
+
+}
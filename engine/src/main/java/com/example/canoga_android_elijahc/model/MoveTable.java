@@ -0,0 +1,281 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    MoveTable.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+import java.util.ArrayList;
+import java.util.function.IntPredicate;
+
+
+/**
+ * Precomputed move generator for one board size.
+ *
+ * <p>For every (available-square mask, dice sum) pair the table holds the
+ * packed moves (bitmasks of 1 to 4 squares) whose values add up to the sum.
+ * Moves are stored in the same order the nested loops in
+ * {@link Player#allValidMoves(ArrayList, int)} have always produced them,
+ * so a lookup is a drop-in replacement for generating moves on the fly.
+ */
+public final class MoveTable {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constants
+    // ──────────────────────────────────────────────────────────────
+
+    /** Largest dice sum the table covers (two dice). */
+    public static final int MAX_SUM = 12;
+
+    /** Most squares a single move may use. */
+    public static final int MAX_MOVE_SQUARES = 4;
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Static Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Returns the shared table for a board size. Every table is built when
+     * the class loads, so this is a plain array read on the move path.
+     * @param size squares per row (0 to Board.MAX_SIZE)
+     * @return the table for that size
+     * @throws IllegalArgumentException if size is out of range
+     */
+    public static MoveTable forSize(int size) {
+        if (size < 0 || size > Board.MAX_SIZE)
+            throw new IllegalArgumentException("Unsupported board size: " + size);
+        return TABLES[size];
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Selectors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** @return the board size this table was built for */
+    public int getBoardSize() {
+        return size;
+    }
+
+
+    /**
+     * @param available bitmask of squares that may be used
+     * @param sum       the dice sum to match (1 to MAX_SUM)
+     * @return index of the first move for that key
+     */
+    public int start(int available, int sum) {
+        return offsets[key(available, sum)];
+    }
+
+
+    /**
+     * @param available bitmask of squares that may be used
+     * @param sum       the dice sum to match (1 to MAX_SUM)
+     * @return one past the index of the last move for that key
+     */
+    public int end(int available, int sum) {
+        return offsets[key(available, sum) + 1];
+    }
+
+
+    /**
+     * @param available bitmask of squares that may be used
+     * @param sum       the dice sum to match (1 to MAX_SUM)
+     * @return number of valid moves for that key
+     */
+    public int count(int available, int sum) {
+        int k = key(available, sum);
+        return offsets[k + 1] - offsets[k];
+    }
+
+
+    /**
+     * @param index a position between start() and end() of some key
+     * @return the packed square mask stored there
+     */
+    public int moveAt(int index) {
+        return moves[index];
+    }
+
+
+    /**
+     * Early-exit check for whether any move exists.
+     * @param available bitmask of squares that may be used
+     * @param target    the dice sum to match; sums outside 1..MAX_SUM have no moves
+     * @return true if at least one move adds up to target
+     */
+    public boolean anyMove(int available, int target) {
+        return target >= 1 && target <= MAX_SUM && count(available, target) > 0;
+    }
+
+
+    /**
+     * Scans the moves for a key in generator order and stops at the first
+     * one the predicate accepts.
+     * @param available bitmask of squares that may be used
+     * @param target    the dice sum to match
+     * @param predicate test applied to each packed move
+     * @return the first accepted move mask, or 0 if none
+     */
+    public int firstMatching(int available, int target, IntPredicate predicate) {
+        if (target < 1 || target > MAX_SUM)
+            return 0;
+        int end = end(available, target);
+        for (int i = start(available, target); i < end; i++) {
+            if (predicate.test(moves[i]))
+                return moves[i];
+        }
+        return 0;
+    }
+
+
+    /**
+     * Expands a packed square mask into an ascending list of square values.
+     * @param squares bitmask of squares
+     * @return list of 1-based square values
+     */
+    public static ArrayList<Integer> toList(int squares) {
+        ArrayList<Integer> list = new ArrayList<>(Integer.bitCount(squares));
+        while (squares != 0) {
+            list.add(Integer.numberOfTrailingZeros(squares) + 1);
+            squares &= squares - 1;
+        }
+        return list;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Constructors & Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Builds the table for one size.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>For each sum, list every 1–4 square subset of [1..size] that adds
+     *       up to it, in nested-loop order.</li>
+     *   <li>For each available mask and sum, keep the subsets that fit inside
+     *       the mask, appending them to one flat array.</li>
+     *   <li>Record where each key's run starts in offsets.</li>
+     * </ol>
+     *
+     * @param size squares per row
+     */
+    private MoveTable(int size) {
+        this.size = size;
+
+        int[][] candidates = new int[MAX_SUM + 1][];
+        int total = 0;
+        for (int sum = 1; sum <= MAX_SUM; sum++) {
+            candidates[sum] = subsetsSummingTo(size, sum);
+        }
+
+        int keys = (1 << size) * (MAX_SUM + 1);
+        offsets = new int[keys + 1];
+        for (int available = 0; available < (1 << size); available++) {
+            for (int sum = 1; sum <= MAX_SUM; sum++) {
+                for (int move : candidates[sum]) {
+                    if ((move & ~available) == 0)
+                        total++;
+                }
+            }
+        }
+
+        moves = new int[total];
+        int next = 0;
+        for (int available = 0; available < (1 << size); available++) {
+            for (int sum = 0; sum <= MAX_SUM; sum++) {
+                offsets[key(available, sum)] = next;
+                if (sum == 0)
+                    continue;
+                for (int move : candidates[sum]) {
+                    if ((move & ~available) == 0)
+                        moves[next++] = move;
+                }
+            }
+        }
+        offsets[keys] = next;
+    }
+
+
+    /**
+     * Lists every subset of 1 to 4 squares from [1..size] adding up to sum,
+     * ordered exactly like the i/j/k/l loops of the original generator.
+     * @param size squares per row
+     * @param sum  target total
+     * @return packed subset masks
+     */
+    private static int[] subsetsSummingTo(int size, int sum) {
+        int[] out = new int[64];
+        int count = 0;
+        for (int i = 1; i <= size; i++) {
+            if (i == sum)
+                out = append(out, count++, bit(i));
+            for (int j = i + 1; j <= size; j++) {
+                if (i + j == sum)
+                    out = append(out, count++, bit(i) | bit(j));
+                for (int k = j + 1; k <= size; k++) {
+                    if (i + j + k == sum)
+                        out = append(out, count++, bit(i) | bit(j) | bit(k));
+                    for (int l = k + 1; l <= size; l++) {
+                        if (i + j + k + l == sum)
+                            out = append(out, count++, bit(i) | bit(j) | bit(k) | bit(l));
+                    }
+                }
+            }
+        }
+        int[] trimmed = new int[count];
+        System.arraycopy(out, 0, trimmed, 0, count);
+        return trimmed;
+    }
+
+
+    /** Stores value at index, growing the array when needed. */
+    private static int[] append(int[] arr, int index, int value) {
+        if (index == arr.length) {
+            int[] bigger = new int[arr.length * 2];
+            System.arraycopy(arr, 0, bigger, 0, arr.length);
+            arr = bigger;
+        }
+        arr[index] = value;
+        return arr;
+    }
+
+
+    /** @return the mask bit for a 1-based square */
+    private static int bit(int sq) {
+        return 1 << (sq - 1);
+    }
+
+
+    /** @return flat index of an (available, sum) pair */
+    private static int key(int available, int sum) {
+        return available * (MAX_SUM + 1) + sum;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    // One table per size, built eagerly; the class loader publishes them safely
+    private static final MoveTable[] TABLES = new MoveTable[Board.MAX_SIZE + 1];
+
+    static {
+        for (int size = 0; size <= Board.MAX_SIZE; size++)
+            TABLES[size] = new MoveTable(size);
+    }
+
+    private final int size;
+    private final int[] offsets;
+    private final int[] moves;
+
+}
@@ -0,0 +1,359 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    ParallelExpectimax.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Fixed-depth expectimax analyzer for offline study of positions, e.g. a
+ * loaded save file, that spreads the work over every core.
+ *
+ * <p>The tree is the same as {@link ExpectimaxEngine}'s (dice choice,
+ * chance over sums, move choice, pass on no move), without a time budget.
+ * The sums under a chance node are independent subtrees, so near the root
+ * each one is forked as a task on a {@link ForkJoinPool}; deeper down they
+ * run inline, where a task would cost more than it saves. Dice-choice
+ * values are shared between threads through a {@link ConcurrentHashMap}
+ * keyed by position and remaining depth, so transpositions reached from
+ * different sums are searched once.
+ *
+ * <p>With one thread no pool is created and the search runs on the
+ * caller's thread.
+ *
+ * <p>Usage: {@code ParallelExpectimax <saveFile> [depth] [threads]}
+ * prints the analysis for the player due to move next.
+ */
+public class ParallelExpectimax {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constructors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param depth   rolls to look ahead (at least 1)
+     * @param threads worker threads; 1 or less searches single-threaded
+     */
+    public ParallelExpectimax(int depth, int threads) {
+        this.depth = Math.max(1, depth);
+        this.pool = threads > 1 ? new ForkJoinPool(threads) : null;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Nested Classes
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** Result of one analysis, from the mover's point of view. */
+    public static final class Analysis {
+
+        Analysis(double oneDie, double twoDice, long nodes, int cached) {
+            this.oneDie = oneDie;
+            this.twoDice = twoDice;
+            this.nodes = nodes;
+            this.cached = cached;
+        }
+
+        /** @return win probability rolling one die, or NaN if not allowed */
+        public double getOneDieValue() {
+            return oneDie;
+        }
+
+        /** @return win probability rolling two dice */
+        public double getTwoDiceValue() {
+            return twoDice;
+        }
+
+        /** @return 1 or 2, whichever dice count is better */
+        public int getBestNumDice() {
+            return oneDie > twoDice ? 1 : 2;
+        }
+
+        /** @return win probability with the better dice count */
+        public double getValue() {
+            return oneDie > twoDice ? oneDie : twoDice;
+        }
+
+        /** @return chance nodes searched */
+        public long getNodes() {
+            return nodes;
+        }
+
+        /** @return positions held in the transposition cache at the end */
+        public int getCachedPositions() {
+            return cached;
+        }
+
+        private final double oneDie;
+        private final double twoDice;
+        private final long nodes;
+        private final int cached;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Command-line entry point.
+     * @param args save file, then optional depth (default 4) and thread
+     *             count (default: every core)
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: ParallelExpectimax <saveFile> [depth] [threads]");
+            System.exit(2);
+        }
+        int depth = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int threads = args.length > 2 ? Integer.parseInt(args[2])
+                : Runtime.getRuntime().availableProcessors();
+
+        CanogaModel model = new CanogaModel(Board.MAX_SIZE, System.out::println);
+        if (!model.loadGame(args[0]))
+            System.exit(1);
+        boolean isHuman = model.getHuman().getIsNext();
+
+        ParallelExpectimax analyzer = new ParallelExpectimax(depth, threads);
+        long start = System.nanoTime();
+        Analysis result = analyzer.analyze(model.getBoard(), isHuman);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        analyzer.shutdown();
+
+        System.out.printf("%s to move, %d rolls ahead on %d thread(s):%n",
+                isHuman ? "Human" : "Computer", depth, Math.max(1, threads));
+        if (!Double.isNaN(result.getOneDieValue()))
+            System.out.printf("  1 die:  %.2f%%%n", result.getOneDieValue() * 100);
+        System.out.printf("  2 dice: %.2f%%%n", result.getTwoDiceValue() * 100);
+        System.out.printf("  best: %d dice, %d nodes, %d cached positions, %.2f s%n",
+                result.getBestNumDice(), result.getNodes(), result.getCachedPositions(), seconds);
+    }
+
+
+    /**
+     * Analyzes the dice choice for the player about to roll.
+     * @param board   the position (not modified)
+     * @param isHuman true if the human is the mover
+     * @return values of both dice counts
+     */
+    public Analysis analyze(Board board, boolean isHuman) {
+        size = board.getBoardSize();
+        full = board.fullMask();
+        table = MoveTable.forSize(size);
+        coverTurns = ExpectimaxEngine.turnsToCover(size);
+        cache.clear();
+        nodes.reset();
+
+        int own = board.uncoveredMask(isHuman);
+        int opp = board.uncoveredMask(!isHuman);
+        int turn = Math.min(board.getTurn(), Rules.OPEN_TURN);
+
+        double two = run(new Chance(own, opp, turn, 2, depth));
+        double one = Rules.canRollOne(own, size)
+                ? run(new Chance(own, opp, turn, 1, depth)) : Double.NaN;
+        return new Analysis(one, two, nodes.sum(), cache.size());
+    }
+
+
+    /** Stops the worker threads; the analyzer must not be used afterwards. */
+    public void shutdown() {
+        if (pool != null)
+            pool.shutdown();
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Tasks & Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** A chance node: the weighted average over every sum numDice can roll. */
+    @SuppressWarnings("serial")
+    private final class Chance extends RecursiveTask<Double> {
+
+        Chance(int own, int opp, int turn, int numDice, int depth) {
+            this.own = own;
+            this.opp = opp;
+            this.turn = turn;
+            this.numDice = numDice;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Double compute() {
+            return chance(own, opp, turn, numDice, depth, pool != null);
+        }
+
+        private final int own;
+        private final int opp;
+        private final int turn;
+        private final int numDice;
+        private final int depth;
+    }
+
+
+    /** One sum's subtree under a forked chance node. */
+    @SuppressWarnings("serial")
+    private final class Roll extends RecursiveTask<Double> {
+
+        Roll(int own, int opp, int turn, int sum, int depth) {
+            this.own = own;
+            this.opp = opp;
+            this.turn = turn;
+            this.sum = sum;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Double compute() {
+            return afterRoll(own, opp, turn, sum, depth);
+        }
+
+        private final int own;
+        private final int opp;
+        private final int turn;
+        private final int sum;
+        private final int depth;
+    }
+
+
+    /** @return the task's value, computed on the pool if there is one */
+    private double run(Chance task) {
+        return pool != null ? pool.invoke(task) : task.compute();
+    }
+
+
+    /**
+     * Chance node value.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>At depth 0, score with the cover-race heuristic.</li>
+     *   <li>If running on the pool and more than SEQUENTIAL_DEPTH rolls
+     *       remain, fork one task per sum and join them.</li>
+     *   <li>Otherwise search each sum inline.</li>
+     *   <li>Return the probability-weighted average.</li>
+     * </ol>
+     *
+     * @return mover's win probability
+     */
+    private double chance(int own, int opp, int turn, int numDice, int depth, boolean fork) {
+        if (depth == 0)
+            return ExpectimaxEngine.coverRace(coverTurns, own, opp);
+        nodes.increment();
+
+        int lowest = numDice;
+        int highest = 6 * numDice;
+        double total = 0;
+        if (fork && depth > SEQUENTIAL_DEPTH) {
+            Roll[] rolls = new Roll[highest - lowest + 1];
+            for (int sum = lowest; sum <= highest; sum++)
+                rolls[sum - lowest] = new Roll(own, opp, turn, sum, depth - 1);
+            RecursiveTask.invokeAll(rolls);
+            for (int sum = lowest; sum <= highest; sum++)
+                total += Rules.rollProbability(numDice, sum) * rolls[sum - lowest].join();
+        } else {
+            for (int sum = lowest; sum <= highest; sum++)
+                total += Rules.rollProbability(numDice, sum) * afterRoll(own, opp, turn, sum, depth - 1);
+        }
+        return total;
+    }
+
+
+    /**
+     * Move-choice node for a rolled sum.
+     * @return mover's win probability
+     */
+    private double afterRoll(int own, int opp, int turn, int sum, int depth) {
+        double best = -1;
+
+        int end = table.end(own, sum);
+        for (int i = table.start(own, sum); i < end; i++) {
+            best = Math.max(best, afterMove(own & ~table.moveAt(i), opp, turn, depth));
+            if (best >= 1)
+                return 1;
+        }
+        if (Rules.isOpen(turn)) {
+            int covered = ~opp & full;
+            end = table.end(covered, sum);
+            for (int i = table.start(covered, sum); i < end; i++) {
+                best = Math.max(best, afterMove(own, opp | table.moveAt(i), turn, depth));
+                if (best >= 1)
+                    return 1;
+            }
+        }
+
+        if (best < 0) {
+            // no legal move: the turn passes to the opponent
+            return 1 - decide(opp, own, Rules.nextTurn(turn), depth);
+        }
+        return best;
+    }
+
+
+    /** @return mover's win probability right after a move */
+    private double afterMove(int own, int opp, int turn, int depth) {
+        if (Rules.isWin(own, opp, full, turn))
+            return 1;
+        return decide(own, opp, turn, depth);
+    }
+
+
+    /**
+     * Dice-choice node, shared through the transposition cache.
+     * @return mover's win probability
+     */
+    private double decide(int own, int opp, int turn, int depth) {
+        if (depth == 0)
+            return ExpectimaxEngine.coverRace(coverTurns, own, opp);
+
+        long key = key(own, opp, turn, depth);
+        Double cached = cache.get(key);
+        if (cached != null)
+            return cached;
+
+        boolean fork = pool != null;
+        double best = chance(own, opp, turn, 2, depth, fork);
+        if (Rules.canRollOne(own, size))
+            best = Math.max(best, chance(own, opp, turn, 1, depth, fork));
+        cache.put(key, best);
+        return best;
+    }
+
+
+    /** @return a cache key packing both rows, the turn and the depth */
+    private static long key(int own, int opp, int turn, int depth) {
+        return ((long) depth << 40) | ((long) turn << 32) | ((long) own << 16) | opp;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    // Below this many remaining rolls, sums are searched inline
+    private static final int SEQUENTIAL_DEPTH = 1;
+
+    private final int depth;
+    private final ForkJoinPool pool;
+    private final ConcurrentHashMap<Long, Double> cache = new ConcurrentHashMap<>();
+    private final LongAdder nodes = new LongAdder();
+
+    private int size;
+    private int full;
+    private MoveTable table;
+    private double[] coverTurns;
+
+}
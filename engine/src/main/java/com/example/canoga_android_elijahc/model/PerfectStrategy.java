@@ -0,0 +1,134 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    PerfectStrategy.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+
+/**
+ * Plays perfectly from the solved {@link WinTable} for the board size,
+ * and falls back to the classic heuristic on sizes without a table.
+ */
+public class PerfectStrategy extends SearchStrategy {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constructors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param tables where to find the table for each board size
+     */
+    public PerfectStrategy(WinTables tables) {
+        this.tables = tables;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    @Override
+    public String getName() {
+        return "Perfect";
+    }
+
+
+    @Override
+    public int chooseNumDice(Player player, boolean isHuman) {
+        if (table(player.getBoard()) == null)
+            return fallback.chooseNumDice(player, isHuman);
+        return super.chooseNumDice(player, isHuman);
+    }
+
+
+    @Override
+    public boolean shouldCover(Player player, boolean isHuman, int diceSum) {
+        if (table(player.getBoard()) == null)
+            return fallback.shouldCover(player, isHuman, diceSum);
+        return super.shouldCover(player, isHuman, diceSum);
+    }
+
+
+    @Override
+    public String explainNumDice(int numDice) {
+        if (current == null)
+            return fallback.explainNumDice(numDice);
+        return "the solved odds favor this choice.";
+    }
+
+
+    @Override
+    public void explainMove(Player player, int move, Log log) {
+        if (current == null)
+            fallback.explainMove(player, move, log);
+        else
+            super.explainMove(player, move, log);
+    }
+
+
+    @Override
+    public String describeMove(int move) {
+        return current == null ? fallback.describeMove(move) : null;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Protected Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    @Override
+    protected int searchNumDice(Board board, boolean isHuman) {
+        return remember(current.rateNumDice(board, isHuman));
+    }
+
+
+    @Override
+    protected int searchMove(Board board, boolean isHuman, int diceSum) {
+        return remember(current.rateMove(board, isHuman, diceSum));
+    }
+
+
+    @Override
+    protected String explainValue() {
+        return "With perfect play from here, this move gives the computer a "
+                + percent(lastValue) + "% chance of winning the round.";
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** Keeps a rated choice's value for explainValue. */
+    private int remember(long rated) {
+        lastValue = WinTable.ratedValue(rated);
+        return WinTable.ratedChoice(rated);
+    }
+
+
+    /** Looks up, and remembers, the table for the board's size. */
+    private WinTable table(Board board) {
+        current = tables != null ? tables.forSize(board.getBoardSize()) : null;
+        return current;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    private final WinTables tables;
+    private WinTable current;
+
+    // Win probability behind the last choice, for explainValue
+    private double lastValue = 0.5;
+
+}
@@ -37,6 +37,11 @@ public abstract class Player {
     // ──────────────────────────────────────────────────────────────
 
 
+    /** @return the Board this player acts upon */
+    public Board getBoard() {
+        return board;
+    }
+
     /** @return score earned in the last round */
     public int getRoundScore() {
         return roundScore;
@@ -72,6 +77,16 @@ public abstract class Player {
         return wonPrevious;
     }
 
+    /** @return the dice this player rolls */
+    public DiceSource getDiceSource() {
+        return dice;
+    }
+
+    /** @return the receiver of this player's rolls and moves, or null */
+    public GameEventListener getEventListener() {
+        return events;
+    }
+
 
     // ──────────────────────────────────────────────────────────────
     // Public Mutators
@@ -156,6 +171,16 @@ public abstract class Player {
         wonPrevious = won;
     }
 
+    /** @param d the dice this player rolls from now on */
+    public void setDiceSource(DiceSource d) {
+        dice = d;
+    }
+
+    /** @param listener receives this player's rolls and moves; null for none */
+    public void setEventListener(GameEventListener listener) {
+        events = listener;
+    }
+
 
 
 
@@ -190,10 +215,11 @@ public abstract class Player {
     public int chooseNumDice(boolean isHuman) {
         if (!board.checkUpperSquares(isHuman))
             return 2;
-        ArrayList<Integer> available = board.getAvailableSquares(isHuman, true);
+        int available = board.availableMask(isHuman, true);
         int sumAvailable = 0;
-        for (Integer sq : available) {
-            sumAvailable += sq;
+        while (available != 0) {
+            sumAvailable += Integer.numberOfTrailingZeros(available) + 1;
+            available &= available - 1;
         }
         if (sumAvailable <= 6)
             return 1;
@@ -206,10 +232,9 @@ public abstract class Player {
      *
      * <p><strong>Pseudocode:</strong>
      * <ol>
-     *   <li>Get coverMoves = allValidMoves(...).</li>
-     *   <li>Get uncoverMoves = allValidMoves(...).</li>
-     *   <li>If turn ≤ 1, clear uncoverMoves.</li>
-     *   <li>Return true if both lists empty.</li>
+     *   <li>If any cover move exists, return false.</li>
+     *   <li>If turn ≤ 1, uncover moves don't count; return true.</li>
+     *   <li>Return true if no uncover move exists either.</li>
      * </ol>
      *
      * @param isHuman whose turn to evaluate
@@ -217,16 +242,12 @@ public abstract class Player {
      * @return true if turn must end immediately
      */
     public boolean checkNoMovesAvailable(boolean isHuman, int diceSum) {
-        ArrayList<Integer> availableCover = board.getAvailableSquares(isHuman, true);
-        ArrayList<Integer> availableUncover = board.getAvailableSquares(!isHuman, false);
-
-        ArrayList<ArrayList<Integer>> coverMoves = allValidMoves(availableCover, diceSum);
-        ArrayList<ArrayList<Integer>> uncoverMoves = allValidMoves(availableUncover, diceSum);
-
+        MoveTable table = moveTable();
+        if (table.anyMove(board.availableMask(isHuman, true), diceSum))
+            return false;
         if (board.getTurn() <= 1)
-            uncoverMoves.clear();
-
-        return coverMoves.isEmpty() && uncoverMoves.isEmpty();
+            return true;
+        return !table.anyMove(board.availableMask(!isHuman, false), diceSum);
     }
 
 
@@ -238,7 +259,7 @@ public abstract class Player {
      *   <li>Return [] if preconditions (turn≤1 or already won).</li>
      *   <li>For each cover move:</li>
      *     <ol type="a">
-     *       <li>Clone board, apply move, check win.</li>
+     *       <li>Apply move in place, check win, undo.</li>
      *     </ol>
      *   <li>If none, repeat for uncover moves.</li>
      *   <li>Return first winning move or [].</li>
@@ -253,84 +274,11 @@ public abstract class Player {
         if (board.getTurn() <= 1 || board.allSquaresCovered(isHuman) || board.allSquaresUncovered(!isHuman))
             return new ArrayList<>();
 
-
-        // test cover moves
-        ArrayList<Integer> availableCover;
-        if (isHuman)
-            availableCover = board.getAvailableSquares(true, true);
-        else
-            availableCover = board.getAvailableSquares(false, true);
-
-
-        ArrayList<ArrayList<Integer>> coverMoves = allValidMoves(availableCover, diceSum);
-        for (ArrayList<Integer> move : coverMoves) {
-            Board boardCopy = copyBoard(board);
-            for (Integer sq : move) {
-                if (isHuman)
-                    boardCopy.coverSquare(true, sq);
-                else
-                    boardCopy.coverSquare(false, sq);
-            }
-            if (isHuman) {
-                if (boardCopy.allSquaresCovered(true)) {
-                    setWonByCover(true);
-                    return move;
-                }
-                if (boardCopy.allSquaresUncovered(false)) {
-                    setWonByCover(false);
-                    return move;
-                }
-            } else {
-                if (boardCopy.allSquaresCovered(false)) {
-                    setWonByCover(true);
-                    return move;
-                }
-                if (boardCopy.allSquaresUncovered(true)) {
-                    setWonByCover(false);
-                    return move;
-                }
-            }
-        }
-
-
-        // test uncover moves
-        ArrayList<Integer> availableUncover;
-        if (isHuman)
-            availableUncover = board.getAvailableSquares(false, false);
-        else
-            availableUncover = board.getAvailableSquares(true, false);
-
-        ArrayList<ArrayList<Integer>> uncoverMoves = allValidMoves(availableUncover, diceSum);
-        for (ArrayList<Integer> move : uncoverMoves) {
-            Board boardCopy = copyBoard(board);
-            for (Integer sq : move) {
-                if (isHuman)
-                    boardCopy.uncoverSquare(false, sq);
-                else
-                    boardCopy.uncoverSquare(true, sq);
-            }
-            if (isHuman) {
-                if (boardCopy.allSquaresCovered(true)) {
-                    setWonByCover(true);
-                    return move;
-                }
-                if (boardCopy.allSquaresUncovered(false)) {
-                    setWonByCover(false);
-                    return move;
-                }
-            } else {
-                if (boardCopy.allSquaresCovered(false)) {
-                    setWonByCover(true);
-                    return move;
-                }
-                if (boardCopy.allSquaresUncovered(true)) {
-                    setWonByCover(false);
-                    return move;
-                }
-            }
-        }
-
-        return new ArrayList<>();
+        // test cover moves on own row, then uncover moves on the opponent's row
+        int winMove = findWinningMove(isHuman, true, diceSum);
+        if (winMove == 0)
+            winMove = findWinningMove(!isHuman, false, diceSum);
+        return MoveTable.toList(winMove);
     }
 
 
@@ -342,19 +290,20 @@ public abstract class Player {
      * @return true to cover; false to uncover
      */
     public boolean shouldCoverOwnSquares(boolean isHuman, int diceSum) {
-        ArrayList<Integer> availableCover = board.getAvailableSquares(isHuman, true);
-        ArrayList<Integer> availableUncover = board.getAvailableSquares(!isHuman, false);
+        int availableCover = board.availableMask(isHuman, true);
+        int availableUncover = board.availableMask(!isHuman, false);
 
-        ArrayList<ArrayList<Integer>> coverMoves = allValidMoves(availableCover, diceSum);
-        ArrayList<ArrayList<Integer>> uncoverMoves = allValidMoves(availableUncover, diceSum);
+        MoveTable table = moveTable();
+        boolean canCover = table.anyMove(availableCover, diceSum);
+        boolean canUncover = table.anyMove(availableUncover, diceSum);
 
-        if (!coverMoves.isEmpty() && uncoverMoves.isEmpty())
+        if (canCover && !canUncover)
             return true;
-        if (coverMoves.isEmpty() && !uncoverMoves.isEmpty())
+        if (!canCover && canUncover)
             return false;
 
-        int numAvailCover = availableCover.size();
-        int numAvailUncover = availableUncover.size();
+        int numAvailCover = Integer.bitCount(availableCover);
+        int numAvailUncover = Integer.bitCount(availableUncover);
         int ratio = board.getBoardSize() / 2;
 
         if (numAvailCover <= ratio)
@@ -367,49 +316,25 @@ public abstract class Player {
 
     /**
      * Lists all valid subsets (size 1–4) summing to the target.
+     *
+     * <p>Lists of ascending squares from this board (what getAvailableSquares
+     * returns) are answered from the board size's {@link MoveTable}; anything
+     * else falls back to scanning every combination.
+     *
      * @param available values to combine
      * @param target desired sum
      * @return list of valid moves
      */
     public ArrayList<ArrayList<Integer>> allValidMoves(ArrayList<Integer> available, int target) {
-        ArrayList<ArrayList<Integer>> moves = new ArrayList<>();
-        int n = available.size();
-
-        // Check all subsets of 1 to 4 numbers.
-        for (int i = 0; i < n; i++) {
-            if (available.get(i) == target) {
-                ArrayList<Integer> singleMove = new ArrayList<>();
-                singleMove.add(available.get(i));
-                moves.add(singleMove);
-            }
-            for (int j = i + 1; j < n; j++) {
-                if (available.get(i) + available.get(j) == target) {
-                    ArrayList<Integer> twoMove = new ArrayList<>();
-                    twoMove.add(available.get(i));
-                    twoMove.add(available.get(j));
-                    moves.add(twoMove);
-                }
-                for (int k = j + 1; k < n; k++) {
-                    if (available.get(i) + available.get(j) + available.get(k) == target) {
-                        ArrayList<Integer> threeMove = new ArrayList<>();
-                        threeMove.add(available.get(i));
-                        threeMove.add(available.get(j));
-                        threeMove.add(available.get(k));
-                        moves.add(threeMove);
-                    }
-                    for (int l = k + 1; l < n; l++) {
-                        if (available.get(i) + available.get(j) + available.get(k) + available.get(l) == target) {
-                            ArrayList<Integer> fourMove = new ArrayList<>();
-                            fourMove.add(available.get(i));
-                            fourMove.add(available.get(j));
-                            fourMove.add(available.get(k));
-                            fourMove.add(available.get(l));
-                            moves.add(fourMove);
-                        }
-                    }
-                }
-            }
-        }
+        int mask = ascendingSquareMask(available);
+        if (mask < 0 || target < 1 || target > MoveTable.MAX_SUM)
+            return scanValidMoves(available, target);
+
+        MoveTable table = MoveTable.forSize(board.getBoardSize());
+        int end = table.end(mask, target);
+        ArrayList<ArrayList<Integer>> moves = new ArrayList<>(end - table.start(mask, target));
+        for (int i = table.start(mask, target); i < end; i++)
+            moves.add(MoveTable.toList(table.moveAt(i)));
         return moves;
     }
 
@@ -420,6 +345,8 @@ public abstract class Player {
      * @param log the Log instance to print to
      */
     public void displayValidMoves(ArrayList<ArrayList<Integer>> moves, Log log) {
+        if (!log.isEnabled(Log.Level.INFO))
+            return;
         if (moves.isEmpty()) {
             log.logMessage("No valid moves available.");
             return;
@@ -539,19 +466,110 @@ public abstract class Player {
 
 
     /**
-     * Creates a deep copy of the given board for simulation.
-     * @param original the Board to clone
-     * @return a separate Board instance with identical state
+     * Packs a list of squares into a mask if it is strictly ascending and
+     * every entry is a square on this board.
+     * @param available candidate squares
+     * @return the packed mask, or -1 if the list does not qualify
      */
-    private Board copyBoard(Board original) {
-        Board copy = new Board(original.getBoardSize());
-        copy.resetBoard();
-        copy.setHumanSquares(original.getHumanSquares());
-        copy.setComputerSquares(original.getComputerSquares());
-        while (copy.getTurn() < original.getTurn()) {
-            copy.incrementTurn();
+    private int ascendingSquareMask(ArrayList<Integer> available) {
+        int mask = 0;
+        int previous = 0;
+        for (int i = 0; i < available.size(); i++) {
+            int sq = available.get(i);
+            if (sq <= previous || sq > board.getBoardSize())
+                return -1;
+            mask |= 1 << (sq - 1);
+            previous = sq;
         }
-        return copy;
+        return mask;
+    }
+
+
+    /**
+     * Brute-force generator used when the move table does not apply:
+     * checks all subsets of 1 to 4 numbers. Package-private so tests can
+     * check the table against it.
+     * @param available values to combine
+     * @param target desired sum
+     * @return list of valid moves
+     */
+    ArrayList<ArrayList<Integer>> scanValidMoves(ArrayList<Integer> available, int target) {
+        ArrayList<ArrayList<Integer>> moves = new ArrayList<>();
+        int n = available.size();
+
+        // Check all subsets of 1 to 4 numbers.
+        for (int i = 0; i < n; i++) {
+            if (available.get(i) == target) {
+                ArrayList<Integer> singleMove = new ArrayList<>();
+                singleMove.add(available.get(i));
+                moves.add(singleMove);
+            }
+            for (int j = i + 1; j < n; j++) {
+                if (available.get(i) + available.get(j) == target) {
+                    ArrayList<Integer> twoMove = new ArrayList<>();
+                    twoMove.add(available.get(i));
+                    twoMove.add(available.get(j));
+                    moves.add(twoMove);
+                }
+                for (int k = j + 1; k < n; k++) {
+                    if (available.get(i) + available.get(j) + available.get(k) == target) {
+                        ArrayList<Integer> threeMove = new ArrayList<>();
+                        threeMove.add(available.get(i));
+                        threeMove.add(available.get(j));
+                        threeMove.add(available.get(k));
+                        moves.add(threeMove);
+                    }
+                    for (int l = k + 1; l < n; l++) {
+                        if (available.get(i) + available.get(j) + available.get(k) + available.get(l) == target) {
+                            ArrayList<Integer> fourMove = new ArrayList<>();
+                            fourMove.add(available.get(i));
+                            fourMove.add(available.get(j));
+                            fourMove.add(available.get(k));
+                            fourMove.add(available.get(l));
+                            moves.add(fourMove);
+                        }
+                    }
+                }
+            }
+        }
+        return moves;
+    }
+
+
+    /**
+     * Tries every move of one kind against the live board using apply/undo,
+     * recording how the mover would win. Allocates nothing.
+     * @param row      whose row the moves change
+     * @param forCover true for cover moves; false for uncover moves
+     * @param diceSum  the rolled total
+     * @return the first winning move's square mask, or 0 if none wins
+     */
+    private int findWinningMove(boolean row, boolean forCover, int diceSum) {
+        // the mover covers its own row and uncovers its opponent's
+        boolean isHuman = (row == forCover);
+        cursor.reset(moveTable(), board.availableMask(row, forCover), diceSum);
+        while (cursor.next()) {
+            int move = cursor.move();
+            int applied = board.apply(move, row, forCover);
+            boolean coveredAll = board.allSquaresCovered(isHuman);
+            boolean uncoveredAll = board.allSquaresUncovered(!isHuman);
+            board.undo(applied, row, forCover);
+            if (coveredAll) {
+                setWonByCover(true);
+                return move;
+            }
+            if (uncoveredAll) {
+                setWonByCover(false);
+                return move;
+            }
+        }
+        return 0;
+    }
+
+
+    /** @return the shared move table for the current board size */
+    private MoveTable moveTable() {
+        return MoveTable.forSize(board.getBoardSize());
     }
 
 
@@ -563,6 +581,15 @@ public abstract class Player {
     protected Board board;
     protected Log log;
 
+    // Shared with the model and the other player when part of a game
+    protected DiceSource dice = new RandomDiceSource();
+
+    // Told about every roll and move; null when nobody is listening
+    protected GameEventListener events = null;
+
+    // Reused by the allocation-free move scans
+    protected final MoveCursor cursor = new MoveCursor();
+
 
     // ──────────────────────────────────────────────────────────────
     // Private Members
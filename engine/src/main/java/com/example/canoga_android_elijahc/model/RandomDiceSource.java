@@ -0,0 +1,58 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    RandomDiceSource.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+import java.util.SplittableRandom;
+
+
+/**
+ * The default dice: a {@link SplittableRandom}, created once per game
+ * rather than once per roll. A fixed seed makes every roll of a game
+ * reproducible.
+ */
+public class RandomDiceSource implements DiceSource {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constructors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** Creates unseeded dice, different on every run. */
+    public RandomDiceSource() {
+        random = new SplittableRandom();
+    }
+
+
+    /**
+     * Creates seeded dice.
+     * @param seed the same seed always gives the same rolls
+     */
+    public RandomDiceSource(long seed) {
+        random = new SplittableRandom(seed);
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    @Override
+    public int rollDie() {
+        return random.nextInt(6) + 1;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    private final SplittableRandom random;
+
+}
@@ -0,0 +1,180 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    RingBufferLog.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/**
+ * A bounded, lock-free queue of log messages from any number of producers
+ * (e.g. the UI thread and the computer's worker) to one consumer (e.g. the
+ * UI thread showing them). Logging never blocks and never waits for the
+ * consumer: when the buffer is full the message is dropped and counted
+ * instead.
+ *
+ * <p>Producers claim a slot by advancing the tail with a CAS and then fill
+ * it; the consumer stops at the first claimed slot that is still empty and
+ * picks it up on its next drain, so messages come out in the order their
+ * slots were claimed. Only the consumer writes the head. Draining from
+ * more than one thread at a time is not supported.
+ */
+public class RingBufferLog implements Log {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constructors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param capacity messages held before logging starts to drop; rounded
+     *                 up to a power of two
+     */
+    public RingBufferLog(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        slots = new AtomicReferenceArray<>(size);
+        mask = size - 1;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Producer Side
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Queues a message, or drops it if the buffer is full. Never blocks.
+     * @param message the text to append to the log
+     */
+    @Override
+    public void logMessage(String message) {
+        offer(message);
+    }
+
+
+    /**
+     * Queues a message unless the buffer is full.
+     * @param message the text to queue
+     * @return true if queued; false if dropped
+     */
+    public boolean offer(String message) {
+        long t;
+        do {
+            t = tail.get();
+            if (t - head.get() >= slots.length()) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        } while (!tail.compareAndSet(t, t + 1));
+        // an empty slot means "claimed, not written yet", so never store null
+        slots.lazySet((int) t & mask, String.valueOf(message));
+        return true;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Consumer Side
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Moves queued messages, oldest first, into a collection, stopping at
+     * one a producer has claimed but not yet written.
+     * @param out         receives the messages
+     * @param maxMessages most to take in this batch
+     * @return messages moved
+     */
+    public int drainTo(Collection<? super String> out, int maxMessages) {
+        long h = head.get();
+        int limit = (int) Math.min(tail.get() - h, maxMessages);
+        int n = 0;
+        while (n < limit) {
+            int index = (int) (h + n) & mask;
+            String message = slots.get(index);
+            if (message == null)
+                break;
+            out.add(message);
+            slots.lazySet(index, null);
+            n++;
+        }
+        head.lazySet(h + n);
+        return n;
+    }
+
+
+    /**
+     * Moves every queued message, oldest first, to another log, stopping
+     * at one a producer has claimed but not yet written.
+     * @param target receives the messages
+     * @return messages moved
+     */
+    public int drainTo(Log target) {
+        long h = head.get();
+        int limit = (int) (tail.get() - h);
+        int n = 0;
+        while (n < limit) {
+            int index = (int) (h + n) & mask;
+            String message = slots.get(index);
+            if (message == null)
+                break;
+            target.logMessage(message);
+            slots.lazySet(index, null);
+            n++;
+        }
+        head.lazySet(h + n);
+        return n;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Selectors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** @return messages queued (or being written) and not yet drained */
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+
+    /** @return true if nothing is waiting to be drained */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+
+    /** @return messages the buffer holds when full */
+    public int capacity() {
+        return slots.length();
+    }
+
+
+    /** @return messages dropped because the buffer was full, since creation */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    private final AtomicReferenceArray<String> slots;
+    private final int mask;
+
+    // Next slot to read (written by the consumer only)
+    private final AtomicLong head = new AtomicLong();
+
+    // Next slot to claim (advanced by producers with a CAS)
+    private final AtomicLong tail = new AtomicLong();
+
+    private final AtomicLong dropped = new AtomicLong();
+
+}
@@ -0,0 +1,119 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    Rules.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+
+/**
+ * The Canoga rules restated over row bitmasks, for search code that works
+ * on raw positions instead of Board/Player objects.
+ *
+ * <p>Positions are seen from the player to move: "own" is the mover's row,
+ * "opp" the opponent's, both as uncovered-square masks. The rules match
+ * Board and Player: one die only once squares 7 and up are covered, no
+ * uncovering and no win until the turn counter passes 1, and a win as soon
+ * as a move covers the mover's whole row or uncovers the opponent's.
+ */
+public final class Rules {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constants
+    // ──────────────────────────────────────────────────────────────
+
+    /** Ways to roll each sum 0..12 with one die (out of 6). */
+    public static final int[] ONE_DIE_WAYS = {0, 1, 1, 1, 1, 1, 1, 0, 0, 0, 0, 0, 0};
+
+    /** Ways to roll each sum 0..12 with two dice (out of 36). */
+    public static final int[] TWO_DICE_WAYS = {0, 0, 1, 2, 3, 4, 5, 6, 5, 4, 3, 2, 1};
+
+    /** Turn counter value from which uncovering and winning are allowed. */
+    public static final int OPEN_TURN = 2;
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Static Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param numDice 1 or 2
+     * @param sum     the rolled total
+     * @return probability of rolling that sum
+     */
+    public static double rollProbability(int numDice, int sum) {
+        if (sum < 0 || sum > MoveTable.MAX_SUM)
+            return 0;
+        return numDice == 1 ? ONE_DIE_WAYS[sum] / 6.0 : TWO_DICE_WAYS[sum] / 36.0;
+    }
+
+
+    /**
+     * Same test as {@link Board#checkUpperSquares(boolean)}.
+     * @param own  mover's uncovered mask
+     * @param size squares per row
+     * @return true if the mover may choose to roll one die
+     */
+    public static boolean canRollOne(int own, int size) {
+        return size >= 7 && (own & ~0x3F) == 0;
+    }
+
+
+    /**
+     * @param turn board turn counter
+     * @return true if uncover moves (and wins) are allowed this turn
+     */
+    public static boolean isOpen(int turn) {
+        return turn >= OPEN_TURN;
+    }
+
+
+    /**
+     * Checks the win condition right after the mover's move.
+     * @param own  mover's uncovered mask after the move
+     * @param opp  opponent's uncovered mask after the move
+     * @param full mask of every square
+     * @param turn board turn counter
+     * @return true if the mover has won
+     */
+    public static boolean isWin(int own, int opp, int full, int turn) {
+        return isOpen(turn) && (own == 0 || opp == full);
+    }
+
+
+    /**
+     * @param turn board turn counter
+     * @return the counter after the turn passes, clamped at OPEN_TURN
+     */
+    public static int nextTurn(int turn) {
+        return Math.min(turn + 1, OPEN_TURN);
+    }
+
+
+    /**
+     * @param mask bitmask of squares
+     * @return total of the square values in the mask
+     */
+    public static int squareSum(int mask) {
+        int total = 0;
+        while (mask != 0) {
+            total += Integer.numberOfTrailingZeros(mask) + 1;
+            mask &= mask - 1;
+        }
+        return total;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Constructors
+    // ──────────────────────────────────────────────────────────────
+
+    /** Static helpers only. */
+    private Rules() {
+    }
+
+}
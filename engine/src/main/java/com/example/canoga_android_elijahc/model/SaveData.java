@@ -0,0 +1,251 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    SaveData.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+
+/**
+ * Everything a save file holds, and its compact binary encoding.
+ *
+ * <p>Binary layout, big-endian, {@value #BINARY_LENGTH} bytes:
+ * <ul>
+ *   <li>0–3: magic "CNGS"</li>
+ *   <li>4: format version ({@value #VERSION})</li>
+ *   <li>5: board size</li>
+ *   <li>6: flags: bit 0 human first, bit 1 human next, bit 2 handicap on the human's row</li>
+ *   <li>7: handicap square (0 for none)</li>
+ *   <li>8–9, 10–11: computer and human row masks, bit (sq - 1) set while sq is uncovered</li>
+ *   <li>12–15, 16–19: computer and human tournament scores</li>
+ *   <li>20–23: CRC32 of bytes 0–19</li>
+ * </ul>
+ * The text format holds the same fields except the handicap square, so a
+ * text save converts to binary and back unchanged.
+ */
+public final class SaveData {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constants
+    // ──────────────────────────────────────────────────────────────
+
+    /** Extension used for binary save files. */
+    public static final String BINARY_EXTENSION = ".cgb";
+
+    /** Current binary format version. */
+    public static final int VERSION = 1;
+
+    /** Size of a version 1 binary save. */
+    public static final int BINARY_LENGTH = 24;
+
+    /** Bytes needed to tell a binary save from a text one. */
+    public static final int MAGIC_LENGTH = 4;
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constructors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param boardSize      squares per row
+     * @param computerMask   computer's row, bit (sq - 1) set while sq is uncovered
+     * @param humanMask      human's row, same layout
+     * @param computerScore  computer's tournament score
+     * @param humanScore     human's tournament score
+     * @param humanFirst     true if the human went first this round
+     * @param humanNext      true if the human moves next
+     * @param handicapHuman  true if the handicap square is on the human's row
+     * @param handicapSquare the handicap square, or 0 for none
+     */
+    public SaveData(int boardSize, int computerMask, int humanMask,
+                    int computerScore, int humanScore,
+                    boolean humanFirst, boolean humanNext,
+                    boolean handicapHuman, int handicapSquare) {
+        this.boardSize = boardSize;
+        this.computerMask = computerMask;
+        this.humanMask = humanMask;
+        this.computerScore = computerScore;
+        this.humanScore = humanScore;
+        this.humanFirst = humanFirst;
+        this.humanNext = humanNext;
+        this.handicapHuman = handicapHuman;
+        this.handicapSquare = handicapSquare;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Selectors
+    // ──────────────────────────────────────────────────────────────
+
+    /** @return squares per row */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /** @return computer's row mask */
+    public int getComputerMask() {
+        return computerMask;
+    }
+
+    /** @return human's row mask */
+    public int getHumanMask() {
+        return humanMask;
+    }
+
+    /** @return computer's tournament score */
+    public int getComputerScore() {
+        return computerScore;
+    }
+
+    /** @return human's tournament score */
+    public int getHumanScore() {
+        return humanScore;
+    }
+
+    /** @return true if the human went first this round */
+    public boolean getHumanFirst() {
+        return humanFirst;
+    }
+
+    /** @return true if the human moves next */
+    public boolean getHumanNext() {
+        return humanNext;
+    }
+
+    /** @return true if the handicap square is on the human's row */
+    public boolean getHandicapHuman() {
+        return handicapHuman;
+    }
+
+    /** @return the handicap square, or 0 for none */
+    public int getHandicapSquare() {
+        return handicapSquare;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Binary Encoding
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param head the first bytes of a file
+     * @param length how many of them were read
+     * @return true if they start with the binary save magic
+     */
+    public static boolean isBinary(byte[] head, int length) {
+        if (length < MAGIC_LENGTH)
+            return false;
+        for (int i = 0; i < MAGIC_LENGTH; i++) {
+            if (head[i] != MAGIC[i])
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * Encodes this save in the binary format.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>Write magic, version, size, flags and handicap square.</li>
+     *   <li>Write both row masks, then both scores.</li>
+     *   <li>Append the CRC32 of everything before it.</li>
+     * </ol>
+     *
+     * @return {@value #BINARY_LENGTH} bytes
+     */
+    public byte[] toBytes() {
+        ByteBuffer buf = ByteBuffer.allocate(BINARY_LENGTH);
+        buf.put(MAGIC)
+                .put((byte) VERSION)
+                .put((byte) boardSize)
+                .put((byte) ((humanFirst ? 1 : 0) | (humanNext ? 2 : 0) | (handicapHuman ? 4 : 0)))
+                .put((byte) handicapSquare)
+                .putShort((short) computerMask)
+                .putShort((short) humanMask)
+                .putInt(computerScore)
+                .putInt(humanScore);
+        buf.putInt((int) crc(buf.array()));
+        return buf.array();
+    }
+
+
+    /**
+     * Decodes a binary save. Only the encoding is checked here; whether the
+     * rows and scores make a legal game is up to the caller.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>Check the magic.</li>
+     *   <li>Reject versions this code does not know.</li>
+     *   <li>Check the length and CRC, then read the fields.</li>
+     * </ol>
+     *
+     * @param bytes  buffer holding the file
+     * @param length bytes of it that were read
+     * @return the decoded save
+     * @throws IOException naming the problem if the data is not a valid save
+     */
+    public static SaveData fromBytes(byte[] bytes, int length) throws IOException {
+        if (length <= MAGIC_LENGTH || !isBinary(bytes, length))
+            throw new IOException("Invalid binary save file.");
+        ByteBuffer buf = ByteBuffer.wrap(bytes, 0, length);
+        buf.position(MAGIC_LENGTH);
+        int version = buf.get() & 0xFF;
+        if (version != VERSION)
+            throw new IOException("Unsupported save file version " + version + ".");
+        if (length != BINARY_LENGTH)
+            throw new IOException("Invalid binary save file.");
+        if ((int) crc(bytes) != buf.getInt(BINARY_LENGTH - 4))
+            throw new IOException("Save file is corrupt (checksum mismatch).");
+        int size = buf.get() & 0xFF;
+        int flags = buf.get();
+        int handicap = buf.get() & 0xFF;
+        int computer = buf.getShort() & 0xFFFF;
+        int human = buf.getShort() & 0xFFFF;
+        int computerScore = buf.getInt();
+        int humanScore = buf.getInt();
+        return new SaveData(size, computer, human, computerScore, humanScore,
+                (flags & 1) != 0, (flags & 2) != 0, (flags & 4) != 0, handicap);
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Helpers
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param bytes an encoded save
+     * @return the CRC32 of everything but its trailing checksum
+     */
+    private static long crc(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, BINARY_LENGTH - 4);
+        return crc.getValue();
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    private static final byte[] MAGIC = {'C', 'N', 'G', 'S'};
+
+    private final int boardSize;
+    private final int computerMask, humanMask;
+    private final int computerScore, humanScore;
+    private final boolean humanFirst, humanNext;
+    private final boolean handicapHuman;
+    private final int handicapSquare;
+}
@@ -0,0 +1,351 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    SaveIndex.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+
+/**
+ * Preview metadata for every save file in a directory, so a file list can
+ * show board size, scores and whose turn it is without loading each game.
+ *
+ * <p>Each save is parsed once and its {@link SaveData} cached with the
+ * file's modification time and length. {@link #refresh} re-reads only
+ * files whose time or length has changed, and drops files that are gone.
+ * The cache is written to a file, so a new index shows the list as it
+ * was straight away, before any save is read again.
+ *
+ * <p>Cache file, big-endian: magic "CNGI", version, entry count, then per
+ * entry the file name (writeUTF), modification time, length, and either
+ * a 0 byte for a file that is not a valid save or a 1 byte and the save's
+ * {@value SaveData#BINARY_LENGTH}-byte binary encoding.
+ *
+ * <p>{@link #refresh} is meant to run on one background thread; the
+ * UI thread may call {@link #getEntries} at any time.
+ */
+public class SaveIndex {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Nested Types
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * One save file and what it holds.
+     */
+    public static final class Entry {
+
+        /**
+         * @param name         file name within the indexed directory
+         * @param lastModified the file's modification time when it was read
+         * @param length       the file's length when it was read
+         * @param save         its contents, or null if it is not a valid save
+         */
+        Entry(String name, long lastModified, long length, SaveData save) {
+            this.name = name;
+            this.lastModified = lastModified;
+            this.length = length;
+            this.save = save;
+        }
+
+        /** @return file name within the indexed directory */
+        public String getName() {
+            return name;
+        }
+
+        /** @return the file's modification time when it was read */
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        /** @return the file's length when it was read */
+        public long getLength() {
+            return length;
+        }
+
+        /** @return the save's contents, or null if it could not be read */
+        public SaveData getSave() {
+            return save;
+        }
+
+        /**
+         * @param isHuman true for the human's row, false for the computer's
+         * @return squares covered on that row; 0 if the save could not be read
+         */
+        public int getCoveredCount(boolean isHuman) {
+            if (save == null)
+                return 0;
+            int full = (1 << save.getBoardSize()) - 1;
+            int mask = isHuman ? save.getHumanMask() : save.getComputerMask();
+            return save.getBoardSize() - Integer.bitCount(mask & full);
+        }
+
+        private final String name;
+        private final long lastModified;
+        private final long length;
+        private final SaveData save;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constructors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Creates the index, filled from the cache file if there is a readable
+     * one. Nothing in the directory is read until {@link #refresh}.
+     * @param dir       directory holding the save files
+     * @param cacheFile file the index is kept in between runs
+     */
+    public SaveIndex(File dir, File cacheFile) {
+        this.dir = dir;
+        this.cacheFile = cacheFile;
+        this.entries = readCache(cacheFile);
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param name a file name
+     * @return true if it has a save file extension, text or binary
+     */
+    public static boolean isSaveFile(String name) {
+        return name.endsWith(TEXT_EXTENSION) || name.endsWith(SaveData.BINARY_EXTENSION);
+    }
+
+
+    /**
+     * @return every indexed save, sorted by name; an unmodifiable snapshot
+     *         that later refreshes do not change
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+
+    /**
+     * Brings the index up to date with the directory, reading only files
+     * that are new or have changed since they were indexed.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>List the save files in the directory; drop indexed files that are gone.</li>
+     *   <li>For each file whose time or length differs from its entry → parse it again.</li>
+     *   <li>Every {@value #BATCH} parsed files, publish the entries so far to onBatch.</li>
+     *   <li>If anything changed → publish the final entries and rewrite the cache file.</li>
+     * </ol>
+     * Stops early, keeping what it has, if the thread is interrupted.
+     *
+     * @param onBatch receives the updated entries as they change, on this
+     *                thread; may be null
+     * @return true if any entry was added, changed or removed
+     */
+    public boolean refresh(Consumer<List<Entry>> onBatch) {
+        String[] names = dir.list();
+        if (names == null)
+            names = new String[0];
+
+        TreeMap<String, Entry> updated = new TreeMap<>();
+        for (Entry entry : entries)
+            updated.put(entry.getName(), entry);
+        int before = updated.size();
+        updated.keySet().retainAll(saveNames(names));
+        boolean changed = updated.size() != before;
+
+        int parsed = 0;
+        for (String name : names) {
+            if (Thread.currentThread().isInterrupted())
+                break;
+            if (!isSaveFile(name))
+                continue;
+            File file = new File(dir, name);
+            long lastModified = file.lastModified();
+            long length = file.length();
+            Entry old = updated.get(name);
+            if (old != null && old.getLastModified() == lastModified && old.getLength() == length)
+                continue;
+
+            updated.put(name, new Entry(name, lastModified, length, readSave(file)));
+            changed = true;
+            if (++parsed % BATCH == 0)
+                publish(updated, onBatch);
+        }
+
+        if (changed) {
+            publish(updated, onBatch);
+            writeCache();
+        }
+        return changed;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Helpers
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param names file names in the directory
+     * @return those that are save files
+     */
+    private static Set<String> saveNames(String[] names) {
+        Set<String> saves = new HashSet<>(names.length * 2);
+        for (String name : names) {
+            if (isSaveFile(name))
+                saves.add(name);
+        }
+        return saves;
+    }
+
+
+    /**
+     * Makes the entries so far visible to getEntries and the callback.
+     * @param updated the entries, by name
+     * @param onBatch receives them; may be null
+     */
+    private void publish(TreeMap<String, Entry> updated, Consumer<List<Entry>> onBatch) {
+        entries = Collections.unmodifiableList(new ArrayList<>(updated.values()));
+        if (onBatch != null)
+            onBatch.accept(entries);
+    }
+
+
+    /**
+     * Parses a save file the way CanogaModel.loadGame does, without
+     * applying it: binary if it has the magic, text otherwise.
+     * @param file a save file
+     * @return its contents, or null if it is unreadable, too large or not a save
+     */
+    private SaveData readSave(File file) {
+        if (file.length() > MAX_SAVE_LENGTH)
+            return null;
+        try (FileChannel channel = new FileInputStream(file).getChannel()) {
+            buffer.clear();
+            int read;
+            do {
+                read = channel.read(buffer);
+            } while (read > 0 && buffer.hasRemaining());
+            buffer.flip();
+            SaveData save;
+            if (SaveData.isBinary(buffer.array(), buffer.limit()))
+                save = SaveData.fromBytes(buffer.array(), buffer.limit());
+            else
+                save = SaveTextParser.parse(buffer, Log.OFF);
+            return save != null && save.getBoardSize() > 0 ? save : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+
+    /**
+     * @param cacheFile the cache file
+     * @return its entries, or none if it is missing, unreadable or from
+     *         another version
+     */
+    private static List<Entry> readCache(File cacheFile) {
+        List<Entry> cached = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION)
+                return Collections.emptyList();
+            int count = in.readInt();
+            byte[] bytes = new byte[SaveData.BINARY_LENGTH];
+            for (int i = 0; i < count; i++) {
+                String name = in.readUTF();
+                long lastModified = in.readLong();
+                long length = in.readLong();
+                SaveData save = null;
+                if (in.readBoolean()) {
+                    in.readFully(bytes);
+                    save = SaveData.fromBytes(bytes, bytes.length);
+                }
+                cached.add(new Entry(name, lastModified, length, save));
+            }
+        } catch (IOException e) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(cached);
+    }
+
+
+    /**
+     * Replaces the cache file with the current entries, through a temp
+     * file so a crash never leaves half a cache. A cache that cannot be
+     * written is skipped; the next run just indexes again.
+     */
+    private void writeCache() {
+        List<Entry> snapshot = entries;
+        File tmp = new File(cacheFile.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(snapshot.size());
+            for (Entry entry : snapshot) {
+                out.writeUTF(entry.getName());
+                out.writeLong(entry.getLastModified());
+                out.writeLong(entry.getLength());
+                out.writeBoolean(entry.getSave() != null);
+                if (entry.getSave() != null)
+                    out.write(entry.getSave().toBytes());
+            }
+        } catch (IOException e) {
+            tmp.delete();
+            return;
+        }
+        if (!tmp.renameTo(cacheFile))
+            tmp.delete();
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    private static final String TEXT_EXTENSION = ".txt";
+
+    // "CNGI" and the cache layout version
+    private static final int MAGIC = 0x434E4749;
+    private static final int VERSION = 1;
+
+    // Files parsed between updates published during a refresh
+    private static final int BATCH = 64;
+
+    // Larger files are not read; a save is a few hundred bytes at most
+    private static final int MAX_SAVE_LENGTH = 64 * 1024;
+
+    private final File dir;
+    private final File cacheFile;
+
+    // Reused for every file a refresh reads
+    private final ByteBuffer buffer = ByteBuffer.allocate(MAX_SAVE_LENGTH);
+
+    // Sorted by name; replaced, never modified, so readers need no lock
+    private volatile List<Entry> entries;
+}
@@ -0,0 +1,335 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    SaveTextParser.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * Parses the text save format straight out of a ByteBuffer holding the
+ * file. Tokens are compared and converted in place, and squares are packed
+ * into row masks as they are read, so a parse creates no Strings, boxed
+ * Integers or lists.
+ *
+ * <p>Lines end at "\n", "\r" or "\r\n" and tokens are split on the same
+ * whitespace as StringTokenizer, so it accepts exactly what the old
+ * BufferedReader/StringTokenizer loader did and logs the same errors. A
+ * token that is not a number where one is expected, or a turn line with
+ * no value, used to throw out of the loader; it is now reported with the
+ * error for that field instead.
+ */
+public final class SaveTextParser {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Static Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Parses a text save. Board rows are checked here, since the text gives
+     * them as square lists; everything else is checked when applied.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>For each line, read its first token as the key.</li>
+     *   <li>When key "Computer:", parse squares then score.</li>
+     *   <li>When key "Human:", parse squares then score.</li>
+     *   <li>Parse "First Turn:" and "Next Turn:".</li>
+     *   <li>Check both rows: computer size and entries, then human.</li>
+     * </ol>
+     *
+     * @param in  the file's bytes, from position to limit; not modified
+     * @param log receives an error message if the save is malformed
+     * @return the parsed state, or null (with an error logged) if malformed
+     */
+    public static SaveData parse(ByteBuffer in, Log log) {
+        return new SaveTextParser(in, log).parse();
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param in  the file's bytes
+     * @param log receives error messages
+     */
+    private SaveTextParser(ByteBuffer in, Log log) {
+        this.in = in;
+        this.log = log;
+        this.pos = in.position();
+        this.limit = in.limit();
+    }
+
+
+    /**
+     * Runs the parse; see {@link #parse(ByteBuffer, Log)}.
+     * @return the parsed state, or null if malformed
+     */
+    private SaveData parse() {
+        while (nextLine()) {
+            if (!nextToken())
+                continue;
+            if (tokenIs(COMPUTER)) {
+                if (!parsePlayer(COMPUTER_ROW))
+                    return null;
+            } else if (tokenIs(HUMAN)) {
+                if (!parsePlayer(HUMAN_ROW))
+                    return null;
+            } else if (tokenIs(FIRST)) {
+                if (!nextToken() || !nextToken()) {
+                    error("Incorrect format for First Turn.");
+                    return null;
+                }
+                if (!tokenIs(HUMAN_VALUE) && !tokenIs(COMPUTER_VALUE)) {
+                    error("Invalid value for First Turn.");
+                    return null;
+                }
+                humanFirst = tokenIs(HUMAN_VALUE);
+            } else if (tokenIs(NEXT)) {
+                if (!nextToken() || !nextToken()) {
+                    error("Incorrect format for Next Turn.");
+                    return null;
+                }
+                if (!tokenIs(HUMAN_VALUE) && !tokenIs(COMPUTER_VALUE)) {
+                    error("Invalid value for Next Turn.");
+                    return null;
+                }
+                humanNext = tokenIs(HUMAN_VALUE);
+            }
+        }
+
+        if (count[COMPUTER_ROW] > Board.MAX_SIZE || badRow[COMPUTER_ROW]) {
+            error("Invalid board data entry for Computer Player.");
+            return null;
+        }
+        if (count[HUMAN_ROW] != count[COMPUTER_ROW] || badRow[HUMAN_ROW]) {
+            error("Invalid board data entry for Human Player.");
+            return null;
+        }
+        return new SaveData(count[COMPUTER_ROW], mask[COMPUTER_ROW], mask[HUMAN_ROW],
+                score[COMPUTER_ROW], score[HUMAN_ROW], humanFirst, humanNext, false, 0);
+    }
+
+
+    /**
+     * Parses the "Squares:" and "Score:" lines after a player's key line.
+     * A missing line (end of file) is skipped, as before.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>Next line must start "Squares:"; pack each following number into the row.</li>
+     *   <li>Line after must start "Score:" and give a number.</li>
+     * </ol>
+     *
+     * @param row COMPUTER_ROW or HUMAN_ROW
+     * @return false (with an error logged) if malformed
+     */
+    private boolean parsePlayer(int row) {
+        boolean human = row == HUMAN_ROW;
+        if (nextLine()) {
+            if (!nextToken() || !tokenIs(SQUARES)) {
+                error(human ? "Expected 'Squares:' after 'Human:'." : "Expected 'Squares:' after 'Computer:'.");
+                return false;
+            }
+            while (nextToken())
+                addSquare(row);
+        }
+        if (nextLine()) {
+            if (!nextToken() || !tokenIs(SCORE)) {
+                error(human ? "Expected 'Score:' after 'Human Squares'." : "Expected 'Score:' after 'Computer Squares'.");
+                return false;
+            }
+            if (!nextToken() || !parseToken()) {
+                error(human ? "Invalid human score format." : "Invalid computer score format.");
+                return false;
+            }
+            score[row] = value;
+        }
+        return true;
+    }
+
+
+    /**
+     * Packs the current token into a row. An entry must be 0 (covered) or
+     * its own 1-based position (uncovered); anything else marks the row bad.
+     * @param row COMPUTER_ROW or HUMAN_ROW
+     */
+    private void addSquare(int row) {
+        int index = count[row]++;
+        if (!parseToken())
+            badRow[row] = true;
+        else if (value == index + 1 && index < 31)
+            mask[row] |= 1 << index;
+        else if (value != 0)
+            badRow[row] = true;
+    }
+
+
+    /**
+     * Advances to the next line, as BufferedReader.readLine would.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>If at the end of the input → return false.</li>
+     *   <li>Find the next '\n' or '\r'; the line ends there.</li>
+     *   <li>Step past it, and past a '\n' that follows a '\r'.</li>
+     * </ol>
+     *
+     * @return false at end of input
+     */
+    private boolean nextLine() {
+        if (pos >= limit)
+            return false;
+        int end = pos;
+        while (end < limit && in.get(end) != '\n' && in.get(end) != '\r')
+            end++;
+        cursor = pos;
+        lineEnd = end;
+        pos = end;
+        if (pos < limit && in.get(pos++) == '\r' && pos < limit && in.get(pos) == '\n')
+            pos++;
+        return true;
+    }
+
+
+    /**
+     * Finds the next whitespace-separated token on the current line.
+     * @return false if the line has no more tokens
+     */
+    private boolean nextToken() {
+        while (cursor < lineEnd && isSpace(in.get(cursor)))
+            cursor++;
+        if (cursor == lineEnd)
+            return false;
+        tokenStart = cursor;
+        while (cursor < lineEnd && !isSpace(in.get(cursor)))
+            cursor++;
+        tokenEnd = cursor;
+        return true;
+    }
+
+
+    /**
+     * @param literal ASCII bytes to compare with
+     * @return true if the current token is exactly that literal
+     */
+    private boolean tokenIs(byte[] literal) {
+        if (tokenEnd - tokenStart != literal.length)
+            return false;
+        for (int i = 0; i < literal.length; i++) {
+            if (in.get(tokenStart + i) != literal[i])
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * Converts the current token into {@link #value}, accepting what
+     * Integer.parseInt accepts for ASCII input: an optional sign, then
+     * digits, within int range.
+     * @return false if the token is not such a number
+     */
+    private boolean parseToken() {
+        int i = tokenStart;
+        boolean negative = false;
+        byte first = in.get(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+        }
+        if (i == tokenEnd)
+            return false;
+        long result = 0;
+        for (; i < tokenEnd; i++) {
+            int digit = in.get(i) - '0';
+            if (digit < 0 || digit > 9)
+                return false;
+            result = result * 10 + digit;
+            if (result > (long) Integer.MAX_VALUE + 1)
+                return false;
+        }
+        if (negative)
+            result = -result;
+        if (result > Integer.MAX_VALUE)
+            return false;
+        value = (int) result;
+        return true;
+    }
+
+
+    /**
+     * @param b a byte on a line
+     * @return true for the whitespace StringTokenizer splits on by default
+     */
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\f' || b == '\n' || b == '\r';
+    }
+
+
+    /**
+     * Logs a parse error.
+     * @param message text after "Error: "
+     */
+    private void error(String message) {
+        log.logMessage(Log.Level.ERROR, "\nError: " + message);
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    private static final byte[] COMPUTER = ascii("Computer:");
+    private static final byte[] HUMAN = ascii("Human:");
+    private static final byte[] FIRST = ascii("First");
+    private static final byte[] NEXT = ascii("Next");
+    private static final byte[] SQUARES = ascii("Squares:");
+    private static final byte[] SCORE = ascii("Score:");
+    private static final byte[] HUMAN_VALUE = ascii("Human");
+    private static final byte[] COMPUTER_VALUE = ascii("Computer");
+
+    private static final int COMPUTER_ROW = 0, HUMAN_ROW = 1;
+
+    private final ByteBuffer in;
+    private final Log log;
+
+    // Input position of the next line, and the end of the input
+    private int pos;
+    private final int limit;
+
+    // Current line's end, the scan cursor within it, and the current token
+    private int lineEnd, cursor;
+    private int tokenStart, tokenEnd;
+
+    // Result of the last parseToken()
+    private int value;
+
+    // Per row, indexed by COMPUTER_ROW / HUMAN_ROW
+    private final int[] count = new int[2];
+    private final int[] mask = new int[2];
+    private final boolean[] badRow = new boolean[2];
+    private final int[] score = new int[2];
+    private boolean humanFirst, humanNext;
+
+
+    /**
+     * @param s an ASCII literal
+     * @return its bytes
+     */
+    private static byte[] ascii(String s) {
+        byte[] bytes = new byte[s.length()];
+        for (int i = 0; i < bytes.length; i++)
+            bytes[i] = (byte) s.charAt(i);
+        return bytes;
+    }
+}
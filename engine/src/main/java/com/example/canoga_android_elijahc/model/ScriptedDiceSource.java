@@ -0,0 +1,104 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    ScriptedDiceSource.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Dice that replay a fixed sequence of faces, e.g. rolls recorded from a
+ * failing game, so the game can be played again exactly.
+ *
+ * <p>To record, wrap the live source with {@link #recording(DiceSource)}
+ * and read the faces back with {@link #getFaces()} when the game is over.
+ */
+public class ScriptedDiceSource implements DiceSource {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constructors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param faces the dice to return, in order, each 1 to 6
+     * @throws IllegalArgumentException if a face is out of range
+     */
+    public ScriptedDiceSource(List<Integer> faces) {
+        for (int face : faces) {
+            if (face < 1 || face > 6)
+                throw new IllegalArgumentException("Not a die face: " + face);
+        }
+        this.faces = new ArrayList<>(faces);
+        this.source = null;
+    }
+
+
+    /** Recording constructor; see {@link #recording(DiceSource)}. */
+    private ScriptedDiceSource(DiceSource source) {
+        this.faces = new ArrayList<>();
+        this.source = source;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param source the dice to pass through
+     * @return dice that roll from source and remember every face
+     */
+    public static ScriptedDiceSource recording(DiceSource source) {
+        return new ScriptedDiceSource(source);
+    }
+
+
+    /**
+     * Returns the next scripted face, or when recording, rolls and keeps it.
+     * @throws IllegalStateException if the script has run out
+     */
+    @Override
+    public int rollDie() {
+        if (source != null) {
+            int face = source.rollDie();
+            faces.add(face);
+            return face;
+        }
+        if (next >= faces.size())
+            throw new IllegalStateException("Scripted dice ran out after " + faces.size() + " rolls");
+        return faces.get(next++);
+    }
+
+
+    /** @return every face in the script, or recorded so far */
+    public List<Integer> getFaces() {
+        return new ArrayList<>(faces);
+    }
+
+
+    /** @return faces already rolled */
+    public int getPosition() {
+        return source != null ? faces.size() : next;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    private final ArrayList<Integer> faces;
+
+    // Non-null while recording
+    private final DiceSource source;
+
+    private int next = 0;
+
+}
@@ -0,0 +1,113 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    SearchStrategy.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+
+/**
+ * Base for strategies that rate whole moves (search engines, win tables)
+ * rather than deciding cover vs. uncover first.
+ *
+ * <p>shouldCover runs the search and remembers the winning move;
+ * chooseMove hands it back as long as the board, roll and move type still
+ * match, and otherwise falls back to the classic choice.
+ */
+public abstract class SearchStrategy implements ComputerStrategy {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    @Override
+    public int chooseNumDice(Player player, boolean isHuman) {
+        return searchNumDice(player.getBoard(), isHuman);
+    }
+
+
+    @Override
+    public boolean shouldCover(Player player, boolean isHuman, int diceSum) {
+        Board board = player.getBoard();
+        pendingMove = searchMove(board, isHuman, diceSum);
+        pendingKey = board.getZobristKey();
+        pendingSum = diceSum;
+        pendingIsHuman = isHuman;
+        return pendingMove == Move.NONE || Move.isCover(pendingMove);
+    }
+
+
+    @Override
+    public int chooseMove(Player player, boolean isHuman, int diceSum, boolean isCover) {
+        int move = pendingMove;
+        boolean fresh = move != Move.NONE && pendingKey == player.getBoard().getZobristKey()
+                && pendingSum == diceSum && pendingIsHuman == isHuman;
+        pendingMove = Move.NONE;
+        if (fresh && Move.isCover(move) == isCover)
+            return move;
+        return fallback.chooseMove(player, isHuman, diceSum, isCover);
+    }
+
+
+    @Override
+    public void explainMove(Player player, int move, Log log) {
+        if (log.isEnabled(Log.Level.INFO))
+            log.logMessage(explainValue());
+    }
+
+
+    @Override
+    public String describeMove(int move) {
+        return null;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Protected Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param board   the live board (not modified)
+     * @param isHuman true if the human is the mover
+     * @return 1 or 2
+     */
+    protected abstract int searchNumDice(Board board, boolean isHuman);
+
+
+    /**
+     * @param board   the live board (not modified)
+     * @param isHuman true if the human is the mover
+     * @param diceSum the rolled total
+     * @return the best packed {@link Move} of either type, or Move.NONE
+     */
+    protected abstract int searchMove(Board board, boolean isHuman, int diceSum);
+
+
+    /** @return a log line giving the searched move's estimated chances */
+    protected abstract String explainValue();
+
+
+    /** @return a probability as a whole percentage */
+    protected static long percent(double p) {
+        return Math.round(p * 100);
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Protected & Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    // Used when the searched move no longer fits the question
+    protected final ClassicStrategy fallback = new ClassicStrategy();
+
+    private int pendingMove = Move.NONE;
+    private long pendingKey;
+    private int pendingSum;
+    private boolean pendingIsHuman;
+
+}
@@ -0,0 +1,573 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    TournamentSimulator.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Headless computer-vs-computer tournaments for measuring strategy
+ * strength and the effect of rules over many games.
+ *
+ * <p>Each game is a full tournament driven through {@link CanogaModel}
+ * exactly as the app drives it: {@code startGame} (first player, then the
+ * handicap from the last winner's score), the turn loop, and
+ * {@code roundEnd} for scoring. The computer seat plays its strategy
+ * through {@link Computer#makeMove}; the human seat is played by a second
+ * {@link ComputerStrategy} and moves through {@code humanMove}, as if
+ * someone tapped in the strategy's squares. Messages go to
+ * {@link Log#OFF}; on the paths a simulated game takes, every message
+ * made from values is built through a {@code Supplier} or behind an
+ * {@code isEnabled} check, so the only log calls left pass constant
+ * strings and no text is built.
+ *
+ * <p>Games are handed out to the worker threads one at a time. Each
+ * worker has its own models and strategies, and game i rolls from a
+ * {@link BufferedDiceSource} seeded by the run's seed and i, so a seed
+ * reproduces every game, first-player rolls included, whatever the
+ * thread count.
+ *
+ * <p>With an event output set, each game is also recorded as a
+ * {@link GameEventStream} and appended to it whole, so games never
+ * interleave however many threads run.
+ *
+ * <p>Usage: {@code TournamentSimulator [--size n] [--games n] [--rounds n]
+ * [--seed n] [--threads n] [--computer LEVEL] [--human LEVEL]
+ * [--tables dir] [--events file]}
+ */
+public class TournamentSimulator {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constructors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param boardSize     squares per row (9,10,11)
+     * @param rounds        rounds per tournament
+     * @param computerLevel strategy of the computer seat
+     * @param humanLevel    strategy of the human seat
+     * @param tables        where win table files live; null for none
+     */
+    public TournamentSimulator(int boardSize, int rounds, ComputerStrategy.Level computerLevel,
+                               ComputerStrategy.Level humanLevel, WinTable.Source tables) {
+        this.boardSize = boardSize;
+        this.rounds = Math.max(1, rounds);
+        this.computerLevel = computerLevel;
+        this.humanLevel = humanLevel;
+        this.tables = tables;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Mutators
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param out where to append every game's binary events; null (the
+     *            default) records nothing
+     */
+    public void setEventOutput(OutputStream out) {
+        eventOutput = out;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Nested Classes
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** Totals of one run; each worker keeps its own and they are merged. */
+    public static final class Result {
+
+        /** @return tournaments played */
+        public long getGames() {
+            return games;
+        }
+
+        /** @return rounds played, including unfinished ones */
+        public long getRounds() {
+            return rounds;
+        }
+
+        /** @return rolls over the whole run, first-player rolls included */
+        public long getRolls() {
+            return rolls;
+        }
+
+        /** @return rounds won by the computer seat */
+        public long getComputerRoundWins() {
+            return computerRoundWins;
+        }
+
+        /** @return rounds won by the human seat */
+        public long getHumanRoundWins() {
+            return humanRoundWins;
+        }
+
+        /** @return rounds won by whichever seat moved first */
+        public long getFirstMoverWins() {
+            return firstMoverWins;
+        }
+
+        /** @return rounds stopped at the turn limit */
+        public long getUnfinishedRounds() {
+            return unfinished;
+        }
+
+        /** @return tournaments the computer seat finished ahead in */
+        public long getComputerTournamentWins() {
+            return computerTournamentWins;
+        }
+
+        /** @return tournaments the human seat finished ahead in */
+        public long getHumanTournamentWins() {
+            return humanTournamentWins;
+        }
+
+        /** @return points scored by the computer seat */
+        public long getComputerPoints() {
+            return computerPoints;
+        }
+
+        /** @return points scored by the human seat */
+        public long getHumanPoints() {
+            return humanPoints;
+        }
+
+        /** @return game events recorded, 0 without an event output */
+        public long getEvents() {
+            return events;
+        }
+
+        /** @return bytes of game events recorded */
+        public long getEventBytes() {
+            return eventBytes;
+        }
+
+        /** @return wall-clock time of the run */
+        public double getSeconds() {
+            return seconds;
+        }
+
+        /** @return tournaments per second */
+        public double getGamesPerSecond() {
+            return seconds > 0 ? games / seconds : 0;
+        }
+
+        private void add(Result other) {
+            games += other.games;
+            rounds += other.rounds;
+            rolls += other.rolls;
+            computerRoundWins += other.computerRoundWins;
+            humanRoundWins += other.humanRoundWins;
+            firstMoverWins += other.firstMoverWins;
+            unfinished += other.unfinished;
+            computerTournamentWins += other.computerTournamentWins;
+            humanTournamentWins += other.humanTournamentWins;
+            computerPoints += other.computerPoints;
+            humanPoints += other.humanPoints;
+            events += other.events;
+            eventBytes += other.eventBytes;
+        }
+
+        private long games;
+        private long rounds;
+        private long rolls;
+        private long computerRoundWins;
+        private long humanRoundWins;
+        private long firstMoverWins;
+        private long unfinished;
+        private long computerTournamentWins;
+        private long humanTournamentWins;
+        private long computerPoints;
+        private long humanPoints;
+        private long events;
+        private long eventBytes;
+        private double seconds;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Command-line entry point; prints throughput and win rates.
+     * @param args the flags described in the class comment
+     */
+    public static void main(String[] args) {
+        int size = Board.MAX_SIZE;
+        long games = 10000;
+        int rounds = 5;
+        long seed = System.nanoTime();
+        int threads = Runtime.getRuntime().availableProcessors();
+        ComputerStrategy.Level computerLevel = ComputerStrategy.Level.CLASSIC;
+        ComputerStrategy.Level humanLevel = ComputerStrategy.Level.CLASSIC;
+        String tableDir = null;
+        String eventFile = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String flag = args[i];
+                if (i + 1 >= args.length)
+                    throw new IllegalArgumentException("Missing value for " + flag);
+                String value = args[++i];
+                switch (flag) {
+                    case "--size":
+                        size = Integer.parseInt(value);
+                        break;
+                    case "--games":
+                        games = Long.parseLong(value);
+                        break;
+                    case "--rounds":
+                        rounds = Integer.parseInt(value);
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(value);
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(value);
+                        break;
+                    case "--computer":
+                        computerLevel = ComputerStrategy.Level.valueOf(value.toUpperCase());
+                        break;
+                    case "--human":
+                        humanLevel = ComputerStrategy.Level.valueOf(value.toUpperCase());
+                        break;
+                    case "--tables":
+                        tableDir = value;
+                        break;
+                    case "--events":
+                        eventFile = value;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown flag " + flag);
+                }
+            }
+            if (size < 9 || size > Board.MAX_SIZE)
+                throw new IllegalArgumentException("Board size must be 9, 10 or 11");
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: TournamentSimulator [--size n] [--games n] [--rounds n] [--seed n]"
+                    + " [--threads n] [--computer LEVEL] [--human LEVEL] [--tables dir] [--events file]");
+            System.exit(2);
+            return;
+        }
+
+        File dir = tableDir != null ? new File(tableDir) : null;
+        WinTable.Source source = dir != null ? name -> new FileInputStream(new File(dir, name)) : null;
+        TournamentSimulator simulator = new TournamentSimulator(size, rounds, computerLevel, humanLevel, source);
+        Result r;
+        if (eventFile != null) {
+            try (OutputStream out = new BufferedOutputStream(new FileOutputStream(eventFile), 1 << 16)) {
+                simulator.setEventOutput(out);
+                r = simulator.run(games, seed, threads);
+            } catch (IOException | UncheckedIOException e) {
+                System.err.println("Unable to write events to " + eventFile + ": " + e.getMessage());
+                System.exit(1);
+                return;
+            }
+        } else {
+            r = simulator.run(games, seed, threads);
+        }
+
+        double perRound = Math.max(1, r.getRounds());
+        System.out.printf("%d tournaments of %d rounds on a %d board, seed %d, %d thread(s)%n",
+                r.getGames(), rounds, size, seed, Math.max(1, threads));
+        System.out.printf("  %.2f s, %.0f games/s, %.0f rounds/s, %.1f rolls per round%n",
+                r.getSeconds(), r.getGamesPerSecond(), r.getRounds() / Math.max(r.getSeconds(), 1e-9),
+                r.getRolls() / perRound);
+        System.out.printf("  rounds:      computer (%s) %.2f%%, human (%s) %.2f%%, first mover %.2f%%, unfinished %d%n",
+                computerLevel.getDisplayName(), 100 * r.getComputerRoundWins() / perRound,
+                humanLevel.getDisplayName(), 100 * r.getHumanRoundWins() / perRound,
+                100 * r.getFirstMoverWins() / perRound, r.getUnfinishedRounds());
+        double perGame = Math.max(1, r.getGames());
+        System.out.printf("  tournaments: computer %.2f%%, human %.2f%%, tied %.2f%%%n",
+                100 * r.getComputerTournamentWins() / perGame, 100 * r.getHumanTournamentWins() / perGame,
+                100 * (r.getGames() - r.getComputerTournamentWins() - r.getHumanTournamentWins()) / perGame);
+        System.out.printf("  points per round: computer %.2f, human %.2f%n",
+                r.getComputerPoints() / perRound, r.getHumanPoints() / perRound);
+        if (eventFile != null)
+            System.out.printf("  events: %d in %d bytes (%.2f bytes each) written to %s%n",
+                    r.getEvents(), r.getEventBytes(), r.getEventBytes() / (double) Math.max(1, r.getEvents()), eventFile);
+    }
+
+
+    /**
+     * Plays a batch of tournaments.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>Start one worker per thread (the caller's thread alone for 1).</li>
+     *   <li>Each worker claims the next game number until all are taken,
+     *       plays it with dice seeded from the run seed and that number,
+     *       and adds the outcome to its own totals.</li>
+     *   <li>Join the workers and merge their totals.</li>
+     * </ol>
+     *
+     * @param games   tournaments to play
+     * @param seed    seed for every roll of the run
+     * @param threads worker threads; 1 or less plays on the caller's thread
+     * @return the merged totals
+     * @throws UncheckedIOException if the event output fails
+     */
+    public Result run(long games, long seed, int threads) {
+        AtomicLong next = new AtomicLong();
+        int workers = Math.max(1, threads);
+        Result[] results = new Result[workers];
+        long start = System.nanoTime();
+
+        if (workers == 1) {
+            results[0] = work(next, games, seed);
+        } else {
+            Thread[] pool = new Thread[workers];
+            for (int w = 0; w < workers; w++) {
+                final int slot = w;
+                pool[w] = new Thread(() -> results[slot] = work(next, games, seed), "simulator-" + w);
+                pool[w].start();
+            }
+            for (Thread t : pool) {
+                try {
+                    t.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+
+        Result total = new Result();
+        for (Result r : results) {
+            if (r != null)
+                total.add(r);
+        }
+        total.seconds = (System.nanoTime() - start) / 1e9;
+        return total;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Nested Classes
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** Passes rolls through from another source, counting them. */
+    private static final class CountingDice implements DiceSource {
+
+        CountingDice(DiceSource source) {
+            this.source = source;
+        }
+
+        @Override
+        public int rollDie() {
+            rolls++;
+            return source.rollDie();
+        }
+
+        @Override
+        public int roll(int numDice) {
+            rolls++;
+            return source.roll(numDice);
+        }
+
+        private final DiceSource source;
+        private long rolls = 0;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** One worker's loop: claims and plays games until none are left. */
+    private Result work(AtomicLong next, long games, long seed) {
+        // strategies keep search state, and tables remember their last value,
+        // so nothing is shared between workers
+        WinTables winTables = tables != null ? new WinTables(tables) : null;
+        ComputerStrategy computerStrategy = computerLevel.create(winTables);
+        ComputerStrategy humanStrategy = humanLevel.create(winTables);
+        Result result = new Result();
+        GameEventStream events = eventOutput != null ? new GameEventStream() : null;
+
+        long game;
+        while ((game = next.getAndIncrement()) < games) {
+            CountingDice dice = new CountingDice(new BufferedDiceSource(seed + game * GAME_SEED_STEP));
+            CanogaModel model = new CanogaModel(boardSize, Log.OFF, computerStrategy, dice);
+            model.setEventListener(events);
+            playTournament(model, humanStrategy, result);
+            result.rolls += dice.rolls;
+            if (events != null) {
+                flushEvents(events, result);
+                events.clear();
+            }
+        }
+        return result;
+    }
+
+
+    /** Appends one game's events to the shared output. */
+    private void flushEvents(GameEventStream events, Result result) {
+        result.events += events.getEventCount();
+        result.eventBytes += events.length();
+        try {
+            synchronized (eventOutput) {
+                events.writeTo(eventOutput);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    /** Plays every round of one tournament and records the final standing. */
+    private void playTournament(CanogaModel model, ComputerStrategy humanStrategy, Result result) {
+        for (int roundNum = 1; roundNum <= rounds; roundNum++) {
+            model.startGame(roundNum);
+            boolean humanFirst = model.getHuman().getIsNext();
+            String winner = playRound(model, humanStrategy);
+            model.roundEnd(winner, roundNum);
+
+            result.rounds++;
+            if (winner.equals("Human")) {
+                result.humanRoundWins++;
+                result.humanPoints += model.getHuman().getRoundScore();
+                if (humanFirst)
+                    result.firstMoverWins++;
+            } else if (winner.equals("Computer")) {
+                result.computerRoundWins++;
+                result.computerPoints += model.getComputer().getRoundScore();
+                if (!humanFirst)
+                    result.firstMoverWins++;
+            } else {
+                result.unfinished++;
+                break;
+            }
+        }
+
+        result.games++;
+        int computerScore = model.getComputer().getTournamentScore();
+        int humanScore = model.getHuman().getTournamentScore();
+        if (computerScore > humanScore)
+            result.computerTournamentWins++;
+        else if (humanScore > computerScore)
+            result.humanTournamentWins++;
+    }
+
+
+    /**
+     * Alternates turns until a seat wins.
+     * @return "Human", "Computer", or "None" if the turn limit was reached
+     */
+    private String playRound(CanogaModel model, ComputerStrategy humanStrategy) {
+        for (int turns = 0; turns < MAX_TURNS; turns++) {
+            if (model.getHuman().getIsNext()) {
+                if (humanTurn(model, humanStrategy))
+                    return "Human";
+            } else if (computerTurn(model)) {
+                return "Computer";
+            }
+        }
+        return "None";
+    }
+
+
+    /**
+     * The computer seat's turn, played by {@link CanogaModel#computerMove}
+     * after the turn count advances as the controller does it.
+     * @return true if the computer won the round
+     */
+    private boolean computerTurn(CanogaModel model) {
+        model.getBoard().incrementTurn();
+        return !model.computerMove(null);
+    }
+
+
+    /**
+     * The human seat's turn, played by a strategy through the same calls
+     * the app makes for a person.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>Choose the dice (2 while a square from 7 up is uncovered) and roll.</li>
+     *   <li>If checkMoveAvailable says there is no move, the turn passes.</li>
+     *   <li>Take an instant win if there is one; otherwise ask the strategy
+     *       for cover or uncover, let checkMoveType correct it, and ask for
+     *       the squares.</li>
+     *   <li>Apply them with humanMove; stop on a win, else roll again.</li>
+     * </ol>
+     *
+     * @return true if the human seat won the round
+     */
+    private boolean humanTurn(CanogaModel model, ComputerStrategy strategy) {
+        Human human = model.getHuman();
+        Board board = model.getBoard();
+
+        while (true) {
+            int numDice = board.checkUpperSquares(true) ? strategy.chooseNumDice(human, true) : 2;
+            int diceSum = human.rollDice(numDice, Log.OFF);
+            if (!model.checkMoveAvailable(diceSum, true))
+                return false;
+
+            boolean isCover;
+            int move;
+            ArrayList<Integer> winMove = human.getInstantWinMove(true, diceSum);
+            if (winMove != null && !winMove.isEmpty()) {
+                isCover = human.getWonByCover();
+                move = Move.fromSquares(winMove, isCover, isCover);
+            } else {
+                isCover = strategy.shouldCover(human, true, diceSum) || board.getTurn() <= 1;
+                isCover = model.checkMoveType(isCover, diceSum);
+                move = strategy.chooseMove(human, true, diceSum, isCover);
+            }
+
+            if (move == Move.NONE || !model.humanMove(diceSum, isCover, Move.toSet(move))) {
+                human.setIsNext(false);
+                model.getComputer().setIsNext(true);
+                if (model.getEventListener() != null)
+                    model.getEventListener().onTurnEnd(true);
+                return false;
+            }
+            if (model.checkWinner(true)) {
+                human.setWonByCover(board.allSquaresCovered(true));
+                return true;
+            }
+        }
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    // Turns after which a round is abandoned as unfinished
+    private static final int MAX_TURNS = 10000;
+
+    // Spreads game numbers over the seed space (the golden-ratio increment)
+    private static final long GAME_SEED_STEP = 0x9E3779B97F4A7C15L;
+
+    private final int boardSize;
+    private final int rounds;
+    private final ComputerStrategy.Level computerLevel;
+    private final ComputerStrategy.Level humanLevel;
+    private final WinTable.Source tables;
+    private OutputStream eventOutput = null;
+
+}
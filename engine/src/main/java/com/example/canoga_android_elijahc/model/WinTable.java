@@ -0,0 +1,572 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    WinTable.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.IntToDoubleFunction;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * Exact win probabilities for one board size, as written by
+ * {@link WinTableSolver}, with lookups for the best dice count and move.
+ *
+ * <p>Values are seen from the player holding the dice, like {@link Rules}:
+ * "own" is the mover's uncovered mask, "opp" the opponent's. The file
+ * stores two tables as 16-bit fractions of 1:
+ * <ul>
+ *   <li>every open position (turn counter 2 or more);</li>
+ *   <li>every first-turn position (counter 0) a real game can reach, where
+ *       the opponent's row is full or missing only a handicap square.</li>
+ * </ul>
+ * Second-turn values (counter 1) depend only on open values, so they are
+ * rebuilt in one pass per opponent row when needed and cached.
+ *
+ * <p>File layout (gzip): magic "CWT1", board size, then both tables as
+ * unsigned shorts.
+ */
+public final class WinTable {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Interfaces
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** Opens table files by name, e.g. from app assets. */
+    public interface Source {
+
+        /**
+         * @param name file name from {@link #fileName(int)}
+         * @return a stream over the file
+         * @throws IOException if the file is missing or unreadable
+         */
+        InputStream open(String name) throws IOException;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Static Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param size squares per row
+     * @return the file name the table for that size is stored under
+     */
+    public static String fileName(int size) {
+        return "wintable_" + size + ".bin";
+    }
+
+
+    /**
+     * @param own  mover's uncovered mask
+     * @param opp  opponent's uncovered mask
+     * @param size squares per row
+     * @return position of (own, opp) in an open-position table
+     */
+    public static int index(int own, int opp, int size) {
+        return (own << size) | opp;
+    }
+
+
+    /**
+     * Reads a table written by {@link #write(OutputStream)}.
+     * @param in stream over the gzip file; closed when done
+     * @return the loaded table
+     * @throws IOException on read errors or a malformed file
+     */
+    public static WinTable read(InputStream in) throws IOException {
+        try (DataInputStream data = new DataInputStream(
+                new BufferedInputStream(new GZIPInputStream(in), BUFFER_SIZE))) {
+            if (data.readInt() != MAGIC)
+                throw new IOException("Not a win table file.");
+            int size = data.readInt();
+            if (size < 1 || size > Board.MAX_SIZE)
+                throw new IOException("Invalid win table board size: " + size);
+
+            char[] open = readChars(data, 1 << (2 * size));
+            char[] first = readChars(data, (size + 1) << size);
+            return new WinTable(size, open, first);
+        }
+    }
+
+
+    /**
+     * Loads the table for a board size.
+     * @param source where table files live
+     * @param size   squares per row
+     * @return the table, or null if the source has none for that size
+     */
+    public static WinTable load(Source source, int size) {
+        try {
+            return read(source.open(fileName(size)));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+
+    /**
+     * Builds a table from solved open-position values, deriving the
+     * first-turn table from them.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>Quantize the open values.</li>
+     *   <li>For every possible first player's row X, build the second-turn
+     *       values against X.</li>
+     *   <li>Keep the ones where the second player's row is full or missing a
+     *       handicap square; they are what first-turn positions lead to.</li>
+     *   <li>Fill each stored first-turn row from those, covering squares
+     *       until the first player gets stuck.</li>
+     * </ol>
+     *
+     * @param size   squares per row
+     * @param values open values indexed by {@link #index(int, int, int)}
+     * @return the complete table
+     */
+    public static WinTable fromValues(int size, double[] values) {
+        char[] open = new char[values.length];
+        for (int i = 0; i < values.length; i++)
+            open[i] = quantize(values[i]);
+
+        WinTable table = new WinTable(size, open, new char[(size + 1) << size]);
+        int rows = size + 1;
+        double[][] afterFirst = new double[rows][1 << size];
+        for (int x = 0; x <= table.full; x++) {
+            double[] second = table.secondTurnRow(x);
+            for (int r = 0; r < rows; r++)
+                afterFirst[r][x] = second[firstTurnOpponent(table.full, r)];
+        }
+        for (int r = 0; r < rows; r++) {
+            double[] first = table.firstTurnRow(afterFirst[r]);
+            for (int own = 0; own <= table.full; own++)
+                table.first[(r << size) | own] = quantize(first[own]);
+        }
+        return table;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Selectors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** @return the board size this table covers */
+    public int getBoardSize() {
+        return size;
+    }
+
+
+    /**
+     * Win probability for the player about to roll.
+     * @param own  mover's uncovered mask
+     * @param opp  opponent's uncovered mask
+     * @param turn board turn counter
+     * @return probability the mover wins the round with perfect play
+     */
+    public double value(int own, int opp, int turn) {
+        if (Rules.isOpen(turn))
+            return open[index(own, opp, size)] / SCALE;
+        if (turn == 1)
+            return secondTurn(opp)[own];
+
+        int row = storedRow(opp);
+        if (row >= 0)
+            return first[(row << size) | own] / SCALE;
+        return firstTurnFallback(opp)[own];
+    }
+
+
+    /**
+     * @param board   the live board
+     * @param isHuman true for the human's point of view
+     * @return that player's win probability if they are about to roll
+     */
+    public double winProbability(Board board, boolean isHuman) {
+        return value(board.uncoveredMask(isHuman), board.uncoveredMask(!isHuman), board.getTurn());
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param rated a result of rateNumDice or rateMove
+     * @return the choice in it: a dice count or a packed {@link Move}
+     */
+    public static int ratedChoice(long rated) {
+        return (int) (rated >> 32);
+    }
+
+
+    /**
+     * @param rated a result of rateNumDice or rateMove
+     * @return the mover's win probability after that choice
+     */
+    public static double ratedValue(long rated) {
+        return Float.intBitsToFloat((int) rated);
+    }
+
+
+    /**
+     * Decides how many dice to roll.
+     * @param board   the live board (not modified)
+     * @param isHuman true if the human is the mover
+     * @return 1 or 2
+     */
+    public int chooseNumDice(Board board, boolean isHuman) {
+        return ratedChoice(rateNumDice(board, isHuman));
+    }
+
+
+    /**
+     * Decides how many dice to roll and what that is worth. The table holds
+     * no state of its own, so any thread may ask.
+     * @param board   the live board (not modified)
+     * @param isHuman true if the human is the mover
+     * @return 1 or 2 packed with the mover's win probability; see ratedChoice and ratedValue
+     */
+    public long rateNumDice(Board board, boolean isHuman) {
+        int own = board.uncoveredMask(isHuman);
+        int opp = board.uncoveredMask(!isHuman);
+        int turn = Math.min(board.getTurn(), Rules.OPEN_TURN);
+
+        double two = chance(own, opp, turn, 2);
+        if (!Rules.canRollOne(own, size))
+            return rated(2, two);
+        double one = chance(own, opp, turn, 1);
+        return one > two ? rated(1, one) : rated(2, two);
+    }
+
+
+    /**
+     * Picks the move with the highest win probability.
+     * @param board   the live board (not modified)
+     * @param isHuman true if the human is the mover
+     * @param diceSum the rolled total
+     * @return the chosen packed {@link Move}, or Move.NONE if no move is legal
+     */
+    public int chooseMove(Board board, boolean isHuman, int diceSum) {
+        return ratedChoice(rateMove(board, isHuman, diceSum));
+    }
+
+
+    /**
+     * Picks the move with the highest win probability, with its value.
+     * @param board   the live board (not modified)
+     * @param isHuman true if the human is the mover
+     * @param diceSum the rolled total
+     * @return the packed {@link Move} (Move.NONE if no move is legal) packed
+     *         with the mover's win probability; see ratedChoice and ratedValue
+     */
+    public long rateMove(Board board, boolean isHuman, int diceSum) {
+        return rateMove(board, isHuman, diceSum, true, true);
+    }
+
+
+    /**
+     * Picks the best move of one type, with its value.
+     * @param board   the live board (not modified)
+     * @param isHuman true if the human is the mover
+     * @param diceSum the rolled total
+     * @param isCover true for the best cover move; false for the best uncover move
+     * @return the packed {@link Move} (Move.NONE if none of that type is legal)
+     *         packed with the mover's win probability
+     */
+    public long rateMove(Board board, boolean isHuman, int diceSum, boolean isCover) {
+        return rateMove(board, isHuman, diceSum, isCover, !isCover);
+    }
+
+
+    /**
+     * Writes the table in the gzip format {@link #read(InputStream)} expects.
+     * @param out destination stream; closed when done
+     * @throws IOException on write errors
+     */
+    public void write(OutputStream out) throws IOException {
+        try (DataOutputStream data = new DataOutputStream(
+                new BufferedOutputStream(new GZIPOutputStream(out), BUFFER_SIZE))) {
+            data.writeInt(MAGIC);
+            data.writeInt(size);
+            for (char c : open)
+                data.writeChar(c);
+            for (char c : first)
+                data.writeChar(c);
+        }
+    }
+
+
+    /**
+     * @param file destination file
+     * @throws IOException on write errors
+     */
+    public void write(File file) throws IOException {
+        write(new FileOutputStream(file));
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Constructors & Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /** Wraps already-built tables. */
+    private WinTable(int size, char[] open, char[] first) {
+        this.size = size;
+        this.full = (1 << size) - 1;
+        this.open = open;
+        this.first = first;
+        this.moves = MoveTable.forSize(size);
+    }
+
+
+    /** @return a choice and its value, packed for ratedChoice and ratedValue */
+    private static long rated(int choice, double value) {
+        return (long) choice << 32 | (Float.floatToIntBits((float) value) & 0xFFFFFFFFL);
+    }
+
+
+    /**
+     * One-ply lookup over the legal moves for a sum.
+     * @return the best packed move, or Move.NONE, with its value
+     */
+    private long rateMove(Board board, boolean isHuman, int diceSum, boolean cover, boolean uncover) {
+        int own = board.uncoveredMask(isHuman);
+        int opp = board.uncoveredMask(!isHuman);
+        int turn = Math.min(board.getTurn(), Rules.OPEN_TURN);
+        if (diceSum < 1 || diceSum > MoveTable.MAX_SUM)
+            return rated(Move.NONE, 0);
+
+        int best = Move.NONE;
+        double bestValue = -1;
+        if (cover) {
+            int end = moves.end(own, diceSum);
+            for (int i = moves.start(own, diceSum); i < end; i++) {
+                int m = moves.moveAt(i);
+                double v = afterMove(own & ~m, opp, turn);
+                if (v > bestValue) {
+                    bestValue = v;
+                    best = Move.byPlayer(m, true, isHuman);
+                }
+            }
+        }
+        if (uncover && Rules.isOpen(turn)) {
+            int covered = ~opp & full;
+            int end = moves.end(covered, diceSum);
+            for (int i = moves.start(covered, diceSum); i < end; i++) {
+                int m = moves.moveAt(i);
+                double v = afterMove(own, opp | m, turn);
+                if (v > bestValue) {
+                    bestValue = v;
+                    best = Move.byPlayer(m, false, isHuman);
+                }
+            }
+        }
+        return rated(best, Math.max(bestValue, 0));
+    }
+
+
+    /** @return mover's win probability rolling numDice from a position */
+    private double chance(int own, int opp, int turn, int numDice) {
+        double total = 0;
+        for (int sum = numDice; sum <= 6 * numDice; sum++)
+            total += Rules.rollProbability(numDice, sum) * afterRoll(own, opp, turn, sum);
+        return total;
+    }
+
+
+    /** @return mover's win probability after rolling sum and moving well */
+    private double afterRoll(int own, int opp, int turn, int sum) {
+        double best = -1;
+        int end = moves.end(own, sum);
+        for (int i = moves.start(own, sum); i < end; i++)
+            best = Math.max(best, afterMove(own & ~moves.moveAt(i), opp, turn));
+        if (Rules.isOpen(turn)) {
+            int covered = ~opp & full;
+            end = moves.end(covered, sum);
+            for (int i = moves.start(covered, sum); i < end; i++)
+                best = Math.max(best, afterMove(own, opp | moves.moveAt(i), turn));
+        }
+        if (best < 0)
+            return 1 - value(opp, own, Rules.nextTurn(turn));
+        return best;
+    }
+
+
+    /** @return mover's win probability right after a move */
+    private double afterMove(int own, int opp, int turn) {
+        if (Rules.isWin(own, opp, full, turn))
+            return 1;
+        return value(own, opp, turn);
+    }
+
+
+    /**
+     * Values for the turn-1 mover against a fixed opponent row, for every
+     * mover row. Covering only shrinks the mover's row, so rows are filled
+     * smallest first; getting stuck hands an open position to the opponent.
+     * @param opp opponent's uncovered mask
+     * @return values indexed by the mover's uncovered mask
+     */
+    private double[] secondTurnRow(int opp) {
+        double[] row = new double[1 << size];
+        for (int own = 0; own <= full; own++) {
+            final int o = own;
+            row[own] = openingValue(own, sum -> {
+                double best = -1;
+                int end = moves.end(o, sum);
+                for (int i = moves.start(o, sum); i < end; i++)
+                    best = Math.max(best, row[o & ~moves.moveAt(i)]);
+                return best >= 0 ? best : 1 - open[index(opp, o, size)] / SCALE;
+            });
+        }
+        return row;
+    }
+
+
+    /**
+     * Values for the turn-0 mover against a fixed opponent row.
+     * @param stuck for each mover row, the turn-1 value the opponent gets
+     *              if the mover is stuck there
+     * @return values indexed by the mover's uncovered mask
+     */
+    private double[] firstTurnRow(double[] stuck) {
+        double[] row = new double[1 << size];
+        for (int own = 0; own <= full; own++) {
+            final int o = own;
+            row[own] = openingValue(own, sum -> {
+                double best = -1;
+                int end = moves.end(o, sum);
+                for (int i = moves.start(o, sum); i < end; i++)
+                    best = Math.max(best, row[o & ~moves.moveAt(i)]);
+                return best >= 0 ? best : 1 - stuck[o];
+            });
+        }
+        return row;
+    }
+
+
+    /** @return value of a cover-only position, given the value after each sum */
+    private double openingValue(int own, IntToDoubleFunction afterSum) {
+        double[] bySum = new double[MoveTable.MAX_SUM + 1];
+        for (int sum = 1; sum <= MoveTable.MAX_SUM; sum++)
+            bySum[sum] = afterSum.applyAsDouble(sum);
+
+        double best = 0;
+        for (int sum = 2; sum <= MoveTable.MAX_SUM; sum++)
+            best += Rules.TWO_DICE_WAYS[sum] * bySum[sum];
+        best /= 36;
+        if (Rules.canRollOne(own, size)) {
+            double one = 0;
+            for (int sum = 1; sum <= 6; sum++)
+                one += bySum[sum];
+            best = Math.max(best, one / 6);
+        }
+        return best;
+    }
+
+
+    /** @return cached turn-1 values against an opponent row */
+    private synchronized double[] secondTurn(int opp) {
+        if (secondOpp != opp) {
+            secondRow = secondTurnRow(opp);
+            secondOpp = opp;
+        }
+        return secondRow;
+    }
+
+
+    /**
+     * Turn-0 values against an opponent row the file does not store,
+     * which only happens for positions set up by hand. Slow: rebuilds the
+     * turn-1 values for every first player's row.
+     * @return values indexed by the mover's uncovered mask
+     */
+    private synchronized double[] firstTurnFallback(int opp) {
+        if (fallbackOpp != opp) {
+            double[] stuck = new double[1 << size];
+            for (int x = 0; x <= full; x++)
+                stuck[x] = secondTurnRow(x)[opp];
+            fallbackRow = firstTurnRow(stuck);
+            fallbackOpp = opp;
+        }
+        return fallbackRow;
+    }
+
+
+    /**
+     * @return which stored first-turn row holds an opponent row: 0 for a
+     *         full row, r for a row missing square r, or -1 if not stored
+     */
+    private int storedRow(int opp) {
+        int missing = ~opp & full;
+        if (missing == 0)
+            return 0;
+        if (Integer.bitCount(missing) == 1)
+            return Integer.numberOfTrailingZeros(missing) + 1;
+        return -1;
+    }
+
+
+    /** @return count big-endian unsigned shorts read in one block */
+    private static char[] readChars(DataInputStream data, int count) throws IOException {
+        byte[] bytes = new byte[count * 2];
+        data.readFully(bytes);
+        char[] chars = new char[count];
+        for (int i = 0; i < count; i++)
+            chars[i] = (char) (((bytes[2 * i] & 0xFF) << 8) | (bytes[2 * i + 1] & 0xFF));
+        return chars;
+    }
+
+
+    /** @return the opponent row stored in first-turn row r */
+    private static int firstTurnOpponent(int full, int r) {
+        return r == 0 ? full : full & ~(1 << (r - 1));
+    }
+
+
+    /** @return a probability as a 16-bit fraction */
+    private static char quantize(double p) {
+        return (char) Math.round(Math.max(0, Math.min(1, p)) * SCALE);
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    // "CWT1"
+    private static final int MAGIC = 0x43575431;
+    private static final double SCALE = 65535.0;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final int size;
+    private final int full;
+    private final char[] open;
+    private final char[] first;
+    private final MoveTable moves;
+
+    private int secondOpp = -1;
+    private double[] secondRow;
+    private int fallbackOpp = -1;
+    private double[] fallbackRow;
+
+}
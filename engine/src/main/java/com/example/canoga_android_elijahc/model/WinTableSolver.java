@@ -0,0 +1,166 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    WinTableSolver.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+
+/**
+ * Offline solver that computes the exact win probability of every open
+ * position (turn counter past 1) for a board size and writes it out as a
+ * {@link WinTable} file.
+ *
+ * <p>Positions are (mover's row, opponent's row) with the mover holding the
+ * dice. Cover/uncover moves can repeat positions, so values are found by
+ * Gauss–Seidel value iteration until no value moves by more than
+ * {@link #TOLERANCE}, well under the table's 16-bit resolution.
+ *
+ * <p>Usage: {@code WinTableSolver <outputDir> [sizes...]}, writing
+ * {@code wintable_<size>.bin} for each size (default 9, 10 and 11).
+ */
+public final class WinTableSolver {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Static Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Command-line entry point.
+     * @param args output directory followed by optional board sizes
+     * @throws IOException if a table cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: WinTableSolver <outputDir> [sizes...]");
+            System.exit(2);
+        }
+        File dir = new File(args[0]);
+        if (!dir.isDirectory() && !dir.mkdirs())
+            throw new IOException("Cannot create " + dir);
+
+        int[] sizes = {9, 10, 11};
+        if (args.length > 1) {
+            sizes = new int[args.length - 1];
+            for (int i = 1; i < args.length; i++)
+                sizes[i - 1] = Integer.parseInt(args[i]);
+        }
+
+        for (int size : sizes) {
+            long start = System.nanoTime();
+            double[] values = solve(size);
+            File out = new File(dir, WinTable.fileName(size));
+            WinTable.fromValues(size, values).write(out);
+            System.out.printf("size %d: %d positions in %.1f s -> %s%n",
+                    size, values.length, (System.nanoTime() - start) / 1e9, out);
+        }
+    }
+
+
+    /**
+     * Solves every open position of one board size.
+     *
+     * <p><strong>Pseudocode:</strong>
+     * <ol>
+     *   <li>Start every value at 0.5.</li>
+     *   <li>Repeat until the largest change in a sweep is below TOLERANCE:</li>
+     *     <ol type="a">
+     *       <li>For each position, score each sum 1–12 as the best move's
+     *           value (1 for a winning move), or 1 − the swapped position's
+     *           value when no move exists.</li>
+     *       <li>The position's value is the better of the 2-dice average and,
+     *           when allowed, the 1-die average.</li>
+     *     </ol>
+     * </ol>
+     *
+     * @param size squares per row
+     * @return values indexed by {@link WinTable#index(int, int, int)}
+     */
+    public static double[] solve(int size) {
+        MoveTable table = MoveTable.forSize(size);
+        int full = (1 << size) - 1;
+        double[] values = new double[1 << (2 * size)];
+        Arrays.fill(values, 0.5);
+        double[] bySum = new double[MoveTable.MAX_SUM + 1];
+
+        double delta;
+        do {
+            delta = 0;
+            for (int own = 0; own <= full; own++) {
+                for (int opp = 0; opp <= full; opp++) {
+                    for (int sum = 1; sum <= MoveTable.MAX_SUM; sum++)
+                        bySum[sum] = afterRoll(values, table, size, full, own, opp, sum);
+
+                    double best = 0;
+                    for (int sum = 2; sum <= MoveTable.MAX_SUM; sum++)
+                        best += Rules.TWO_DICE_WAYS[sum] * bySum[sum];
+                    best /= 36;
+                    if (Rules.canRollOne(own, size)) {
+                        double one = 0;
+                        for (int sum = 1; sum <= 6; sum++)
+                            one += bySum[sum];
+                        best = Math.max(best, one / 6);
+                    }
+
+                    int index = (own << size) | opp;
+                    delta = Math.max(delta, Math.abs(best - values[index]));
+                    values[index] = best;
+                }
+            }
+        } while (delta > TOLERANCE);
+        return values;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @return mover's value after rolling sum in an open position
+     */
+    private static double afterRoll(double[] values, MoveTable table, int size, int full,
+                                    int own, int opp, int sum) {
+        double best = -1;
+        int end = table.end(own, sum);
+        for (int i = table.start(own, sum); i < end; i++) {
+            int next = own & ~table.moveAt(i);
+            if (Rules.isWin(next, opp, full, Rules.OPEN_TURN))
+                return 1;
+            best = Math.max(best, values[(next << size) | opp]);
+        }
+        int covered = ~opp & full;
+        end = table.end(covered, sum);
+        for (int i = table.start(covered, sum); i < end; i++) {
+            int next = opp | table.moveAt(i);
+            if (Rules.isWin(own, next, full, Rules.OPEN_TURN))
+                return 1;
+            best = Math.max(best, values[(own << size) | next]);
+        }
+        if (best < 0)
+            return 1 - values[(opp << size) | own];
+        return best;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    // Convergence threshold for value iteration
+    private static final double TOLERANCE = 1e-7;
+
+    /** Command-line tool only. */
+    private WinTableSolver() {
+    }
+
+}
@@ -0,0 +1,85 @@
+/************************************************************
+ * Name:    Elijah Campbell‑Ihim
+ * Project: Canoga Java/Android
+ * Class:   CMPS-366 Organization of Programming Languages
+ * Date:    April 2025
+ * File:    WinTables.java
+ ************************************************************/
+
+package com.example.canoga_android_elijahc.model;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/**
+ * Lazily loaded {@link WinTable}s, one per board size, shared by the
+ * help methods and the Perfect strategy so each table is read once.
+ *
+ * <p>A table is megabytes of gzip, so reading it belongs on a background
+ * thread: {@link #forSize} loads, while {@link #loaded} never does, for
+ * callers on the UI thread.
+ */
+public class WinTables {
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Constructors
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * @param source where table files live, e.g. app assets
+     */
+    public WinTables(WinTable.Source source) {
+        this.source = source;
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Public Methods
+    // ──────────────────────────────────────────────────────────────
+
+
+    /**
+     * Returns the table for a board size, loading it on first use; call it
+     * off the UI thread, e.g. to preload the size about to be played.
+     * @param size squares per row
+     * @return the table, or null if the source has none for that size
+     */
+    public WinTable forSize(int size) {
+        if (size < 0 || size > Board.MAX_SIZE)
+            return null;
+        WinTable table = tables.get(size);
+        if (table != null)
+            return table;
+        synchronized (missing) {
+            if (tables.get(size) == null && !missing[size]) {
+                tables.set(size, WinTable.load(source, size));
+                missing[size] = tables.get(size) == null;
+            }
+        }
+        return tables.get(size);
+    }
+
+
+    /**
+     * Returns the table for a board size only if it has already loaded,
+     * without ever reading it or waiting on a load.
+     * @param size squares per row
+     * @return the table, or null if it is not loaded (yet)
+     */
+    public WinTable loaded(int size) {
+        return size < 0 || size > Board.MAX_SIZE ? null : tables.get(size);
+    }
+
+
+    // ──────────────────────────────────────────────────────────────
+    // Private Members
+    // ──────────────────────────────────────────────────────────────
+
+    private final WinTable.Source source;
+    private final AtomicReferenceArray<WinTable> tables = new AtomicReferenceArray<>(Board.MAX_SIZE + 1);
+
+    // Sizes the source has no table for; also the lock loads are made under
+    private final boolean[] missing = new boolean[Board.MAX_SIZE + 1];
+
+}
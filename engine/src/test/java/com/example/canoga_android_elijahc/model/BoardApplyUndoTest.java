@@ -0,0 +1,78 @@
+package com.example.canoga_android_elijahc.model;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that in-place apply/undo, nested the way a search nests them,
+ * always puts the board back exactly as it was.
+ */
+public class BoardApplyUndoTest {
+
+    @Test
+    public void nestedApplyUndo_restoresRowsAndKey() {
+        Random random = new Random(366);
+        for (int size = 9; size <= Board.MAX_SIZE; size++) {
+            for (int game = 0; game < 200; game++) {
+                Board board = new Board(size);
+                board.setDebugUndo(true);
+                for (int sq = 1; sq <= size; sq++) {
+                    if (random.nextBoolean())
+                        board.coverSquare(true, sq);
+                    if (random.nextBoolean())
+                        board.coverSquare(false, sq);
+                }
+                board.incrementTurn();
+                board.incrementTurn();
+                descend(board, random, 4);
+            }
+        }
+    }
+
+    @Test
+    public void apply_returnsOnlySquaresThatFlip() {
+        Board board = new Board(9);
+        board.coverSquare(true, 2);
+        assertEquals(0b101, board.apply(0b111, true, true));
+        assertEquals(0, board.uncoveredMask(true) & 0b111);
+        board.undo(0b101, true, true);
+        assertEquals(board.fullMask() & ~0b10, board.uncoveredMask(true));
+
+        assertEquals(0b10, board.apply(0b11, true, false));
+        assertEquals(board.fullMask(), board.uncoveredMask(true));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void mismatchedUndo_failsInDebugMode() {
+        Board board = new Board(9);
+        board.setDebugUndo(true);
+        int applied = board.apply(0b1111, true, true);
+        board.undo(applied & 0b11, true, true);
+    }
+
+    /**
+     * Applies a few random moves, recursing after each, and checks the
+     * board is unchanged after each undo.
+     */
+    private static void descend(Board board, Random random, int depth) {
+        if (depth == 0)
+            return;
+        int human = board.uncoveredMask(true);
+        int computer = board.uncoveredMask(false);
+        long key = board.getZobristKey();
+        for (int i = 0; i < 3; i++) {
+            int squares = random.nextInt(board.fullMask() + 1);
+            boolean isHuman = random.nextBoolean();
+            boolean forCover = random.nextBoolean();
+            int applied = board.apply(squares, isHuman, forCover);
+            descend(board, random, depth - 1);
+            board.undo(applied, isHuman, forCover);
+            assertEquals(human, board.uncoveredMask(true));
+            assertEquals(computer, board.uncoveredMask(false));
+            assertEquals(key, board.getZobristKey());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.canoga_android_elijahc.model;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that Board's Zobrist key depends only on the position,
+ * not on the order of moves that produced it.
+ */
+public class BoardZobristTest {
+
+    @Test
+    public void differentMoveOrders_sameKey() {
+        Board a = new Board(9);
+        a.incrementTurn();
+        a.incrementTurn();
+        a.coverSquare(true, 3);
+        a.coverSquare(true, 9);
+        a.coverSquare(false, 5);
+        a.coverSquare(false, 1);
+        a.uncoverSquare(true, 3);
+
+        Board b = new Board(9);
+        b.incrementTurn();
+        b.coverSquare(false, 1);
+        b.coverSquare(true, 9);
+        b.incrementTurn();
+        b.coverSquare(false, 5);
+
+        assertEquals(a.getHumanSquares(), b.getHumanSquares());
+        assertEquals(a.getComputerSquares(), b.getComputerSquares());
+        assertEquals(a.getZobristKey(), b.getZobristKey());
+    }
+
+    @Test
+    public void incrementalKey_matchesFreshBoard() {
+        Board played = new Board(10);
+        played.incrementTurn();
+        played.incrementTurn();
+        played.applyMove(Move.of(0b1000000110, true, true));
+        played.applyMove(Move.of(0b0000010001, true, false));
+
+        Board loaded = new Board(10);
+        loaded.setHumanSquares(new ArrayList<>(Arrays.asList(1, 0, 0, 4, 5, 6, 7, 8, 9, 0)));
+        loaded.setComputerSquares(new ArrayList<>(Arrays.asList(0, 2, 3, 4, 0, 6, 7, 8, 9, 10)));
+        loaded.incrementTurn();
+        loaded.incrementTurn();
+
+        assertEquals(loaded.getZobristKey(), played.getZobristKey());
+    }
+
+    @Test
+    public void sizeOpeningAndHandicap_changeKey() {
+        Board nine = new Board(9);
+        Board ten = new Board(10);
+        assertNotEquals(nine.getZobristKey(), ten.getZobristKey());
+
+        long opening = nine.getZobristKey();
+        nine.incrementTurn();
+        assertEquals(opening, nine.getZobristKey());
+        nine.incrementTurn();
+        assertNotEquals(opening, nine.getZobristKey());
+
+        Board covered = new Board(9);
+        covered.coverSquare(false, 4);
+        Board handicap = new Board(9);
+        handicap.coverSquare(false, 4);
+        handicap.setHandicapSquare(false, 4);
+        assertNotEquals(covered.getZobristKey(), handicap.getZobristKey());
+    }
+
+    @Test
+    public void applyUndo_restoresKey() {
+        Board board = new Board(11);
+        board.setDebugUndo(true);
+        board.coverSquare(true, 2);
+        long before = board.getZobristKey();
+
+        int move = Move.of(0b110, true, true);
+        int applied = board.applyMove(move);
+        assertEquals(0b100, applied);
+        assertNotEquals(before, board.getZobristKey());
+        board.undoMove(move, applied);
+
+        assertEquals(before, board.getZobristKey());
+    }
+}
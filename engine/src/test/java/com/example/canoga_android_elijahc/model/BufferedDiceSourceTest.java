@@ -0,0 +1,84 @@
+package com.example.canoga_android_elijahc.model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that buffered dice give the right distribution for one die and
+ * for the 36 two-dice outcomes, and keep drawing fresh rolls as their
+ * buffers refill.
+ */
+public class BufferedDiceSourceTest {
+
+    // Chi-square values a fair source exceeds with probability 0.001
+    private static final double CRITICAL_5_DOF = 20.52;
+    private static final double CRITICAL_10_DOF = 29.59;
+
+    @Test
+    public void singleDie_isUniform() {
+        BufferedDiceSource dice = new BufferedDiceSource(366);
+        int rolls = 600000;
+        long[] counts = new long[7];
+        for (int i = 0; i < rolls; i++)
+            counts[dice.roll(1)]++;
+        double chiSquare = 0;
+        for (int face = 1; face <= 6; face++) {
+            double expected = rolls / 6.0;
+            chiSquare += (counts[face] - expected) * (counts[face] - expected) / expected;
+        }
+        assertTrue("chi-square " + chiSquare, chiSquare < CRITICAL_5_DOF);
+    }
+
+    @Test
+    public void twoDiceSums_followTheThirtySixOutcomes() {
+        BufferedDiceSource dice = new BufferedDiceSource(366);
+        int rolls = 720000;
+        long[] counts = new long[13];
+        for (int i = 0; i < rolls; i++)
+            counts[dice.roll(2)]++;
+        double chiSquare = 0;
+        for (int sum = 2; sum <= 12; sum++) {
+            int ways = 6 - Math.abs(sum - 7);
+            double expected = rolls * ways / 36.0;
+            chiSquare += (counts[sum] - expected) * (counts[sum] - expected) / expected;
+        }
+        assertEquals(0, counts[0] + counts[1]);
+        assertTrue("chi-square " + chiSquare, chiSquare < CRITICAL_10_DOF);
+    }
+
+    @Test
+    public void refills_drawNewRollsAndRepeatForTheSameSeed() {
+        BufferedDiceSource a = new BufferedDiceSource(42);
+        BufferedDiceSource b = new BufferedDiceSource(42);
+        int[] dice = new int[2000];
+        int[] sums = new int[2000];
+        for (int i = 0; i < dice.length; i++) {
+            dice[i] = a.rollDie();
+            sums[i] = a.roll(2);
+            assertEquals(dice[i], b.rollDie());
+            assertEquals(sums[i], b.roll(2));
+            assertTrue(dice[i] >= 1 && dice[i] <= 6);
+            assertTrue(sums[i] >= 2 && sums[i] <= 12);
+        }
+
+        // a buffer that was reused instead of refilled would repeat itself
+        boolean diceDiffer = false;
+        boolean sumsDiffer = false;
+        for (int i = 0; i + 256 < dice.length; i++) {
+            diceDiffer |= dice[i] != dice[i + 256];
+            sumsDiffer |= sums[i] != sums[i + 256];
+        }
+        assertTrue(diceDiffer);
+        assertTrue(sumsDiffer);
+    }
+
+    @Test
+    public void moreThanTwoDice_addSingleDice() {
+        BufferedDiceSource dice = new BufferedDiceSource(7);
+        for (int i = 0; i < 1000; i++) {
+            int total = dice.roll(3);
+            assertTrue(total >= 3 && total <= 18);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.canoga_android_elijahc.model;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that seeded and scripted dice are reproducible, and that a game
+ * recorded through the model plays out the same when its faces are
+ * replayed.
+ */
+public class DiceSourceTest {
+
+    @Test
+    public void sameSeed_sameRolls() {
+        RandomDiceSource a = new RandomDiceSource(366);
+        RandomDiceSource b = new RandomDiceSource(366);
+        RandomDiceSource other = new RandomDiceSource(367);
+        boolean differs = false;
+        for (int i = 0; i < 1000; i++) {
+            int face = a.rollDie();
+            assertTrue(face >= 1 && face <= 6);
+            assertEquals(face, b.rollDie());
+            differs |= face != other.rollDie();
+        }
+        assertTrue(differs);
+    }
+
+    @Test
+    public void scriptedDice_returnTheScriptInOrder() {
+        ScriptedDiceSource dice = new ScriptedDiceSource(Arrays.asList(3, 6, 1, 2, 5));
+        assertEquals(3, dice.rollDie());
+        assertEquals(7, dice.roll(2));
+        assertEquals(7, dice.roll(2));
+        assertEquals(5, dice.getPosition());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void scriptedDice_failWhenTheScriptRunsOut() {
+        ScriptedDiceSource dice = new ScriptedDiceSource(Arrays.asList(4, 4));
+        dice.roll(3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void scriptedDice_rejectFacesOutOfRange() {
+        new ScriptedDiceSource(Arrays.asList(1, 7));
+    }
+
+    @Test
+    public void recordedGame_replaysTheSame() {
+        for (long seed = 1; seed <= 20; seed++) {
+            ScriptedDiceSource recorder = ScriptedDiceSource.recording(new RandomDiceSource(seed));
+            List<String> recorded = play(recorder);
+
+            ScriptedDiceSource replay = new ScriptedDiceSource(recorder.getFaces());
+            List<String> replayed = play(replay);
+
+            assertEquals("seed " + seed, recorded, replayed);
+            assertEquals("seed " + seed, recorder.getFaces().size(), replay.getPosition());
+        }
+    }
+
+    /**
+     * Plays one round with the computer taking every turn, from the roll
+     * for first player until it wins.
+     * @return the game log, followed by both rows at the end
+     */
+    private static List<String> play(DiceSource dice) {
+        List<String> transcript = new ArrayList<>();
+        CanogaModel model = new CanogaModel(9, transcript::add, new ClassicStrategy(), dice);
+        model.startGame(1);
+        for (int turn = 0; turn < 200 && model.computerMove(null); turn++)
+            model.getBoard().incrementTurn();
+        transcript.add(model.getBoard().getHumanSquares().toString());
+        transcript.add(model.getBoard().getComputerSquares().toString());
+        return transcript;
+    }
+}
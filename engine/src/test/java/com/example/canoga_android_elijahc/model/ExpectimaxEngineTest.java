@@ -0,0 +1,46 @@
+package com.example.canoga_android_elijahc.model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the expectimax engine takes a move that wins on the spot
+ * over every other legal move, by covering and by uncovering, for
+ * either player.
+ */
+public class ExpectimaxEngineTest {
+
+    @Test
+    public void winningCover_isChosen() {
+        for (boolean isHuman : new boolean[]{true, false}) {
+            Board board = openBoard(9);
+            for (int sq = 1; sq <= 9; sq++)
+                if (sq != 2 && sq != 3)
+                    board.coverSquare(isHuman, sq);
+
+            int move = new ExpectimaxEngine(3, 1000).chooseMove(board, isHuman, 5);
+            assertEquals(Move.byPlayer(0b110, true, isHuman), move);
+        }
+    }
+
+    @Test
+    public void winningUncover_isChosen() {
+        for (boolean isHuman : new boolean[]{true, false}) {
+            Board board = openBoard(10);
+            board.coverSquare(!isHuman, 7);
+            board.coverSquare(isHuman, 1);
+
+            int move = new ExpectimaxEngine(3, 1000).chooseMove(board, isHuman, 7);
+            assertEquals(Move.byPlayer(1 << 6, false, isHuman), move);
+        }
+    }
+
+    /** @return a new board past the opening turns, so uncovering is allowed */
+    private static Board openBoard(int size) {
+        Board board = new Board(size);
+        board.incrementTurn();
+        board.incrementTurn();
+        return board;
+    }
+}
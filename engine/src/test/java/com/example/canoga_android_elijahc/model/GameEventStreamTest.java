@@ -0,0 +1,169 @@
+package com.example.canoga_android_elijahc.model;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that events come back from the binary encoding exactly as they
+ * were recorded, and that a stream cut short keeps every whole event.
+ */
+public class GameEventStreamTest {
+
+    // Encoded length of each event type, as documented on GameEventStream
+    private static final Map<String, Integer> EVENT_BYTES = new HashMap<>();
+
+    static {
+        EVENT_BYTES.put("roundStart", 4);
+        EVENT_BYTES.put("handicap", 2);
+        EVENT_BYTES.put("roll", 2);
+        EVENT_BYTES.put("move", 3);
+        EVENT_BYTES.put("turnEnd", 1);
+        EVENT_BYTES.put("roundEnd", 2);
+    }
+
+    @Test
+    public void everyEventType_roundTrips() throws IOException {
+        GameEventStream stream = new GameEventStream(4);
+        Recorder expected = new Recorder();
+        for (GameEventListener listener : Arrays.asList(stream, expected))
+            script(listener);
+
+        assertEquals(expected.calls.size(), stream.getEventCount());
+        Recorder replayed = new Recorder();
+        stream.replay(replayed);
+        assertEquals(expected.calls, replayed.calls);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        stream.writeTo(out);
+        assertArrayEquals(stream.toByteArray(), out.toByteArray());
+        Recorder reread = new Recorder();
+        GameEventStream.read(new ByteArrayInputStream(out.toByteArray())).replay(reread);
+        assertEquals(expected.calls, reread.calls);
+
+        Recorder fromEvents = new Recorder();
+        for (GameEvent event : stream.toEvents())
+            event.dispatch(fromEvents);
+        assertEquals(expected.calls, fromEvents.calls);
+    }
+
+    @Test
+    public void playedGame_reencodesToTheSameBytes() {
+        GameEventStream recorded = new GameEventStream();
+        CanogaModel model = new CanogaModel(10, Log.OFF, new ClassicStrategy(), new RandomDiceSource(366));
+        model.setEventListener(recorded);
+        model.startGame(1);
+        for (int turn = 0; turn < 200 && model.computerMove(null); turn++)
+            model.getBoard().incrementTurn();
+        assertTrue(recorded.getEventCount() > 3);
+
+        GameEventStream copy = new GameEventStream();
+        recorded.replay(copy);
+        assertArrayEquals(recorded.toByteArray(), copy.toByteArray());
+    }
+
+    @Test
+    public void truncatedTail_recoversEveryWholeEvent() {
+        GameEventStream stream = new GameEventStream();
+        script(stream);
+        byte[] bytes = stream.toByteArray();
+
+        // byte offset at which each event ends, from the lengths in the format table
+        Recorder all = new Recorder();
+        stream.replay(all);
+        List<Integer> ends = new ArrayList<>();
+        int end = 0;
+        for (String call : all.calls) {
+            end += EVENT_BYTES.get(call.substring(0, call.indexOf(' ')));
+            ends.add(end);
+        }
+        assertEquals(bytes.length, end);
+
+        for (int cut = 0; cut <= bytes.length; cut++) {
+            int whole = 0;
+            while (whole < ends.size() && ends.get(whole) <= cut)
+                whole++;
+            GameEventStream recovered = GameEventStream.recover(Arrays.copyOf(bytes, cut));
+            assertEquals("cut " + cut, whole, recovered.getEventCount());
+            assertEquals("cut " + cut, whole == 0 ? 0 : (int) ends.get(whole - 1), recovered.length());
+            Recorder replayed = new Recorder();
+            recovered.replay(replayed);
+            assertEquals("cut " + cut, all.calls.subList(0, whole), replayed.calls);
+
+            boolean onBoundary = whole == 0 ? cut == 0 : ends.get(whole - 1) == cut;
+            try {
+                GameEventStream.fromBytes(Arrays.copyOf(bytes, cut));
+                assertTrue("cut " + cut + " should be rejected", onBoundary);
+            } catch (IllegalArgumentException e) {
+                assertFalse("cut " + cut + " should be accepted", onBoundary);
+            }
+        }
+    }
+
+    /** Sends one of every event type, with its flags both ways and payloads at their limits. */
+    private static void script(GameEventListener listener) {
+        listener.onRoundStart(1, 9, true);
+        listener.onHandicap(false, 4);
+        listener.onRoll(true, 2, 12);
+        listener.onMove(Move.byPlayer(0b100000011, true, true));
+        listener.onRoll(true, 1, 1);
+        listener.onMove(Move.byPlayer(0b10, false, true));
+        listener.onTurnEnd(true);
+        listener.onRoll(false, 2, 2);
+        listener.onMove(Move.byPlayer(0b10000000000, true, false));
+        listener.onTurnEnd(false);
+        listener.onRoundEnd(true, false, true, 45);
+        listener.onRoundStart(300, 11, false);
+        listener.onHandicap(true, 11);
+        listener.onRoll(false, 2, 7);
+        listener.onMove(Move.byPlayer(0b11111111111, false, false));
+        listener.onRoundEnd(true, true, false, 66);
+        listener.onRoundStart(301, 10, true);
+        listener.onRoundEnd(false, false, false, 0);
+    }
+
+    /** Writes down every call it gets, arguments included. */
+    private static final class Recorder implements GameEventListener {
+
+        @Override
+        public void onRoundStart(int roundNum, int boardSize, boolean humanFirst) {
+            calls.add("roundStart " + roundNum + " " + boardSize + " " + humanFirst);
+        }
+
+        @Override
+        public void onHandicap(boolean isHuman, int square) {
+            calls.add("handicap " + isHuman + " " + square);
+        }
+
+        @Override
+        public void onRoll(boolean isHuman, int numDice, int total) {
+            calls.add("roll " + isHuman + " " + numDice + " " + total);
+        }
+
+        @Override
+        public void onMove(int move) {
+            calls.add("move " + move);
+        }
+
+        @Override
+        public void onTurnEnd(boolean isHuman) {
+            calls.add("turnEnd " + isHuman);
+        }
+
+        @Override
+        public void onRoundEnd(boolean hasWinner, boolean humanWon, boolean byCover, int score) {
+            calls.add("roundEnd " + hasWinner + " " + humanWon + " " + byCover + " " + score);
+        }
+
+        private final List<String> calls = new ArrayList<>();
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.canoga_android_elijahc.model;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Plays seeded tournaments through CanogaModel with the journal attached
+ * and checks that restoring at every turn end, every roll not yet moved
+ * and every round end gives back what the model holds.
+ */
+public class GameJournalTest {
+
+    @Test
+    public void restore_matchesModelAtEveryCutPoint() throws IOException {
+        File dir = Files.createTempDirectory("journal").toFile();
+        try {
+            for (int game = 0; game < 12; game++)
+                playAndCheck(dir, game);
+        } finally {
+            delete(dir);
+        }
+    }
+
+    @Test
+    public void eventsAfterClose_areNotWritten() throws IOException {
+        File dir = Files.createTempDirectory("journal").toFile();
+        try {
+            List<String> errors = Collections.synchronizedList(new ArrayList<>());
+            CanogaModel model = new CanogaModel(9, Log.OFF, new ClassicStrategy(), new RandomDiceSource(3));
+            GameJournal journal = new GameJournal(dir, new GameJournal.State(model.getSaveData(), 1, 0), errors::add);
+            model.setEventListener(journal);
+            model.startGame(1);
+            SaveData atClose = model.getSaveData();
+            int turnAtClose = model.getBoard().getTurn();
+            journal.close();
+
+            model.getBoard().incrementTurn();
+            model.computerMove(null);
+            GameJournal.State restored = GameJournal.restore(dir);
+            assertArrayEquals(atClose.toBytes(), restored.getSave().toBytes());
+            assertEquals(turnAtClose, restored.getTurn());
+            assertEquals(Collections.emptyList(), errors);
+        } finally {
+            delete(dir);
+        }
+    }
+
+    @Test
+    public void eventCutOffByACrash_isDropped() throws IOException {
+        File dir = Files.createTempDirectory("journal").toFile();
+        try {
+            CanogaModel model = new CanogaModel(10, Log.OFF, new ClassicStrategy(), new RandomDiceSource(5));
+            GameJournal journal = new GameJournal(dir, new GameJournal.State(model.getSaveData(), 1, 0), Log.OFF);
+            model.setEventListener(journal);
+            model.startGame(1);
+            model.getBoard().incrementTurn();
+            model.computerMove(null);
+            journal.close();
+            GameJournal.State before = GameJournal.restore(dir);
+
+            // a move event's header byte with its payload missing
+            File journalFile = new File(dir, "autosave.journal");
+            byte[] bytes = Files.readAllBytes(journalFile.toPath());
+            byte[] cut = Arrays.copyOf(bytes, bytes.length + 1);
+            cut[bytes.length] = (byte) (3 << 5);
+            Files.write(journalFile.toPath(), cut);
+
+            GameJournal.State after = GameJournal.restore(dir);
+            assertArrayEquals(before.getSave().toBytes(), after.getSave().toBytes());
+            assertEquals(before.getTurn(), after.getTurn());
+        } finally {
+            delete(dir);
+        }
+    }
+
+    /**
+     * Plays a seeded tournament of up to three rounds with a journal in
+     * dir, checking it at every cut point and after every round.
+     */
+    private static void playAndCheck(File dir, int game) throws IOException {
+        CanogaModel model = new CanogaModel(9 + game % 3, Log.OFF, new ClassicStrategy(), new RandomDiceSource(game));
+        GameJournal journal = new GameJournal(dir, new GameJournal.State(model.getSaveData(), 1, 0), Log.OFF);
+        model.setEventListener(new Checkpoints(dir, model, journal));
+
+        for (int round = 1; round <= 3; round++) {
+            model.startGame(round);
+            String winner = playRound(model);
+            model.roundEnd(winner, round);
+            if (winner.equals("None"))
+                break;
+
+            GameJournal.State restored = GameJournal.restore(dir);
+            assertTrue(restored.isRoundOver());
+            assertEquals(round, restored.getRound());
+            assertSameGame("after round " + round, model, restored);
+        }
+        journal.close();
+    }
+
+    /**
+     * Passes every event to the journal, then restores the journal at the
+     * points where the app could be killed and compares it with the model.
+     */
+    private static final class Checkpoints implements GameEventListener {
+
+        Checkpoints(File dir, CanogaModel model, GameJournal journal) {
+            this.dir = dir;
+            this.model = model;
+            this.journal = journal;
+        }
+
+        @Override
+        public void onRoundStart(int roundNum, int boardSize, boolean humanFirst) {
+            journal.onRoundStart(roundNum, boardSize, humanFirst);
+        }
+
+        @Override
+        public void onHandicap(boolean isHuman, int square) {
+            journal.onHandicap(isHuman, square);
+        }
+
+        @Override
+        public void onRoll(boolean isHuman, int numDice, int total) {
+            journal.onRoll(isHuman, numDice, total);
+            if (!isHuman)
+                return;
+            GameJournal.State restored = restore();
+            assertTrue(restored.hasRoll());
+            assertTrue(restored.isRollHuman());
+            assertEquals(numDice, restored.getRollDice());
+            assertEquals(total, restored.getRollTotal());
+            assertSameGame("human rolled " + total, model, restored);
+        }
+
+        @Override
+        public void onMove(int move) {
+            journal.onMove(move);
+        }
+
+        @Override
+        public void onTurnEnd(boolean isHuman) {
+            journal.onTurnEnd(isHuman);
+            GameJournal.State restored = restore();
+            assertFalse(restored.hasRoll());
+            assertSameGame((isHuman ? "human" : "computer") + " turn ended", model, restored);
+        }
+
+        @Override
+        public void onRoundEnd(boolean hasWinner, boolean humanWon, boolean byCover, int score) {
+            journal.onRoundEnd(hasWinner, humanWon, byCover, score);
+        }
+
+        private GameJournal.State restore() {
+            try {
+                return GameJournal.restore(dir);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private final File dir;
+        private final CanogaModel model;
+        private final GameJournal journal;
+    }
+
+    /** Removes a journal directory once queued writes are done. */
+    private static void delete(File dir) {
+        GameJournal.delete(dir);
+        try {
+            GameJournal.restore(dir);
+        } catch (IOException expected) {
+            // the snapshot is gone; the writer has caught up
+        }
+        dir.delete();
+    }
+
+    private static void assertSameGame(String where, CanogaModel model, GameJournal.State restored) {
+        assertArrayEquals(where, model.getSaveData().toBytes(), restored.getSave().toBytes());
+        assertEquals(where, model.getBoard().getTurn(), restored.getTurn());
+    }
+
+    /**
+     * Alternates turns the way the app does until a seat wins.
+     * @return "Human", "Computer", or "None" if nobody won in time
+     */
+    private static String playRound(CanogaModel model) {
+        ComputerStrategy humanStrategy = new ClassicStrategy();
+        for (int turns = 0; turns < 1000; turns++) {
+            if (model.getHuman().getIsNext()) {
+                if (humanTurn(model, humanStrategy))
+                    return "Human";
+            } else {
+                model.getBoard().incrementTurn();
+                if (!model.computerMove(null))
+                    return "Computer";
+            }
+        }
+        return "None";
+    }
+
+    /**
+     * Plays the human seat through the calls the app makes for a person.
+     * @return true if the human won the round
+     */
+    private static boolean humanTurn(CanogaModel model, ComputerStrategy strategy) {
+        Human human = model.getHuman();
+        Board board = model.getBoard();
+        while (true) {
+            int numDice = board.checkUpperSquares(true) ? strategy.chooseNumDice(human, true) : 2;
+            int diceSum = human.rollDice(numDice, Log.OFF);
+            if (!model.checkMoveAvailable(diceSum, true))
+                return false;
+
+            boolean isCover;
+            int move;
+            ArrayList<Integer> winMove = human.getInstantWinMove(true, diceSum);
+            if (winMove != null && !winMove.isEmpty()) {
+                isCover = human.getWonByCover();
+                move = Move.fromSquares(winMove, isCover, isCover);
+            } else {
+                isCover = model.checkMoveType(strategy.shouldCover(human, true, diceSum) || board.getTurn() <= 1, diceSum);
+                move = strategy.chooseMove(human, true, diceSum, isCover);
+            }
+            if (move == Move.NONE || !model.humanMove(diceSum, isCover, Move.toSet(move))) {
+                human.setIsNext(false);
+                model.getComputer().setIsNext(true);
+                model.getEventListener().onTurnEnd(true);
+                return false;
+            }
+            if (model.checkWinner(true)) {
+                human.setWonByCover(board.allSquaresCovered(true));
+                return true;
+            }
+        }
+    }
+}
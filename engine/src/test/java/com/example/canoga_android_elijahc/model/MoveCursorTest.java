@@ -0,0 +1,54 @@
+package com.example.canoga_android_elijahc.model;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that walking a key with the allocation-free cursor visits the
+ * same moves, in the same order, as the list-building move generator.
+ */
+public class MoveCursorTest {
+
+    @Test
+    public void cursor_matchesAllValidMoves() {
+        MoveCursor cursor = new MoveCursor();
+        for (int size = 9; size <= Board.MAX_SIZE; size++) {
+            Human player = new Human(new Board(size));
+            MoveTable table = MoveTable.forSize(size);
+            for (int mask = 0; mask < 1 << size; mask++) {
+                ArrayList<Integer> available = MoveTable.toList(mask);
+                for (int sum = 1; sum <= MoveTable.MAX_SUM; sum++) {
+                    ArrayList<ArrayList<Integer>> walked = new ArrayList<>();
+                    cursor.reset(table, mask, sum);
+                    while (cursor.next())
+                        walked.add(MoveTable.toList(cursor.move()));
+                    assertEquals("size " + size + " mask " + mask + " sum " + sum,
+                            player.allValidMoves(available, sum), walked);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void reset_startsOverAndSkipsSumsOutOfRange() {
+        MoveCursor cursor = new MoveCursor();
+        MoveTable table = MoveTable.forSize(9);
+        int count = 0;
+        cursor.reset(table, 0b111111111, 10);
+        while (cursor.next())
+            count++;
+        assertTrue(count > 0);
+
+        cursor.reset(table, 0b111111111, 10);
+        for (int i = 0; i < count; i++)
+            assertTrue(cursor.next());
+        assertFalse(cursor.next());
+
+        assertFalse(cursor.reset(table, 0, 10).next());
+        assertFalse(cursor.reset(table, 0b111111111, 0).next());
+        assertFalse(cursor.reset(table, 0b111111111, MoveTable.MAX_SUM + 1).next());
+    }
+}
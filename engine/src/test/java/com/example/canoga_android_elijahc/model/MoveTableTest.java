@@ -0,0 +1,82 @@
+package com.example.canoga_android_elijahc.model;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the table-driven move generation gives exactly what the
+ * brute-force scan gives, in the same order, for every available set and
+ * sum on every board size.
+ */
+public class MoveTableTest {
+
+    @Test
+    public void allValidMoves_matchesScanForEveryMaskAndSum() {
+        for (int size = 9; size <= Board.MAX_SIZE; size++) {
+            Human player = new Human(new Board(size));
+            for (int mask = 0; mask < 1 << size; mask++) {
+                ArrayList<Integer> available = MoveTable.toList(mask);
+                for (int sum = 1; sum <= MoveTable.MAX_SUM; sum++) {
+                    ArrayList<ArrayList<Integer>> scanned = player.scanValidMoves(available, sum);
+                    assertEquals("size " + size + " mask " + mask + " sum " + sum,
+                            scanned, player.allValidMoves(available, sum));
+                    assertEquals(!scanned.isEmpty(), MoveTable.forSize(size).anyMove(mask, sum));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void instantWinMove_matchesFirstWinningScannedMove() {
+        Random random = new Random(366);
+        for (int size = 9; size <= Board.MAX_SIZE; size++) {
+            int full = (1 << size) - 1;
+            for (int i = 0; i < 20000; i++) {
+                Board board = new Board(size);
+                int own = random.nextInt(full) + 1;
+                int opponent = random.nextInt(full);
+                board.setRowMask(true, own);
+                board.setRowMask(false, opponent);
+                board.incrementTurn();
+                board.incrementTurn();
+                Human human = new Human(board);
+                int sum = 1 + random.nextInt(MoveTable.MAX_SUM);
+
+                ArrayList<Integer> expected = new ArrayList<>();
+                boolean expectedByCover = true;
+                for (ArrayList<Integer> move : human.scanValidMoves(board.getAvailableSquares(true, true), sum)) {
+                    if ((own & ~squares(move)) == 0) {
+                        expected = move;
+                        break;
+                    }
+                }
+                if (expected.isEmpty()) {
+                    for (ArrayList<Integer> move : human.scanValidMoves(board.getAvailableSquares(false, false), sum)) {
+                        if ((opponent | squares(move)) == full) {
+                            expected = move;
+                            expectedByCover = false;
+                            break;
+                        }
+                    }
+                }
+
+                String where = "size " + size + " own " + own + " opponent " + opponent + " sum " + sum;
+                assertEquals(where, expected, human.getInstantWinMove(true, sum));
+                if (!expected.isEmpty())
+                    assertEquals(where, expectedByCover, human.getWonByCover());
+            }
+        }
+    }
+
+    /** @return the mask of a list of squares */
+    private static int squares(ArrayList<Integer> move) {
+        int mask = 0;
+        for (int sq : move)
+            mask |= 1 << (sq - 1);
+        return mask;
+    }
+}
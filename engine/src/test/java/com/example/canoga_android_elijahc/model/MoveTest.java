@@ -0,0 +1,67 @@
+package com.example.canoga_android_elijahc.model;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that a packed move gives back exactly the squares and flags it
+ * was built from.
+ */
+public class MoveTest {
+
+    @Test
+    public void packUnpack_roundTripsEverySquareSetAndFlag() {
+        int full = (1 << Board.MAX_SIZE) - 1;
+        for (int squares = 0; squares <= full; squares++) {
+            for (boolean isCover : new boolean[]{true, false}) {
+                for (boolean humanRow : new boolean[]{true, false}) {
+                    int move = Move.of(squares, isCover, humanRow);
+                    assertEquals(squares, Move.squares(move));
+                    assertEquals(isCover, Move.isCover(move));
+                    assertEquals(humanRow, Move.isHumanRow(move));
+                    assertEquals(Integer.bitCount(squares), Move.size(move));
+
+                    ArrayList<Integer> list = Move.toList(move);
+                    int sum = 0;
+                    for (int sq : list)
+                        sum += sq;
+                    assertEquals(sum, Move.sum(move));
+                    assertEquals(move, Move.fromSquares(list, isCover, humanRow));
+                    assertEquals(new HashSet<>(list), Move.toSet(move));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void byPlayer_putsCoversOnOwnRowAndUncoversOnOpponents() {
+        int humanCover = Move.byPlayer(0b101, true, true);
+        assertTrue(Move.isHumanRow(humanCover));
+        assertTrue(Move.isHumanMover(humanCover));
+
+        int humanUncover = Move.byPlayer(0b101, false, true);
+        assertFalse(Move.isHumanRow(humanUncover));
+        assertTrue(Move.isHumanMover(humanUncover));
+
+        int computerCover = Move.byPlayer(0b101, true, false);
+        assertFalse(Move.isHumanRow(computerCover));
+        assertFalse(Move.isHumanMover(computerCover));
+
+        int computerUncover = Move.byPlayer(0b101, false, false);
+        assertTrue(Move.isHumanRow(computerUncover));
+        assertFalse(Move.isHumanMover(computerUncover));
+    }
+
+    @Test
+    public void fromSquares_ignoresSquaresOutOfRange() {
+        int move = Move.fromSquares(Arrays.asList(0, 1, 4, 17), true, false);
+        assertEquals(0b1001, Move.squares(move));
+        assertEquals("{ 1, 4 }", Move.toString(move));
+        assertEquals("{  }", Move.toString(Move.NONE));
+    }
+}
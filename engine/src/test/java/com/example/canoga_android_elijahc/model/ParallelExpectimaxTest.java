@@ -0,0 +1,46 @@
+package com.example.canoga_android_elijahc.model;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that spreading the analysis over several threads gives the same
+ * values as searching on one.
+ */
+public class ParallelExpectimaxTest {
+
+    @Test
+    public void manyThreads_matchOneThread() {
+        ParallelExpectimax single = new ParallelExpectimax(2, 1);
+        ParallelExpectimax parallel = new ParallelExpectimax(2, 4);
+        Random random = new Random(366);
+        try {
+            for (int i = 0; i < 12; i++) {
+                int size = 9 + i % 3;
+                Board board = new Board(size);
+                for (int sq = 1; sq <= size; sq++) {
+                    if (random.nextInt(3) > 0)
+                        board.coverSquare(true, sq);
+                    if (random.nextInt(3) > 0)
+                        board.coverSquare(false, sq);
+                }
+                board.incrementTurn();
+                board.incrementTurn();
+                boolean isHuman = random.nextBoolean();
+
+                ParallelExpectimax.Analysis expected = single.analyze(board, isHuman);
+                ParallelExpectimax.Analysis actual = parallel.analyze(board, isHuman);
+                String where = "position " + i;
+                assertEquals(where, expected.getOneDieValue(), actual.getOneDieValue(), 1e-12);
+                assertEquals(where, expected.getTwoDiceValue(), actual.getTwoDiceValue(), 1e-12);
+                assertEquals(where, expected.getBestNumDice(), actual.getBestNumDice());
+            }
+        } finally {
+            single.shutdown();
+            parallel.shutdown();
+        }
+    }
+}
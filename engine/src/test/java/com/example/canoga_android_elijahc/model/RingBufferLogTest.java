@@ -0,0 +1,114 @@
+package com.example.canoga_android_elijahc.model;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the log ring keeps messages in order across wraparound,
+ * drops and counts what does not fit, and loses nothing when several
+ * threads log at once.
+ */
+public class RingBufferLogTest {
+
+    @Test
+    public void messages_comeOutInOrderAcrossWraparound() {
+        RingBufferLog log = new RingBufferLog(4);
+        ArrayList<String> out = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            assertTrue(log.offer("m" + i));
+            assertTrue(log.offer("n" + i));
+            assertEquals(2, log.size());
+            out.clear();
+            assertEquals(2, log.drainTo(out, 8));
+            assertEquals("m" + i, out.get(0));
+            assertEquals("n" + i, out.get(1));
+            assertTrue(log.isEmpty());
+        }
+        assertEquals(0, log.getDroppedCount());
+    }
+
+    @Test
+    public void fullBuffer_dropsAndCountsUntilDrained() {
+        RingBufferLog log = new RingBufferLog(3);
+        assertEquals(4, log.capacity());
+        for (int i = 0; i < 7; i++)
+            assertEquals(i < 4, log.offer("m" + i));
+        assertEquals(3, log.getDroppedCount());
+
+        ArrayList<String> out = new ArrayList<>();
+        assertEquals(1, log.drainTo(out, 1));
+        assertTrue(log.offer("m7"));
+        assertFalse(log.offer("m8"));
+        assertEquals(4, log.getDroppedCount());
+
+        assertEquals(4, log.drainTo(out, 8));
+        assertEquals("[m0, m1, m2, m3, m7]", out.toString());
+    }
+
+    @Test
+    public void drainToLog_forwardsEverythingQueued() {
+        RingBufferLog log = new RingBufferLog(8);
+        log.logMessage("a");
+        log.logMessage(null);
+        ArrayList<String> out = new ArrayList<>();
+        assertEquals(2, log.drainTo(out::add));
+        assertEquals("[a, null]", out.toString());
+        assertTrue(log.isEmpty());
+    }
+
+    @Test
+    public void concurrentProducers_loseNothingThatWasAccepted() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 20000;
+        RingBufferLog log = new RingBufferLog(256);
+        Thread[] threads = new Thread[producers];
+        long[] accepted = new long[producers];
+        for (int p = 0; p < producers; p++) {
+            int id = p;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++)
+                    if (log.offer(id + ":" + i))
+                        accepted[id]++;
+            });
+            threads[p].start();
+        }
+
+        Set<String> seen = new HashSet<>();
+        int[] lastSeen = new int[producers];
+        Arrays.fill(lastSeen, -1);
+        ArrayList<String> batch = new ArrayList<>();
+        boolean running = true;
+        while (running) {
+            running = false;
+            for (Thread thread : threads)
+                running |= thread.isAlive();
+            batch.clear();
+            log.drainTo(batch, 64);
+            for (String message : batch) {
+                assertTrue(message, seen.add(message));
+                int id = Integer.parseInt(message.substring(0, message.indexOf(':')));
+                int i = Integer.parseInt(message.substring(message.indexOf(':') + 1));
+                assertTrue(message, i > lastSeen[id]);
+                lastSeen[id] = i;
+            }
+        }
+        for (Thread thread : threads)
+            thread.join();
+        batch.clear();
+        log.drainTo(batch, Integer.MAX_VALUE);
+        seen.addAll(batch);
+
+        long total = 0;
+        for (long n : accepted)
+            total += n;
+        assertEquals(total, seen.size());
+        assertEquals((long) producers * perProducer, total + log.getDroppedCount());
+        assertTrue(log.isEmpty());
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.canoga_android_elijahc.model;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the binary save format round-trips losslessly with the
+ * text one, and that a binary save restores the handicap on both the
+ * board and the players.
+ */
+public class SaveDataTest {
+
+    @Test
+    public void shippedTextSaves_roundTripThroughBinary() throws IOException {
+        for (int i = 1; i <= 5; i++) {
+            File text = asset("ser" + i + ".txt");
+            CanogaModel fromText = new CanogaModel(9, Log.OFF);
+            assertTrue(text.getName(), fromText.loadGame(text.getPath()));
+
+            File binary = File.createTempFile("save", SaveData.BINARY_EXTENSION);
+            File textAgain = File.createTempFile("save", ".txt");
+            try {
+                fromText.saveGame(binary.getPath());
+                CanogaModel fromBinary = new CanogaModel(9, Log.OFF);
+                assertTrue(text.getName(), fromBinary.loadGame(binary.getPath()));
+                assertSameState(text.getName(), fromText, fromBinary);
+
+                fromBinary.saveGame(textAgain.getPath());
+                CanogaModel fromTextAgain = new CanogaModel(9, Log.OFF);
+                assertTrue(text.getName(), fromTextAgain.loadGame(textAgain.getPath()));
+                assertSameState(text.getName(), fromText, fromTextAgain);
+            } finally {
+                binary.delete();
+                textAgain.delete();
+            }
+        }
+    }
+
+    @Test
+    public void handicapPosition_roundTripsThroughBinary() throws IOException {
+        for (boolean humanFirst : new boolean[]{true, false}) {
+            CanogaModel played = new CanogaModel(10, Log.OFF);
+            played.getHuman().setIsFirst(humanFirst);
+            played.getHuman().setIsNext(!humanFirst);
+            played.determineHandicap(34);
+            assertNotEquals(0, played.getSaveData().getHandicapSquare());
+
+            File binary = File.createTempFile("save", SaveData.BINARY_EXTENSION);
+            try {
+                played.saveGame(binary.getPath());
+                CanogaModel loaded = new CanogaModel(9, Log.OFF);
+                assertTrue(loaded.loadGame(binary.getPath()));
+                assertSameState("human first " + humanFirst, played, loaded);
+                assertEquals(played.getHuman().getHandicapSquare(), loaded.getHuman().getHandicapSquare());
+                assertEquals(played.getComputer().getHandicapSquare(), loaded.getComputer().getHandicapSquare());
+            } finally {
+                binary.delete();
+            }
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void corruptBinarySave_isRejected() throws IOException {
+        byte[] bytes = new CanogaModel(9, Log.OFF).getSaveData().toBytes();
+        bytes[10] ^= 1;
+        SaveData.fromBytes(bytes, bytes.length);
+    }
+
+    @Test
+    public void loadWithTurn_keepsTheOpeningTurn() {
+        CanogaModel played = new CanogaModel(9, Log.OFF);
+        played.startGame(1);
+        SaveData data = played.getSaveData();
+
+        CanogaModel resumed = new CanogaModel(9, Log.OFF);
+        assertTrue(resumed.loadSaveData(data, 0));
+        assertEquals(0, resumed.getBoard().getTurn());
+
+        CanogaModel loaded = new CanogaModel(9, Log.OFF);
+        assertTrue(loaded.loadSaveData(data));
+        assertEquals(Rules.OPEN_TURN, loaded.getBoard().getTurn());
+    }
+
+    private static void assertSameState(String where, CanogaModel expected, CanogaModel actual) {
+        assertArrayEquals(where, expected.getSaveData().toBytes(), actual.getSaveData().toBytes());
+    }
+
+    /** Finds a save shipped in the app's assets, from the engine or the root directory. */
+    static File asset(String name) {
+        File file = new File("../app/src/main/assets", name);
+        return file.isFile() ? file : new File("app/src/main/assets", name);
+    }
+}
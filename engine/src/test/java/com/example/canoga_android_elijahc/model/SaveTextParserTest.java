@@ -0,0 +1,120 @@
+package com.example.canoga_android_elijahc.model;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pins down what the ByteBuffer text-save parser accepts: the shipped
+ * saves, the line and token separators the old StringTokenizer loader
+ * accepted, and the errors it reports for malformed saves.
+ */
+public class SaveTextParserTest {
+
+    @Test
+    public void shippedSaves_parseToKnownStates() throws IOException {
+        assertState(parseAsset("ser1.txt"), 9, 0b1011010, 0b111011, 34, 36, false, true);
+        assertState(parseAsset("ser2.txt"), 9, 0b111000100, 0b100100100, 59, 30, false, true);
+        assertState(parseAsset("ser3.txt"), 9, 0b10111, 0b100101100, 14, 36, true, false);
+        assertState(parseAsset("ser4.txt"), 10, 0b1011011100, 0b111111101, 34, 36, true, false);
+        assertState(parseAsset("ser5.txt"), 11, 0b1111011010, 0b1111101111, 34, 36, false, true);
+    }
+
+    @Test
+    public void crLfAndTabs_parseLikeLf() {
+        String lf = save("0 2 0 4 5 0 7 0 0", "34", "1 2 0 4 5 6 0 0 0", "36", "Computer", "Human");
+        SaveData expected = parse(lf, new ArrayList<>());
+        SaveData crlf = parse(lf.replace("\n", "\r\n").replace(' ', '\t'), new ArrayList<>());
+        SaveData cr = parse(lf.replace("\n", "\r"), new ArrayList<>());
+        assertArrayEquals(expected.toBytes(), crlf.toBytes());
+        assertArrayEquals(expected.toBytes(), cr.toBytes());
+    }
+
+    @Test
+    public void parse_leavesBufferPositionAlone() {
+        ByteBuffer in = ByteBuffer.wrap(save("1 2 3 4 5 6 7 8 9", "0", "1 2 3 4 5 6 7 8 9", "0", "Human", "Human")
+                .getBytes(StandardCharsets.US_ASCII));
+        assertNotNull(SaveTextParser.parse(in, Log.OFF));
+        assertEquals(0, in.position());
+    }
+
+    @Test
+    public void nonNumericScore_isReportedAsScoreError() {
+        List<String> errors = new ArrayList<>();
+        assertNull(parse(save("1 2 3 4 5 6 7 8 9", "lots", "1 2 3 4 5 6 7 8 9", "0", "Human", "Human"), errors));
+        assertEquals("\nError: Invalid computer score format.", errors.get(0));
+
+        errors.clear();
+        assertNull(parse(save("1 2 3 4 5 6 7 8 9", "0", "1 2 3 4 5 6 7 8 9", "9x", "Human", "Human"), errors));
+        assertEquals("\nError: Invalid human score format.", errors.get(0));
+    }
+
+    @Test
+    public void nonNumericSquare_isReportedAsBoardError() {
+        List<String> errors = new ArrayList<>();
+        assertNull(parse(save("1 2 three 4 5 6 7 8 9", "0", "1 2 3 4 5 6 7 8 9", "0", "Human", "Human"), errors));
+        assertEquals("\nError: Invalid board data entry for Computer Player.", errors.get(0));
+    }
+
+    @Test
+    public void missingTurnValue_isReportedAsFormatError() {
+        List<String> errors = new ArrayList<>();
+        assertNull(parse(save("1 2 3 4 5 6 7 8 9", "0", "1 2 3 4 5 6 7 8 9", "0", "Human", ""), errors));
+        assertEquals("\nError: Incorrect format for Next Turn.", errors.get(0));
+
+        errors.clear();
+        assertNull(parse(save("1 2 3 4 5 6 7 8 9", "0", "1 2 3 4 5 6 7 8 9", "0", "", "Human"), errors));
+        assertEquals("\nError: Incorrect format for First Turn.", errors.get(0));
+    }
+
+    @Test
+    public void badRowsAndTurnValues_areReported() {
+        List<String> errors = new ArrayList<>();
+        assertNull(parse(save("1 2 3 4 5 6 7 8 9", "0", "1 2 3 4 5 6 7 8", "0", "Human", "Human"), errors));
+        assertEquals("\nError: Invalid board data entry for Human Player.", errors.get(0));
+
+        errors.clear();
+        assertNull(parse(save("1 2 4 4 5 6 7 8 9", "0", "1 2 3 4 5 6 7 8 9", "0", "Human", "Human"), errors));
+        assertEquals("\nError: Invalid board data entry for Computer Player.", errors.get(0));
+
+        errors.clear();
+        assertNull(parse(save("1 2 3 4 5 6 7 8 9", "0", "1 2 3 4 5 6 7 8 9", "0", "Human", "Nobody"), errors));
+        assertEquals("\nError: Invalid value for Next Turn.", errors.get(0));
+    }
+
+    /** @return a text save with the given fields, as saveGame writes it */
+    private static String save(String computerSquares, String computerScore,
+                               String humanSquares, String humanScore,
+                               String first, String next) {
+        return "Computer:\n   Squares: " + computerSquares + "\n   Score: " + computerScore + "\n\n"
+                + "Human:\n   Squares: " + humanSquares + "\n   Score: " + humanScore + "\n\n"
+                + "First Turn: " + first + "\nNext Turn: " + next + "\n";
+    }
+
+    private static SaveData parse(String text, List<String> errors) {
+        return SaveTextParser.parse(ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII)), errors::add);
+    }
+
+    private static SaveData parseAsset(String name) throws IOException {
+        return SaveTextParser.parse(ByteBuffer.wrap(Files.readAllBytes(SaveDataTest.asset(name).toPath())), Log.OFF);
+    }
+
+    private static void assertState(SaveData save, int size, int computerMask, int humanMask,
+                                    int computerScore, int humanScore, boolean humanFirst, boolean humanNext) {
+        assertNotNull(save);
+        assertEquals(size, save.getBoardSize());
+        assertEquals(computerMask, save.getComputerMask());
+        assertEquals(humanMask, save.getHumanMask());
+        assertEquals(computerScore, save.getComputerScore());
+        assertEquals(humanScore, save.getHumanScore());
+        assertEquals(humanFirst, save.getHumanFirst());
+        assertEquals(humanNext, save.getHumanNext());
+    }
+}
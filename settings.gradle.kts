@@ -21,4 +21,5 @@ dependencyResolutionManagement {
 
 rootProject.name = "Canoga_Android_ElijahC"
 include(":app")
+include(":engine")
  
\ No newline at end of file